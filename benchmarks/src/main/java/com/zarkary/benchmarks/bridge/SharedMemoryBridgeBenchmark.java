@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.benchmarks.bridge;
+
+import com.zarkary.benchmarks.eventaggregator.BenchmarkEvent;
+import com.zarkary.designpatterns.eventaggregator.api.EventAggregator;
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.api.Message;
+import com.zarkary.designpatterns.eventaggregator.bridge.SharedMemoryBridge;
+import com.zarkary.designpatterns.eventaggregator.journal.IMessageSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One-way latency of a message through a {@link SharedMemoryBridge}, from the
+ * publishing on the exporting {@link EventAggregator} until a subscriber of the
+ * importing one receives it. Both sides run in the same JVM, but they communicate
+ * only through the memory-mapped ring, exactly as two JVMs of the same host.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharedMemoryBridgeBenchmark {
+
+    private Path ring;
+    private EventAggregator exporting;
+    private SharedMemoryBridge exporter;
+    private SharedMemoryBridge importer;
+    private final AtomicLong received = new AtomicLong();
+    private long sent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ring = Files.createTempFile("bridge-benchmark", ".ring");
+        Files.delete(ring);
+        exporting = new EventAggregator();
+        final EventAggregator importing = new EventAggregator();
+        importing.subscribe(BenchmarkEvent.FIRST, message -> received.lazySet((Long) message.getContent()));
+        exporter = new SharedMemoryBridge(exporting, new LongSerializer());
+        exporter.export(ring, 1 << 24, BenchmarkEvent.FIRST);
+        importer = new SharedMemoryBridge(importing, new LongSerializer());
+        importer.importFrom(ring);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        importer.close();
+        exporter.close();
+        Files.delete(ring);
+    }
+
+    @Benchmark
+    public long publishAndReceive() {
+        final long sequence = ++sent;
+        exporting.publish(BenchmarkEvent.FIRST, sequence);
+        while(received.get() != sequence) {
+            Thread.yield();
+        }
+        return sequence;
+    }
+
+    /**
+     * Writes the ordinal of the {@link BenchmarkEvent} and a long content.
+     */
+    private static final class LongSerializer implements IMessageSerializer {
+
+        @Override
+        public void serialize(final IEventType eventType, final Object content, final ByteBuffer buffer) {
+            buffer.putInt(((BenchmarkEvent) eventType).ordinal()).putLong((Long) content);
+        }
+
+        @Override
+        public IMessage<?> deserialize(final ByteBuffer buffer) {
+            return new Message<>(BenchmarkEvent.values()[buffer.getInt()], buffer.getLong());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.benchmarks.codec;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.codec.CodecRegistry;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.Location;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.MsgMovement;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.MsgMovementCodec;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.framework.Consultant;
+import com.zarkary.designpatterns.eventaggregator.example.items.Event;
+import com.zarkary.designpatterns.eventaggregator.example.items.Item;
+import com.zarkary.designpatterns.eventaggregator.example.items.ItemCodec;
+import com.zarkary.designpatterns.eventaggregator.journal.IMessageSerializer;
+import com.zarkary.designpatterns.eventaggregator.journal.JavaSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of a message through an {@link IMessageSerializer}: it is serialized to a
+ * direct buffer and read back, as the journal and the bridges do. The
+ * {@link CodecRegistry} with the codecs of the examples is compared to the
+ * {@link JavaSerializer}, for an {@code Item} and a {@code MsgMovement}, which the
+ * Java serialization gets as serializable objects with the same fields.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"codec", "java"})
+    public String serializer;
+
+    private IMessageSerializer messageSerializer;
+    private ByteBuffer buffer;
+    private Object item;
+    private Object movement;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        buffer = ByteBuffer.allocateDirect(4096);
+        if("codec".equals(serializer)) {
+            final Consultant consultant = new Consultant("Mike");
+            messageSerializer = new CodecRegistry()
+                    .register(Event.ITEM_SAVED, 0, new ItemCodec())
+                    .register(MovementEvent.MOVED, 1, new MsgMovementCodec(Collections.singletonList(consultant)));
+            item = new Item(42);
+            movement = new MsgMovement(consultant, Location.PUB);
+        } else {
+            messageSerializer = new JavaSerializer();
+            item = new ItemData(42);
+            movement = new MovementData(Location.PUB, false, 0);
+        }
+    }
+
+    @Benchmark
+    public IMessage<?> item() {
+        return roundTrip(Event.ITEM_SAVED, item);
+    }
+
+    @Benchmark
+    public IMessage<?> movement() {
+        return roundTrip(MovementEvent.MOVED, movement);
+    }
+
+    private IMessage<?> roundTrip(final IEventType eventType, final Object content) {
+        buffer.clear();
+        messageSerializer.serialize(eventType, content, buffer);
+        buffer.flip();
+        return messageSerializer.deserialize(buffer);
+    }
+
+    /**
+     * The fields of an {@link Item}, which is not {@link Serializable}, for the {@link JavaSerializer}.
+     */
+    private static final class ItemData implements Serializable {
+
+        private final int itemNumber;
+
+        private ItemData(final int itemNumber) {
+            this.itemNumber = itemNumber;
+        }
+    }
+
+    /**
+     * The fields of a {@link MsgMovement}, which is not {@link Serializable}, for the
+     * {@link JavaSerializer}, with the consultant as an id like in the codec.
+     */
+    private static final class MovementData implements Serializable {
+
+        private final Location place;
+        private final boolean availableAtHome;
+        private final int consultant;
+
+        private MovementData(final Location place, final boolean availableAtHome, final int consultant) {
+            this.place = place;
+            this.availableAtHome = availableAtHome;
+            this.consultant = consultant;
+        }
+    }
+
+    private enum MovementEvent implements IEventType {
+        MOVED
+    }
+}
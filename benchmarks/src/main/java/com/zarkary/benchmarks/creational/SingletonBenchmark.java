@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.benchmarks.creational;
+
+import com.zarkary.designpatterns.creational.api.Create;
+import com.zarkary.designpatterns.creational.api.Singleton;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state cost of {@link Singleton#getInstance()}, after the instance has
+ * been created, compared to the initialization-on-demand holder idiom.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingletonBenchmark {
+
+    private Singleton<Payload> singleton;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        singleton = Create.lazily(Payload::new);
+        singleton.getInstance();
+    }
+
+    @Benchmark
+    public Payload lazily() {
+        return singleton.getInstance();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Payload lazily_4Threads() {
+        return singleton.getInstance();
+    }
+
+    @Benchmark
+    public Payload holderIdiom() {
+        return Holder.INSTANCE;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Payload holderIdiom_4Threads() {
+        return Holder.INSTANCE;
+    }
+
+    public static class Payload {
+    }
+
+    private static class Holder {
+        private static final Payload INSTANCE = new Payload();
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.benchmarks.eventaggregator;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+
+/**
+ * The {@link IEventType}(s) which are published from the benchmarks.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public enum BenchmarkEvent implements IEventType {
+    FIRST, SECOND
+}
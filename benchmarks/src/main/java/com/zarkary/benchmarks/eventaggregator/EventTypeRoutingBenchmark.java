@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.benchmarks.eventaggregator;
+
+import com.zarkary.designpatterns.eventaggregator.api.EventAggregator;
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routing cost of an enum {@link IEventType}, which goes through the ordinal
+ * indexed dispatch tables, against a plain class {@link IEventType}, which goes
+ * through the generic hash map of the {@link EventAggregator}.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventTypeRoutingBenchmark {
+
+    @Param({"2", "64"})
+    public int eventTypes;
+
+    private EventAggregator eventAggregator;
+    private BenchmarkEvent enumEventType;
+    private IEventType classEventType;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        eventAggregator = new EventAggregator();
+        for(final BenchmarkEvent eventType : BenchmarkEvent.values()) {
+            eventAggregator.subscribe(eventType, message -> blackhole.consume(message.getContent()));
+        }
+        for(int i = 0; i < eventTypes; i++) {
+            classEventType = new ClassEventType(i);
+            eventAggregator.subscribe(classEventType, message -> blackhole.consume(message.getContent()));
+        }
+        enumEventType = BenchmarkEvent.SECOND;
+    }
+
+    @Benchmark
+    public void enumEventType() {
+        eventAggregator.publish(enumEventType, 42);
+    }
+
+    @Benchmark
+    public void classEventType() {
+        eventAggregator.publish(classEventType, 42);
+    }
+
+    /**
+     * An {@link IEventType} with value semantics, as a non enum event type
+     * would usually be implemented.
+     */
+    private static final class ClassEventType implements IEventType {
+
+        private final int id;
+
+        private ClassEventType(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ClassEventType && ((ClassEventType) other).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+}
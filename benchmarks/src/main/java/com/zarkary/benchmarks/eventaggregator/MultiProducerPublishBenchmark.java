@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.benchmarks.eventaggregator;
+
+import com.zarkary.designpatterns.eventaggregator.api.EventAggregator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the synchronous publishing of the {@link EventAggregator}, when
+ * many producer threads publish concurrently to the same subscribers.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiProducerPublishBenchmark {
+
+    @Param({"1", "100"})
+    public int fanOut;
+
+    private EventAggregator eventAggregator;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        eventAggregator = new EventAggregator();
+        for(int i = 0; i < fanOut; i++) {
+            eventAggregator.subscribe(BenchmarkEvent.FIRST, message -> blackhole.consume(message.getContent()));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void publish_1Thread() {
+        eventAggregator.publish(BenchmarkEvent.FIRST, 42);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void publish_2Threads() {
+        eventAggregator.publish(BenchmarkEvent.FIRST, 42);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void publish_4Threads() {
+        eventAggregator.publish(BenchmarkEvent.FIRST, 42);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void publish_8Threads() {
+        eventAggregator.publish(BenchmarkEvent.FIRST, 42);
+    }
+}
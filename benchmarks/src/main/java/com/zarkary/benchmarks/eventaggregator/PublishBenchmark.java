@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.benchmarks.eventaggregator;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency of the synchronous publishing of the {@link EventAggregator},
+ * for fan-out widths from 1 up to 10k subscribers.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublishBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int fanOut;
+
+    private EventAggregator eventAggregator;
+    private IPublisher publisher;
+    private IMessage<Integer> message;
+    private Integer content;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        eventAggregator = new EventAggregator();
+        for(int i = 0; i < fanOut; i++) {
+            final ISubscriber subscriber = new Subscriber(eventAggregator);
+            subscriber.subscribe(BenchmarkEvent.FIRST, msg -> blackhole.consume(msg.getContent()));
+        }
+        publisher = new Publisher(eventAggregator);
+        content = 42;
+        message = new Message<>(BenchmarkEvent.FIRST, content);
+    }
+
+    @Benchmark
+    public void publishMessage() {
+        publisher.publish(message);
+    }
+
+    @Benchmark
+    public void publishContent() {
+        publisher.publish(BenchmarkEvent.FIRST, content);
+    }
+
+    @Benchmark
+    public void publishTransientContent() {
+        eventAggregator.publishTransient(BenchmarkEvent.FIRST, content);
+    }
+
+    @Benchmark
+    public void publishWithoutSubscribers() {
+        publisher.publish(BenchmarkEvent.SECOND, content);
+    }
+}
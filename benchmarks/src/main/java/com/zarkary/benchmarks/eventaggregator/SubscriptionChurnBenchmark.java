@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.benchmarks.eventaggregator;
+
+import com.zarkary.designpatterns.eventaggregator.api.EventAggregator;
+import com.zarkary.designpatterns.eventaggregator.api.IAction;
+import com.zarkary.designpatterns.eventaggregator.api.ISubscription;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of subscribing and unsubscribing, while other threads keep churning the
+ * subscriptions of the same {@link com.zarkary.designpatterns.eventaggregator.api.IEventType}
+ * and a publisher fans out to them.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubscriptionChurnBenchmark {
+
+    @Param({"10", "1000"})
+    public int stableSubscriptions;
+
+    private EventAggregator eventAggregator;
+    private IAction<Integer> action;
+
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        eventAggregator = new EventAggregator();
+        action = message -> blackhole.consume(message.getContent());
+        for(int i = 0; i < stableSubscriptions; i++) {
+            eventAggregator.subscribe(BenchmarkEvent.FIRST, action);
+        }
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(3)
+    public void subscribeUnsubscribe() {
+        final ISubscription subscription = eventAggregator.subscribe(BenchmarkEvent.FIRST, action);
+        eventAggregator.unsubscribe(subscription);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void publish() {
+        eventAggregator.publish(BenchmarkEvent.FIRST, 42);
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.benchmarks.journal;
+
+import com.zarkary.benchmarks.eventaggregator.BenchmarkEvent;
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.api.Message;
+import com.zarkary.designpatterns.eventaggregator.journal.FsyncPolicy;
+import com.zarkary.designpatterns.eventaggregator.journal.IMessageSerializer;
+import com.zarkary.designpatterns.eventaggregator.journal.Journal;
+import com.zarkary.designpatterns.eventaggregator.journal.RetentionPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append throughput of the {@link Journal}, with the different {@link FsyncPolicy}(s).
+ * The messages are serialized to a few bytes, so the benchmark measures the journal
+ * itself and not the serialization.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalAppendBenchmark {
+
+    @Param({"never", "every-1000", "every-10ms"})
+    public String fsync;
+
+    private Path directory;
+    private Journal journal;
+    private Integer content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        journal = new Journal(directory, Journal.DEFAULT_SEGMENT_SIZE, new IntegerSerializer(), fsyncPolicy(),
+                RetentionPolicy.maxBytes(4L * Journal.DEFAULT_SEGMENT_SIZE));
+        content = 42;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try(Stream<Path> files = Files.list(directory)) {
+            for(final Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public long append() {
+        return journal.append(BenchmarkEvent.FIRST, content);
+    }
+
+    private FsyncPolicy fsyncPolicy() {
+        switch(fsync) {
+            case "every-1000":
+                return FsyncPolicy.everyMessages(1000);
+            case "every-10ms":
+                return FsyncPolicy.periodically(10, TimeUnit.MILLISECONDS);
+            default:
+                return FsyncPolicy.never();
+        }
+    }
+
+    /**
+     * Writes the ordinal of the {@link BenchmarkEvent} and an integer content.
+     */
+    private static final class IntegerSerializer implements IMessageSerializer {
+
+        @Override
+        public void serialize(final IEventType eventType, final Object content, final ByteBuffer buffer) {
+            buffer.putInt(((BenchmarkEvent) eventType).ordinal()).putInt((Integer) content);
+        }
+
+        @Override
+        public IMessage<?> deserialize(final ByteBuffer buffer) {
+            return new Message<>(BenchmarkEvent.values()[buffer.getInt()], buffer.getInt());
+        }
+    }
+}
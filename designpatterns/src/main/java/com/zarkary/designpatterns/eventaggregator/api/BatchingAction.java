@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link IAction} which buffers the received messages and passes them in batches
+ * to an {@link IBatchAction}, e.g. for a subscriber which writes to a storage and
+ * is much cheaper per message when it writes many of them at once.
+ *
+ * <p>A batch is flushed when it reaches the maximum size, or when its first message
+ * has waited for the maximum delay, whichever comes first. The deadlines of all the
+ * batching actions are kept by a single shared timer thread (see
+ * {@link DispatchExecutors#sharedScheduler()}), while the batches are processed on the
+ * given {@link Executor}, one at a time and in the order in which they were
+ * flushed.</p>
+ *
+ * <pre>{@code
+ * subscriber.subscribe(Event.ITEM_SAVED,
+ *         new BatchingAction<>(messages -> repository.saveAll(messages), executor, 500, 100, TimeUnit.MILLISECONDS));
+ * }</pre>
+ *
+ * @param <T> the type of {@link IMessage}'s content
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class BatchingAction<T> implements IAction<T> {
+
+    private final IBatchAction<T> action;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+
+    /**
+     * The pending batch, its generation and its deadline, guarded by the batch itself.
+     */
+    private List<IMessage<T>> pending = new ArrayList<>();
+    private long generation;
+    private ScheduledFuture<?> deadline;
+
+    private final Queue<List<IMessage<T>>> flushed = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Constructor, the batches are processed on the {@link ForkJoinPool#commonPool()}
+     *
+     * @param action the {@link IBatchAction} which processes the batches
+     * @param maxBatchSize the maximum number of messages per batch
+     * @param maxDelay how long the first message of a batch waits for the rest of them
+     * @param unit the {@link TimeUnit} of the maximum delay
+     */
+    public BatchingAction(final IBatchAction<T> action, final int maxBatchSize, final long maxDelay,
+                          final TimeUnit unit) {
+        this(action, ForkJoinPool.commonPool(), maxBatchSize, maxDelay, unit);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param action the {@link IBatchAction} which processes the batches
+     * @param executor the {@link Executor} which runs the action
+     * @param maxBatchSize the maximum number of messages per batch
+     * @param maxDelay how long the first message of a batch waits for the rest of them
+     * @param unit the {@link TimeUnit} of the maximum delay
+     */
+    public BatchingAction(final IBatchAction<T> action, final Executor executor, final int maxBatchSize,
+                          final long maxDelay, final TimeUnit unit) {
+        this(action, executor, DispatchExecutors.sharedScheduler(), maxBatchSize, maxDelay, unit);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param action the {@link IBatchAction} which processes the batches
+     * @param executor the {@link Executor} which runs the action
+     * @param scheduler the {@link ScheduledExecutorService} which keeps the deadlines of
+     *                  the batches, it only hands the expired batches over to the executor
+     * @param maxBatchSize the maximum number of messages per batch
+     * @param maxDelay how long the first message of a batch waits for the rest of them
+     * @param unit the {@link TimeUnit} of the maximum delay
+     */
+    public BatchingAction(final IBatchAction<T> action, final Executor executor,
+                          final ScheduledExecutorService scheduler, final int maxBatchSize,
+                          final long maxDelay, final TimeUnit unit) {
+        if(maxBatchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive.");
+        }
+        if(maxDelay < 1) {
+            throw new IllegalArgumentException("The delay must be positive.");
+        }
+        this.action = requireNonNull(action);
+        this.executor = requireNonNull(executor);
+        this.scheduler = requireNonNull(scheduler);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = requireNonNull(unit).toNanos(maxDelay);
+    }
+
+    /**
+     * Adds a copy of the message to the pending batch, and flushes the batch if it
+     * is full.
+     *
+     * @param message the received {@link IMessage}
+     */
+    @Override
+    public void doAction(final IMessage<T> message) {
+        final IMessage<T> copy = Message.copyOf(message);
+        final List<IMessage<T>> batch;
+        synchronized(this) {
+            pending.add(copy);
+            if(pending.size() < maxBatchSize) {
+                if(pending.size() == 1) {
+                    final long batchGeneration = generation;
+                    deadline = scheduler.schedule(() -> expire(batchGeneration), maxDelayNanos,
+                            TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+            batch = takePending();
+        }
+        submit(batch);
+    }
+
+    /**
+     * Flushes the pending batch now, without waiting for its size or its deadline,
+     * e.g. before the subscriber is disposed.
+     */
+    public void flush() {
+        final List<IMessage<T>> batch;
+        synchronized(this) {
+            if(pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        submit(batch);
+    }
+
+    /**
+     * @return the maximum number of messages per batch
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @param unit the {@link TimeUnit} of the result
+     * @return how long the first message of a batch waits for the rest of them
+     */
+    public long getMaxDelay(final TimeUnit unit) {
+        return unit.convert(maxDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of messages which wait in the pending batch
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    private void expire(final long batchGeneration) {
+        final List<IMessage<T>> batch;
+        synchronized(this) {
+            if(batchGeneration != generation) {
+                return;
+            }
+            batch = takePending();
+        }
+        submit(batch);
+    }
+
+    private List<IMessage<T>> takePending() {
+        final List<IMessage<T>> batch = pending;
+        pending = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        generation++;
+        if(deadline != null) {
+            deadline.cancel(false);
+            deadline = null;
+        }
+        return batch;
+    }
+
+    private void submit(final List<IMessage<T>> batch) {
+        flushed.add(batch);
+        schedule();
+    }
+
+    private void schedule() {
+        if(scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch(RuntimeException rejected) {
+                scheduled.set(false);
+                throw rejected;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            List<IMessage<T>> batch;
+            while((batch = flushed.poll()) != null) {
+                action.doBatch(Collections.unmodifiableList(batch));
+            }
+        } finally {
+            scheduled.set(false);
+            if(!flushed.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * A message which an {@link IAction} failed to process, together with its
+ * subscription and the failure.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class DeadLetter {
+
+    private final ISubscription subscription;
+    private final IMessage<?> message;
+    private final Throwable error;
+    private final long timestamp;
+
+    /**
+     * Constructor
+     *
+     * @param subscription the subscription whose {@link IAction} failed
+     * @param message the message which the {@link IAction} failed to process
+     * @param error the failure
+     * @param timestamp the {@link System#currentTimeMillis()} of the failure
+     */
+    public DeadLetter(final ISubscription subscription, final IMessage<?> message,
+                      final Throwable error, final long timestamp) {
+        this.subscription = subscription;
+        this.message = message;
+        this.error = error;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * @return the subscription whose {@link IAction} failed
+     */
+    public ISubscription getSubscription() {
+        return subscription;
+    }
+
+    /**
+     * @return the message which the {@link IAction} failed to process
+     */
+    public IMessage<?> getMessage() {
+        return message;
+    }
+
+    /**
+     * @return the failure
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * @return the {@link System#currentTimeMillis()} of the failure
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link IErrorHandler} which captures the failed messages as {@link DeadLetter}(s),
+ * so they can be inspected or processed again later. The queue is bounded, when it
+ * is full the new dead letters are dropped and counted.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class DeadLetterQueue implements IErrorHandler {
+
+    private final BlockingQueue<DeadLetter> deadLetters;
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * Constructor
+     *
+     * @param capacity the maximum number of kept dead letters
+     */
+    public DeadLetterQueue(final int capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        this.deadLetters = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Captures the failed message, the message is copied since it may be reused.
+     *
+     * @param subscription the subscription whose {@link IAction} failed
+     * @param message the message which the {@link IAction} failed to process
+     * @param error the failure
+     */
+    @Override
+    public void onError(final ISubscription subscription, final IMessage<?> message, final Throwable error) {
+        final DeadLetter deadLetter =
+                new DeadLetter(subscription, Message.copyOf(message), error, System.currentTimeMillis());
+        if(!deadLetters.offer(deadLetter)) {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * Removes and returns all the captured dead letters.
+     *
+     * @return the dead letters in the order in which they were captured
+     */
+    public List<DeadLetter> drain() {
+        final List<DeadLetter> drained = new ArrayList<>(deadLetters.size());
+        deadLetters.drainTo(drained);
+        return drained;
+    }
+
+    /**
+     * @return the number of the captured dead letters
+     */
+    public int size() {
+        return deadLetters.size();
+    }
+
+    /**
+     * @return the number of the dead letters which were dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class with the {@link Executor}(s) which are commonly used for the
+ * asynchronous dispatching of the {@link EventAggregator}.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class DispatchExecutors {
+
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    private DispatchExecutors() {
+    }
+
+    /**
+     * @return an {@link Executor} which runs every task on the calling thread
+     */
+    public static Executor sameThread() {
+        return SAME_THREAD;
+    }
+
+    /**
+     * <p>Creates an {@link ExecutorService} which starts a new virtual thread for
+     * each task, so a blocking {@link IAction} costs almost nothing while it waits.</p>
+     *
+     * <p>Virtual threads exist since Java 21. When the running JVM does not provide
+     * them, this method falls back to a cached pool of daemon platform threads, which
+     * also never queues a task behind a slow one.</p>
+     *
+     * @param name the prefix of the names of the created threads
+     * @return the new {@link ExecutorService}, which the caller has to shut down
+     */
+    public static ExecutorService virtualThreadPerTask(final String name) {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch(ReflectiveOperationException notAvailable) {
+            return Executors.newCachedThreadPool(daemonThreads(name));
+        }
+    }
+
+    /**
+     * Returns the {@link ScheduledExecutorService} which is shared by all the timers of
+     * the dispatching, e.g. of the {@link BatchingAction}(s), so there is a single timer
+     * thread however many subscribers wait for a deadline. It is a daemon thread, which
+     * is started on the first call and never shut down. Its tasks must be short, they
+     * only hand the actual work over to another {@link Executor}.
+     *
+     * @return the shared {@link ScheduledExecutorService}
+     */
+    public static ScheduledExecutorService sharedScheduler() {
+        return SharedScheduler.INSTANCE;
+    }
+
+    /**
+     * Creates a {@link ThreadFactory} of daemon threads, so dispatching threads
+     * never keep the JVM alive.
+     *
+     * @param name the prefix of the names of the created threads
+     * @return the new {@link ThreadFactory}
+     */
+    public static ThreadFactory daemonThreads(final String name) {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class SharedScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            final ScheduledThreadPoolExecutor scheduler =
+                    new ScheduledThreadPoolExecutor(1, daemonThreads("dispatch-scheduler"));
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
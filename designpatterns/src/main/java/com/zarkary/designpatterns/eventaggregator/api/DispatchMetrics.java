@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The instrumentation of an {@link EventAggregator}. It counts the published messages
+ * and the width of their fan-out per {@link IEventType}, and it keeps a latency
+ * histogram and a failure counter per subscription. Other depths, like the queues
+ * of a {@link PartitionedExecutor}, can be added as gauges.
+ *
+ * <p>The metrics are disabled by default. They are enabled by passing an instance
+ * to the {@link EventAggregator#EventAggregator(java.util.concurrent.Executor, DispatchMetrics)}
+ * constructor, and they are read with {@link #snapshot()}. Every counter is striped,
+ * see {@link LongAdder}, so the recording publishers never contend on a single
+ * memory location.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class DispatchMetrics {
+
+    private final ConcurrentMap<IEventType, EventTypeMetrics> eventTypes = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Subscription, SubscriptionMetrics> subscriptions = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a gauge, which is read on every {@link #snapshot()}, e.g. the queue
+     * size of a lane of a {@link PartitionedExecutor}.
+     *
+     * @param name the unique name of the gauge
+     * @param gauge the supplier of the current value
+     */
+    public void registerGauge(final String name, final LongSupplier gauge) {
+        gauges.put(requireNonNull(name), requireNonNull(gauge));
+    }
+
+    /**
+     * Takes a snapshot of all the metrics. The counters are read one after the
+     * other, without stopping the publishers, so the snapshot is not atomic.
+     *
+     * @return the current values of the metrics
+     */
+    public MetricsSnapshot snapshot() {
+        final Map<IEventType, MetricsSnapshot.EventTypeStatistics> eventTypeStatistics = new LinkedHashMap<>();
+        eventTypes.forEach((eventType, metrics) -> eventTypeStatistics.put(eventType,
+                new MetricsSnapshot.EventTypeStatistics(eventType, metrics.published.sum(),
+                        metrics.deliveries.sum(), metrics.maxFanOut.get())));
+        final List<MetricsSnapshot.SubscriptionStatistics> subscriptionStatistics = new ArrayList<>();
+        subscriptions.forEach((subscription, metrics) -> subscriptionStatistics.add(
+                new MetricsSnapshot.SubscriptionStatistics(subscription, metrics)));
+        final Map<String, Long> gaugeValues = new LinkedHashMap<>();
+        gauges.forEach((name, gauge) -> gaugeValues.put(name, gauge.getAsLong()));
+        return new MetricsSnapshot(System.nanoTime(), Collections.unmodifiableMap(eventTypeStatistics),
+                Collections.unmodifiableList(subscriptionStatistics), Collections.unmodifiableMap(gaugeValues));
+    }
+
+    /**
+     * Counts a published message.
+     *
+     * @param eventType the {@link IEventType} of the published message
+     * @param fanOut the number of subscriptions which received the message
+     */
+    void recordPublish(final IEventType eventType, final int fanOut) {
+        EventTypeMetrics metrics = eventTypes.get(eventType);
+        if(metrics == null) {
+            metrics = eventTypes.computeIfAbsent(eventType, type -> new EventTypeMetrics());
+        }
+        metrics.published.increment();
+        metrics.deliveries.add(fanOut);
+        metrics.maxFanOut.accumulate(fanOut);
+    }
+
+    /**
+     * @param subscription the new subscription
+     * @return the metrics of the subscription
+     */
+    SubscriptionMetrics register(final Subscription subscription) {
+        return subscriptions.computeIfAbsent(subscription, s -> new SubscriptionMetrics());
+    }
+
+    /**
+     * @param subscription the removed subscription
+     */
+    void unregister(final ISubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    private static final class EventTypeMetrics {
+
+        private final LongAdder published = new LongAdder();
+        private final LongAdder deliveries = new LongAdder();
+        private final LongAccumulator maxFanOut = new LongAccumulator(Math::max, 0);
+    }
+}
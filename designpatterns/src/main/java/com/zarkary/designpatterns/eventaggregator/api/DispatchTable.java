@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@link Subscription}(s) of a single published {@link IEventType}, split in the
+ * subscriptions without a key, which receive every message, and the subscriptions
+ * with a key, which are indexed by their key and receive only the messages whose
+ * content has the same routing key (see {@link IKeyed}).
+ *
+ * <p>So publishing a keyed message costs a single lookup, plus the matching
+ * subscriptions, however many keyed subscriptions the event type has.</p>
+ *
+ * <p>The table is modified only under the lock of the {@link SubscriptionRegistry},
+ * while the publishers read it without locking.</p>
+ *
+ * <p>When the event type is retained for the late subscribers, the table refers also
+ * to the ring of its recent messages in the {@link ReplayCache}, and when its last
+ * values are cached, to the cache of the last message per routing key.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class DispatchTable {
+
+    private final SubscriptionList subscriptions = new SubscriptionList();
+
+    private final ConcurrentMap<Object, SubscriptionList> keyedSubscriptions = new ConcurrentHashMap<>();
+
+    private volatile ReplayCache.Ring replayRing;
+
+    private volatile ConcurrentMap<Object, IMessage<?>> lastValues;
+
+    /**
+     * @param content the content of a published message
+     * @return the routing key of the content, or {@code null} if it has none
+     */
+    static Object routingKey(final Object content) {
+        return content instanceof IKeyed ? ((IKeyed) content).getRoutingKey() : null;
+    }
+
+    /**
+     * @return the current snapshot of the subscriptions without a key
+     */
+    Subscription[] subscriptions() {
+        return subscriptions.snapshot();
+    }
+
+    /**
+     * @param key the routing key of a published message, can be {@code null}
+     * @return the current snapshot of the subscriptions of the given key
+     */
+    Subscription[] subscriptions(final Object key) {
+        if(key == null || keyedSubscriptions.isEmpty()) {
+            return SubscriptionList.EMPTY;
+        }
+        final SubscriptionList subscriptionList = keyedSubscriptions.get(key);
+        return subscriptionList != null ? subscriptionList.snapshot() : SubscriptionList.EMPTY;
+    }
+
+    /**
+     * @return {@code true} if there is any subscription with a key
+     */
+    boolean hasKeyedSubscriptions() {
+        return !keyedSubscriptions.isEmpty();
+    }
+
+    /**
+     * @param subscription the subscription which is added at the end of its list
+     */
+    void add(final Subscription subscription) {
+        final Object key = subscription.getKey();
+        if(key == null) {
+            subscriptions.add(subscription);
+        } else {
+            keyedSubscriptions.computeIfAbsent(key, k -> new SubscriptionList()).add(subscription);
+        }
+    }
+
+    /**
+     * @param subscription the subscription which is removed
+     */
+    void remove(final Subscription subscription) {
+        final Object key = subscription.getKey();
+        if(key == null) {
+            subscriptions.remove(subscription);
+            return;
+        }
+        final SubscriptionList subscriptionList = keyedSubscriptions.get(key);
+        if(subscriptionList != null && subscriptionList.remove(subscription)
+                && subscriptionList.snapshot().length == 0) {
+            keyedSubscriptions.remove(key, subscriptionList);
+        }
+    }
+
+    /**
+     * @return the ring of the recent messages, or {@code null} if the event type is not retained
+     */
+    ReplayCache.Ring getReplayRing() {
+        return replayRing;
+    }
+
+    /**
+     * @param replayRing the ring of the recent messages of the event type
+     */
+    void setReplayRing(final ReplayCache.Ring replayRing) {
+        this.replayRing = replayRing;
+    }
+
+    /**
+     * @return the last message per routing key, or {@code null} if the event type is not cached
+     */
+    ConcurrentMap<Object, IMessage<?>> getLastValues() {
+        return lastValues;
+    }
+
+    /**
+     * @param lastValues the cache of the last message per routing key of the event type
+     */
+    void setLastValues(final ConcurrentMap<Object, IMessage<?>> lastValues) {
+        this.lastValues = lastValues;
+    }
+}
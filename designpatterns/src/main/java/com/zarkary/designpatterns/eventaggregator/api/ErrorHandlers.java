@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * Utility class with the commonly used {@link IErrorHandler}(s).
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class ErrorHandlers {
+
+    private static final IErrorHandler REPORT_UNCAUGHT = (subscription, message, error) -> {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, error);
+    };
+
+    private static final IErrorHandler PROPAGATE = (subscription, message, error) -> {
+        if(error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        throw (Error) error;
+    };
+
+    private ErrorHandlers() {
+    }
+
+    /**
+     * The default {@link IErrorHandler} of the {@link EventAggregator}.
+     *
+     * @return an {@link IErrorHandler} which reports the failures to the
+     *         {@link Thread.UncaughtExceptionHandler} of the current thread
+     */
+    public static IErrorHandler reportUncaught() {
+        return REPORT_UNCAUGHT;
+    }
+
+    /**
+     * @return an {@link IErrorHandler} which throws the failure back to the
+     *         publisher, so the rest of the subscribers do not get the message
+     */
+    public static IErrorHandler propagate() {
+        return PROPAGATE;
+    }
+}
@@ -16,11 +16,23 @@
 
 package com.zarkary.designpatterns.eventaggregator.api;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
 
@@ -48,20 +60,163 @@ import static java.util.Objects.requireNonNull;
  * </ol>
  * </p>
  *
+ * <p>The subscriptions of each {@link IEventType} are kept in a copy-on-write
+ * snapshot which is swapped atomically on subscribe/unsubscribe. So publishing
+ * never locks and never observes a half-updated list, even when subscribers
+ * come and go while messages are published.</p>
+ *
+ * <p>A subscription receives the messages of its own {@link IEventType} and of all
+ * its descendants (see {@link IEventType#getParent()}). It can also subscribe to an
+ * {@link IEventTypeSelector}, e.g. to all the constants of an enum, or to every event
+ * type with {@link EventTypes#ANY}. The interested subscriptions of every published
+ * event type are resolved in advance, so publishing is still a single lookup.</p>
+ *
+ * <p>A subscription can be restricted to a routing key, in which case it receives
+ * only the messages whose content is {@link IKeyed} with the same key. The keyed
+ * subscriptions are indexed by their key, so a keyed message costs only as many
+ * invocations as its matching subscriptions, no matter how many keys are subscribed.
+ * A subscription can also have a filter, which is evaluated before its
+ * {@link IAction} is invoked.</p>
+ *
+ * <p>Messages can be published synchronously, with {@link #publish(IMessage)},
+ * where every {@link IAction} runs on the publisher's thread, or asynchronously,
+ * with {@link #publishAsync(IMessage)}, where every {@link IAction} runs on the
+ * {@link Executor} of its subscription, or else on the default {@link Executor}
+ * of the EventAggregator. With a {@link PartitionedExecutor} the messages of the
+ * same routing key are processed in order, one after the other, while the messages
+ * of different keys are processed in parallel.</p>
+ *
+ * <p>A failed {@link IAction} never stops the delivery of a message to the rest of
+ * the subscribers. The failure is passed to the {@link IErrorHandler} of the
+ * EventAggregator, which by default reports it to the uncaught exception handler of
+ * the thread, while a {@link DeadLetterQueue} captures the failed messages. When a
+ * message is published asynchronously, the failures complete its future instead.
+ * Only {@link RuntimeException}(s) are isolated, an {@link Error} is thrown to the
+ * publisher.</p>
+ *
+ * <p>The EventAggregator records {@link DispatchMetrics} when it is constructed with
+ * them. Without metrics, which is the default, the instrumentation costs a single
+ * {@code null} check per publish. In the same way, a {@link Watchdog} can measure
+ * every {@link IAction} and quarantine the ones which are too slow, so they do not
+ * hold up the publishers and the rest of the subscribers.</p>
+ *
+ * <p>The recent messages of an {@link IEventType} can be retained, by count or by
+ * age (see {@link ReplayPolicy}), so that a late subscriber receives them before
+ * the live messages, instead of querying their source again. When only the latest
+ * state matters, the last value per routing key can be cached instead, which can be
+ * read without subscribing and which every new subscription receives at once.</p>
+ *
+ * <p>A subscription keeps its {@link IAction} alive, until it is unsubscribed. A
+ * weak subscription does not, so a subscriber which is not disposed does not stay
+ * in the EventAggregator forever, its subscriptions are pruned once it has been
+ * collected.</p>
+ *
  *
  * @author Ioannis Katsatos
  * @since 11.04.2018
  */
-public class EventAggregator {
+public class EventAggregator implements IEventAggregator {
+
+    /**
+     * The key of the last value of the messages without a routing key.
+     */
+    private static final Object NO_KEY = new Object();
+
+    private final SubscriptionRegistry subscriptionRegistry;
+
+    private final Executor defaultExecutor;
+
+    private final DispatchMetrics metrics;
 
-    private Map<IEventType, List<ISubscription>> subscriptionsByEventType;
+    private final Watchdog watchdog;
+
+    private final IErrorHandler errorHandler;
+
+    private final ReplayCache replayCache = new ReplayCache();
 
     /**
-     * Constructor
+     * The last value per routing key of every cached {@link IEventType}.
+     */
+    private final ConcurrentMap<IEventType, ConcurrentMap<Object, IMessage<?>>> lastValues =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The collected {@link IAction}(s) of the weak subscriptions.
+     */
+    private final ReferenceQueue<IAction<?>> collectedActions = new ReferenceQueue<>();
+
+    private final LongAdder prunedSubscriptions = new LongAdder();
+
+    /**
+     * Constructor, the asynchronous publishing uses the {@link ForkJoinPool#commonPool()}
      *
      */
     public EventAggregator() {
-        this.subscriptionsByEventType = new ConcurrentHashMap<>();
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param defaultExecutor the {@link Executor} which runs the {@link IAction}(s),
+     *                        without own {@link Executor}, when a message is
+     *                        published asynchronously
+     */
+    public EventAggregator(final Executor defaultExecutor) {
+        this(defaultExecutor, null, null);
+    }
+
+    /**
+     * Constructor, with enabled metrics
+     *
+     * @param defaultExecutor the {@link Executor} which runs the {@link IAction}(s),
+     *                        without own {@link Executor}, when a message is
+     *                        published asynchronously
+     * @param metrics the {@link DispatchMetrics} which record the publishing and
+     *                the execution of the {@link IAction}(s)
+     */
+    public EventAggregator(final Executor defaultExecutor, final DispatchMetrics metrics) {
+        this(defaultExecutor, requireNonNull(metrics), null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param defaultExecutor the {@link Executor} which runs the {@link IAction}(s),
+     *                        without own {@link Executor}, when a message is
+     *                        published asynchronously
+     * @param metrics the {@link DispatchMetrics}, or {@code null} when the metrics
+     *                are disabled
+     * @param watchdog the {@link Watchdog} which measures every execution of the
+     *                 {@link IAction}(s), or {@code null} when it is disabled
+     */
+    public EventAggregator(final Executor defaultExecutor, final DispatchMetrics metrics, final Watchdog watchdog) {
+        this(defaultExecutor, metrics, watchdog, ErrorHandlers.reportUncaught());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param defaultExecutor the {@link Executor} which runs the {@link IAction}(s),
+     *                        without own {@link Executor}, when a message is
+     *                        published asynchronously
+     * @param metrics the {@link DispatchMetrics}, or {@code null} when the metrics
+     *                are disabled
+     * @param watchdog the {@link Watchdog} which measures every execution of the
+     *                 {@link IAction}(s), or {@code null} when it is disabled
+     * @param errorHandler the {@link IErrorHandler} of the failed {@link IAction}(s)
+     *                     of the synchronous publishing
+     */
+    public EventAggregator(final Executor defaultExecutor, final DispatchMetrics metrics, final Watchdog watchdog,
+                           final IErrorHandler errorHandler) {
+        this.subscriptionRegistry = new SubscriptionRegistry();
+        this.defaultExecutor = requireNonNull(defaultExecutor);
+        this.metrics = metrics;
+        this.watchdog = watchdog;
+        this.errorHandler = requireNonNull(errorHandler);
+        if(metrics != null) {
+            metrics.registerGauge("subscriptions.pruned", prunedSubscriptions::sum);
+        }
     }
 
     /**
@@ -72,13 +227,395 @@ public class EventAggregator {
      * <p>The passed {@link IMessage} must not be {@code null}, as well as and the
      * {@link IEventType} of the passed message.</p>
      *
+     * <p>The subscribers are invoked from a snapshot of the subscriptions, which
+     * is taken when the publishing starts. Subscriptions added or removed during
+     * the publishing are taken into account by the next published message.</p>
+     *
+     * <p>An {@link IAction} which fails is passed to the {@link IErrorHandler}, and
+     * the rest of the subscribers still receive the message.</p>
+     *
+     * <p>The subscriptions receive the message by descending priority (see
+     * {@link #subscribeWithPriority(IEventType, int, IAction)}), and an
+     * {@link IConsumingAction} which consumes the message stops the dispatching.</p>
+     *
      * @param message the published {@link IMessage} from the {@link IPublisher}
      * @param <T> the data type of {@link IMessage}
      */
+    @Override
+    @SuppressWarnings("unchecked")
     public <T> void publish(final IMessage<T> message) {
-        requireNonNull(message);
-        Optional.ofNullable(subscriptionsByEventType.get(requireNonNull(message.getEventType())))
-                .ifPresent(subscriptions -> subscriptions.forEach(subscription -> subscription.onAction(message)));
+        final DispatchTable dispatchTable =
+                subscriptionRegistry.dispatchTable(requireNonNull(requireNonNull(message).getEventType()));
+        final Object key = DispatchTable.routingKey(message.getContent());
+        final Subscription[] subscriptions;
+        final Subscription[] keyedSubscriptions;
+        if(dispatchTable.getReplayRing() == null && dispatchTable.getLastValues() == null) {
+            subscriptions = dispatchTable.subscriptions();
+            keyedSubscriptions = dispatchTable.subscriptions(key);
+        } else {
+            synchronized(replayCache) {
+                handOff(dispatchTable, key, message);
+                subscriptions = dispatchTable.subscriptions();
+                keyedSubscriptions = dispatchTable.subscriptions(key);
+            }
+        }
+        if(metrics != null) {
+            metrics.recordPublish(message.getEventType(), subscriptions.length + keyedSubscriptions.length);
+        }
+        dispatch(subscriptions, keyedSubscriptions, message);
+    }
+
+    /**
+     * Publishes, for a specific {@link IEventType}, the given content to all
+     * interested {@link ISubscriber}(s). The {@link IAction}(s) receive a new
+     * {@link Message}, which they can keep, see {@link #publishTransient(IEventType, Object)}
+     * for the publishing which does not allocate it.
+     *
+     * @param eventType the type of event, must not be {@code null}
+     * @param content the content which is going to be published, must not be {@code null}
+     * @param <T> the content type of content
+     */
+    @Override
+    public <T> void publish(final IEventType eventType, final T content) {
+        publish(new Message<>(eventType, content));
+    }
+
+    /**
+     * Publishes, for a specific {@link IEventType}, the given content to all
+     * interested {@link ISubscriber}(s), without allocating anything.
+     *
+     * <p>The {@link IAction}(s) receive a reusable {@link IMessage}, which is valid
+     * only while they are executed. An {@link IAction} which wants to keep the
+     * message has to copy it with {@link Message#copyOf(IMessage)}. So it is meant
+     * for the publishers which know their subscribers.</p>
+     *
+     * @param eventType the type of event, must not be {@code null}
+     * @param content the content which is going to be published, must not be {@code null}
+     * @param <T> the content type of content
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void publishTransient(final IEventType eventType, final T content) {
+        requireNonNull(content);
+        final DispatchTable dispatchTable = subscriptionRegistry.dispatchTable(requireNonNull(eventType));
+        if(dispatchTable.getReplayRing() != null || dispatchTable.getLastValues() != null) {
+            publish(new Message<>(eventType, content));
+            return;
+        }
+        final Subscription[] subscriptions = dispatchTable.subscriptions();
+        final Subscription[] keyedSubscriptions = dispatchTable.subscriptions(DispatchTable.routingKey(content));
+        if(metrics != null) {
+            metrics.recordPublish(eventType, subscriptions.length + keyedSubscriptions.length);
+        }
+        if(subscriptions.length == 0 && keyedSubscriptions.length == 0) {
+            return;
+        }
+        final FlyweightMessage message = FlyweightMessage.acquire(eventType, content);
+        try {
+            dispatch(subscriptions, keyedSubscriptions, message);
+        } finally {
+            message.release();
+        }
+    }
+
+    /**
+     * Retains and caches the message, under the lock of the {@link ReplayCache}, so a
+     * new subscription receives it either from the replay or the cache, or live.
+     */
+    private void handOff(final DispatchTable dispatchTable, final Object key, final IMessage<?> message) {
+        if(dispatchTable.getLastValues() != null) {
+            dispatchTable.getLastValues().put(key != null ? key : NO_KEY, Message.copyOf(message));
+        }
+        if(dispatchTable.getReplayRing() != null) {
+            replayCache.add(dispatchTable.getReplayRing(), message);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(final Subscription[] subscriptions, final Subscription[] keyedSubscriptions,
+                          final IMessage<?> message) {
+        int next = 0;
+        int nextKeyed = 0;
+        while(next < subscriptions.length || nextKeyed < keyedSubscriptions.length) {
+            final Subscription subscription = nextKeyed == keyedSubscriptions.length || next < subscriptions.length
+                    && subscriptions[next].getPriority() >= keyedSubscriptions[nextKeyed].getPriority()
+                    ? subscriptions[next++]
+                    : keyedSubscriptions[nextKeyed++];
+            try {
+                if(subscription.handle(message)) {
+                    return;
+                }
+            } catch(RuntimeException failure) {
+                errorHandler.onError(subscription, message, failure);
+            }
+        }
+    }
+
+    /**
+     * Publishes a batch of {@link IMessage}(s) to all interested {@link ISubscriber}(s).
+     *
+     * <p>The messages are grouped by {@link IEventType}, so the subscriptions of each
+     * event type are resolved once per batch. Every subscription receives the messages
+     * of its event type in the published order, an {@link IBatchAction} as one list.
+     * The messages of different event types are dispatched one group after the other,
+     * in the order in which each event type first appears in the batch. A keyed
+     * subscription receives only the messages of its key.</p>
+     *
+     * <p>The subscriptions of an event type receive the batch one after the other,
+     * by priority, as in {@link #publish(IMessage)}, and a message which an
+     * {@link IConsumingAction} consumes is not passed to the subscriptions of lower
+     * priority.</p>
+     *
+     * @param messages the published messages, none of them can be {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void publishAll(final Collection<? extends IMessage<?>> messages) {
+        final Map<IEventType, List<IMessage<?>>> messagesByEventType = new LinkedHashMap<>();
+        for(final IMessage<?> message : requireNonNull(messages)) {
+            messagesByEventType.computeIfAbsent(requireNonNull(requireNonNull(message).getEventType()),
+                    eventType -> new ArrayList<>()).add(message);
+        }
+        for(final Map.Entry<IEventType, List<IMessage<?>>> batch : messagesByEventType.entrySet()) {
+            final DispatchTable dispatchTable = subscriptionRegistry.dispatchTable(batch.getKey());
+            if(metrics != null) {
+                recordBatch(dispatchTable, batch.getKey(), batch.getValue());
+            }
+            if(dispatchTable.getReplayRing() == null && dispatchTable.getLastValues() == null) {
+                dispatchBatch(dispatchTable, batch.getValue());
+            } else {
+                dispatchRetainedBatch(dispatchTable, batch.getValue());
+            }
+        }
+    }
+
+    private void dispatchBatch(final DispatchTable dispatchTable, final List<IMessage<?>> batch) {
+        final Subscription[] subscriptions = dispatchTable.subscriptions();
+        if(!dispatchTable.hasKeyedSubscriptions()) {
+            dispatchBatch(batch, subscriptions, Collections.emptyMap(), Collections.emptyList());
+            return;
+        }
+        final Map<Object, List<Integer>> positionsByKey = groupByKey(batch);
+        final List<Subscription[]> keyedSubscriptions = new ArrayList<>(positionsByKey.size());
+        for(final Object key : positionsByKey.keySet()) {
+            keyedSubscriptions.add(dispatchTable.subscriptions(key));
+        }
+        dispatchBatch(batch, subscriptions, positionsByKey, keyedSubscriptions);
+    }
+
+    /**
+     * The subscriptions of a retained or cached batch are resolved while the batch is
+     * retained and cached, under the lock of the {@link ReplayCache}, and they are
+     * dispatched after the lock is released.
+     */
+    private void dispatchRetainedBatch(final DispatchTable dispatchTable, final List<IMessage<?>> batch) {
+        final Map<Object, List<Integer>> positionsByKey = groupByKey(batch);
+        final Subscription[] subscriptions;
+        final List<Subscription[]> keyedSubscriptions = new ArrayList<>(positionsByKey.size());
+        synchronized(replayCache) {
+            for(final IMessage<?> message : batch) {
+                handOff(dispatchTable, DispatchTable.routingKey(message.getContent()), message);
+            }
+            subscriptions = dispatchTable.subscriptions();
+            for(final Object key : positionsByKey.keySet()) {
+                keyedSubscriptions.add(dispatchTable.subscriptions(key));
+            }
+        }
+        dispatchBatch(batch, subscriptions, positionsByKey, keyedSubscriptions);
+    }
+
+    /**
+     * @return the positions of the keyed messages of the batch, per routing key
+     */
+    private static Map<Object, List<Integer>> groupByKey(final List<IMessage<?>> batch) {
+        final Map<Object, List<Integer>> positionsByKey = new LinkedHashMap<>();
+        for(int i = 0; i < batch.size(); i++) {
+            final Object key = DispatchTable.routingKey(batch.get(i).getContent());
+            if(key != null) {
+                positionsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+        return positionsByKey;
+    }
+
+    private void recordBatch(final DispatchTable dispatchTable, final IEventType eventType,
+                             final List<IMessage<?>> batch) {
+        final int subscriptions = dispatchTable.subscriptions().length;
+        for(final IMessage<?> message : batch) {
+            metrics.recordPublish(eventType, subscriptions
+                    + dispatchTable.subscriptions(DispatchTable.routingKey(message.getContent())).length);
+        }
+    }
+
+    /**
+     * Dispatches the batch of one event type. The unkeyed and the keyed subscriptions
+     * are merged by priority, as in {@link #dispatch(Subscription[], Subscription[], IMessage)},
+     * and every subscription receives the messages of its key which have not been
+     * consumed by a subscription of higher priority.
+     *
+     * @param batch the messages of the event type, in the published order
+     * @param subscriptions the unkeyed subscriptions, by priority
+     * @param positionsByKey the positions of the keyed messages, per routing key
+     * @param keyedSubscriptions the keyed subscriptions of each routing key, by priority
+     */
+    private void dispatchBatch(final List<IMessage<?>> batch, final Subscription[] subscriptions,
+                               final Map<Object, List<Integer>> positionsByKey,
+                               final List<Subscription[]> keyedSubscriptions) {
+        final List<IMessage<?>> unmodifiableBatch = Collections.unmodifiableList(batch);
+        BitSet consumed = null;
+        boolean keyed = false;
+        for(final Subscription[] subscriptionsOfKey : keyedSubscriptions) {
+            keyed |= subscriptionsOfKey.length > 0;
+        }
+        if(!keyed) {
+            for(final Subscription subscription : subscriptions) {
+                consumed = dispatchBatch(subscription, unmodifiableBatch, null, consumed);
+            }
+            return;
+        }
+        final List<BatchTarget> targets = new ArrayList<>(subscriptions.length + keyedSubscriptions.size());
+        for(final Subscription subscription : subscriptions) {
+            targets.add(new BatchTarget(subscription, null));
+        }
+        int i = 0;
+        for(final List<Integer> positions : positionsByKey.values()) {
+            for(final Subscription subscription : keyedSubscriptions.get(i)) {
+                targets.add(new BatchTarget(subscription, positions));
+            }
+            i++;
+        }
+        // the sort is stable, so an unkeyed subscription goes first among the ones of equal priority
+        targets.sort((first, second) -> Integer.compare(second.subscription.getPriority(),
+                first.subscription.getPriority()));
+        for(final BatchTarget target : targets) {
+            consumed = dispatchBatch(target.subscription, unmodifiableBatch, target.positions, consumed);
+        }
+    }
+
+    /**
+     * Dispatches to the subscription the messages at the given positions, or the whole
+     * batch, which have not been consumed yet.
+     *
+     * @return the positions of the consumed messages of the batch, or {@code null}
+     *         when none of them has been consumed
+     */
+    @SuppressWarnings("unchecked")
+    private BitSet dispatchBatch(final Subscription subscription, final List<IMessage<?>> batch,
+                                 final List<Integer> positions, BitSet consumed) {
+        final List<IMessage<?>> messages;
+        final int[] pending;
+        if(positions == null && consumed == null) {
+            messages = batch;
+            pending = null;
+        } else {
+            pending = pending(batch.size(), positions, consumed);
+            if(pending.length == 0) {
+                return consumed;
+            }
+            final List<IMessage<?>> selected = new ArrayList<>(pending.length);
+            for(final int position : pending) {
+                selected.add(batch.get(position));
+            }
+            messages = Collections.unmodifiableList(selected);
+        }
+        final BitSet consumedNow = subscription.onBatch((List) messages, errorHandler);
+        if(consumedNow != null) {
+            if(consumed == null) {
+                consumed = new BitSet(batch.size());
+            }
+            for(int i = consumedNow.nextSetBit(0); i >= 0; i = consumedNow.nextSetBit(i + 1)) {
+                consumed.set(pending == null ? i : pending[i]);
+            }
+        }
+        return consumed;
+    }
+
+    private static int[] pending(final int size, final List<Integer> positions, final BitSet consumed) {
+        if(positions == null) {
+            final int[] pending = new int[size - consumed.cardinality()];
+            int i = 0;
+            int position = consumed.nextClearBit(0);
+            while(position < size) {
+                pending[i++] = position;
+                position = consumed.nextClearBit(position + 1);
+            }
+            return pending;
+        }
+        final int[] pending = new int[positions.size()];
+        int i = 0;
+        for(final int position : positions) {
+            if(consumed == null || !consumed.get(position)) {
+                pending[i++] = position;
+            }
+        }
+        return i == pending.length ? pending : Arrays.copyOf(pending, i);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The EventAggregator invokes every {@link IAction} of {@link #publish(IMessage)}
+     * on the publisher's thread.</p>
+     */
+    @Override
+    public boolean isSynchronous() {
+        return true;
+    }
+
+    /**
+     * Publishes the {@link IMessage} asynchronously. Each interested {@link IAction}
+     * is executed on the {@link Executor} of its subscription, or on the default
+     * {@link Executor} of this EventAggregator, so a slow {@link IAction} does not
+     * hold up neither the publisher nor the rest of the subscribers.
+     *
+     * <p>The returned future completes when all the interested {@link IAction}(s)
+     * have been executed. If some of them failed, it completes exceptionally with
+     * the first failure.</p>
+     *
+     * @param message the published {@link IMessage} from the {@link IPublisher}
+     * @param <T> the data type of {@link IMessage}
+     * @return the completion handle of the delivery to all interested subscribers
+     */
+    @Override
+    public <T> CompletableFuture<Void> publishAsync(final IMessage<T> message) {
+        final DispatchTable dispatchTable =
+                subscriptionRegistry.dispatchTable(requireNonNull(requireNonNull(message).getEventType()));
+        final Object key = DispatchTable.routingKey(message.getContent());
+        final Subscription[] subscriptions;
+        final Subscription[] keyedSubscriptions;
+        if(dispatchTable.getReplayRing() == null && dispatchTable.getLastValues() == null) {
+            subscriptions = dispatchTable.subscriptions();
+            keyedSubscriptions = dispatchTable.subscriptions(key);
+        } else {
+            synchronized(replayCache) {
+                handOff(dispatchTable, key, message);
+                subscriptions = dispatchTable.subscriptions();
+                keyedSubscriptions = dispatchTable.subscriptions(key);
+            }
+        }
+        if(metrics != null) {
+            metrics.recordPublish(message.getEventType(), subscriptions.length + keyedSubscriptions.length);
+        }
+        if(subscriptions.length == 0 && keyedSubscriptions.length == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final FanOut fanOut = new FanOut(subscriptions.length + keyedSubscriptions.length);
+        dispatchAsync(fanOut, subscriptions, message);
+        dispatchAsync(fanOut, keyedSubscriptions, message);
+        return fanOut.completion();
+    }
+
+    private void dispatchAsync(final FanOut fanOut, final Subscription[] subscriptions, final IMessage<?> message) {
+        for(final Subscription subscription : subscriptions) {
+            final Executor executor = subscription.getExecutor() != null ? subscription.getExecutor() : defaultExecutor;
+            fanOut.dispatch(subscription, message, executor instanceof PartitionedExecutor
+                    ? ((PartitionedExecutor) executor).lane(partitionKey(message))
+                    : executor);
+        }
+    }
+
+    private static Object partitionKey(final IMessage<?> message) {
+        final Object key = DispatchTable.routingKey(message.getContent());
+        return key != null ? key : message.getEventType();
     }
 
     /**
@@ -87,6 +624,10 @@ public class EventAggregator {
      * <p>It is allowed each {@link IEventType} entry, to have multiple
      * {@link IAction} registered.</p>
      *
+     * <p>The given event type can be the parent of other event types, or an
+     * {@link IEventTypeSelector}, in which case the {@link IAction} is invoked for
+     * the messages of every matching event type.</p>
+     *
      * @param eventType the type of event
      * @param action the {@link IAction} which will be invoked when the
      *        {@link IEventType} take place
@@ -95,22 +636,335 @@ public class EventAggregator {
      *
      * @return the {@link ISubscription} token which is used from {@link ISubscriber}
      */
+    @Override
     public <T> ISubscription subscribe(final IEventType eventType, final IAction<T> action) {
-        final ISubscription subscription = new Subscription(eventType, action);
-        subscriptionsByEventType.putIfAbsent(eventType, new ArrayList<>());
-        subscriptionsByEventType.get(eventType).add(subscription);
+        return register(new Subscription<>(eventType, action));
+    }
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}, which is
+     * executed on the given {@link Executor} when a message is published
+     * asynchronously.
+     *
+     * @param eventType the type of event
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place
+     * @param executor the {@link Executor} which runs the {@link IAction}
+     *
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     *
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    public <T> ISubscription subscribe(final IEventType eventType, final IAction<T> action,
+                                       final Executor executor) {
+        return register(new Subscription<>(eventType, action, executor));
+    }
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType} and routing key.
+     *
+     * <p>The {@link IAction} is invoked only for the messages whose content is
+     * {@link IKeyed} with a routing key equal to the given one. The keyed subscriptions
+     * are indexed by their key, so they add no cost to the messages of other keys.</p>
+     *
+     * @param eventType the type of event
+     * @param key the routing key of the subscription
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place for the given key
+     *
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     *
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    @Override
+    public <T> ISubscription subscribeByKey(final IEventType eventType, final Object key, final IAction<T> action) {
+        return register(new Subscription<>(eventType, action, null, requireNonNull(key), null));
+    }
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}, which is invoked
+     * only for the messages which fulfil the given filter.
+     *
+     * @param eventType the type of event
+     * @param filter the condition which a message has to fulfil
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place
+     *
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     *
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    @Override
+    public <T> ISubscription subscribeFiltered(final IEventType eventType, final Predicate<? super IMessage<T>> filter,
+                                               final IAction<T> action) {
+        return register(new Subscription<>(eventType, action, null, null, requireNonNull(filter)));
+    }
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType} with a priority.
+     *
+     * <p>A message is delivered by descending priority, and by subscription order for
+     * the same priority. The subscriptions of the other subscribe methods have priority
+     * {@code 0}. The order is fixed when subscribing, so it costs nothing to the
+     * publishing. When the {@link IAction} is an {@link IConsumingAction}, it can consume
+     * a message, and the subscriptions of lower priority do not receive it.</p>
+     *
+     * @param eventType the type of event
+     * @param priority the priority of the subscription, a subscription of higher
+     *        priority receives a message first
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place
+     *
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     *
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    @Override
+    public <T> ISubscription subscribeWithPriority(final IEventType eventType, final int priority,
+                                                   final IAction<T> action) {
+        return register(new Subscription<>(eventType, action, null, null, null, priority));
+    }
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}, which first
+     * receives the retained messages of the event type (see
+     * {@link #retain(IEventType, ReplayPolicy)}) and then the live ones.
+     *
+     * <p>The retained messages are replayed on the caller's thread, in the published
+     * order, while the publishers of the retained event types wait. Every message is
+     * received exactly once, either replayed or live, and no live message is received
+     * before the replay has finished. An event type which is not retained has nothing
+     * to replay, so its messages are received only live.</p>
+     *
+     * @param eventType the type of event
+     * @param action the {@link IAction} which will be invoked for the retained and
+     *        the published messages of the {@link IEventType}
+     *
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     *
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ISubscription subscribeWithReplay(final IEventType eventType, final IAction<T> action) {
+        final Subscription<T> subscription = new Subscription<>(eventType, action);
+        synchronized(replayCache) {
+            for(final IMessage<?> message : replayCache.messages(eventType)) {
+                try {
+                    subscription.onAction((IMessage<T>) message);
+                } catch(RuntimeException failure) {
+                    errorHandler.onError(subscription, message, failure);
+                }
+            }
+            add(subscription);
+            return subscription;
+        }
+    }
+
+    /**
+     * Retains the recent messages of the given {@link IEventType}, according to the
+     * given {@link ReplayPolicy}, so they can be replayed to the late subscribers. The
+     * messages which were published before this call are not retained. A new policy
+     * replaces the previous one of the same event type, together with its messages.
+     *
+     * <p>The messages of a retained event type are copied, and their publishers
+     * synchronize with each other, while they take the snapshot of the subscriptions.</p>
+     *
+     * @param eventType the published event type, it cannot be an {@link IEventTypeSelector}
+     * @param policy the {@link ReplayPolicy} of the retained messages
+     */
+    public void retain(final IEventType eventType, final ReplayPolicy policy) {
+        if(requireNonNull(eventType) instanceof IEventTypeSelector) {
+            throw new IllegalArgumentException("An IEventTypeSelector is never published.");
+        }
+        final DispatchTable dispatchTable = subscriptionRegistry.dispatchTable(eventType);
+        synchronized(replayCache) {
+            dispatchTable.setReplayRing(replayCache.retain(eventType, policy));
+        }
+    }
+
+    /**
+     * Caches the last value of the given {@link IEventType} per routing key (see
+     * {@link IKeyed}), so it can be read without subscribing, with
+     * {@link #getLastValue(IEventType, Object)}, and it is delivered immediately to
+     * every new subscription of the event type. The messages which were published
+     * before this call are not cached.
+     *
+     * <p>The cache is updated by the publishers before the message is dispatched, under
+     * the same lock as the retained messages (see {@link #retain(IEventType, ReplayPolicy)}).
+     * A new subscription receives the cached values on the subscriber's thread, under
+     * that lock too, so it receives every value exactly once, either from the cache or
+     * live, and never a cached value after a newer live one. The
+     * {@link #subscribeWithReplay(IEventType, IAction)} does not receive the cached
+     * values, since it receives the retained messages.</p>
+     *
+     * @param eventType the published event type, it cannot be an {@link IEventTypeSelector}
+     */
+    public void cacheLastValues(final IEventType eventType) {
+        if(requireNonNull(eventType) instanceof IEventTypeSelector) {
+            throw new IllegalArgumentException("An IEventTypeSelector is never published.");
+        }
+        final DispatchTable dispatchTable = subscriptionRegistry.dispatchTable(eventType);
+        synchronized(lastValues) {
+            if(dispatchTable.getLastValues() == null) {
+                final ConcurrentMap<Object, IMessage<?>> cache = new ConcurrentHashMap<>();
+                lastValues.put(eventType, cache);
+                dispatchTable.setLastValues(cache);
+            }
+        }
+    }
+
+    /**
+     * @param eventType the cached {@link IEventType}
+     * @param key the routing key of the message, or {@code null} for the messages
+     *            without a routing key
+     * @param <T> the data type of {@link IMessage}
+     * @return the last published message of the given event type and routing key, or
+     *         {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> IMessage<T> getLastValue(final IEventType eventType, final Object key) {
+        final ConcurrentMap<Object, IMessage<?>> cache = lastValues.get(requireNonNull(eventType));
+        return cache != null ? (IMessage<T>) cache.get(key != null ? key : NO_KEY) : null;
+    }
+
+    /**
+     * @param eventType the cached {@link IEventType}
+     * @return the last published messages of the given event type, one per routing key,
+     *         in no particular order
+     */
+    public Collection<IMessage<?>> getLastValues(final IEventType eventType) {
+        final ConcurrentMap<Object, IMessage<?>> cache = lastValues.get(requireNonNull(eventType));
+        return cache != null
+                ? Collections.unmodifiableCollection(new ArrayList<>(cache.values()))
+                : Collections.emptyList();
+    }
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}, which is referred
+     * weakly. So the subscription does not keep the {@link IAction} alive, and once it
+     * has been collected the subscription is pruned, without being unsubscribed.
+     *
+     * <p>The {@link IAction} must be strongly reachable from its owner for as long as it
+     * should receive messages, typically the subscribing object implements it
+     * itself. A lambda or an inner class which nothing else refers to can be collected
+     * right away, while a lambda which captures nothing is a constant and it is never
+     * collected.</p>
+     *
+     * <p>A collected action is pruned lazily, the next time a message is dispatched
+     * to it, or on the next subscribe/unsubscribe after the garbage collector has
+     * reported it. The dead subscription is found without a sweep over the weak
+     * subscriptions, but it is removed as by {@link #unsubscribe(ISubscription)}, i.e.
+     * every dispatch table is checked, and the ones which hold it are copied
+     * without it.</p>
+     *
+     * @param eventType the type of event
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place, while it is alive
+     *
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     *
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    @Override
+    public <T> ISubscription subscribeWeakly(final IEventType eventType, final IAction<T> action) {
+        final WeakAction<T> weakAction = new WeakAction<>(requireNonNull(action), collectedActions, this::prune);
+        final Subscription<T> subscription = new Subscription<>(eventType, weakAction);
+        weakAction.setSubscription(subscription);
+        return register(subscription);
+    }
+
+    /**
+     * @return how many weak subscriptions have been pruned, because their
+     *         {@link IAction} had been collected
+     */
+    public long getPrunedCount() {
+        return prunedSubscriptions.sum();
+    }
+
+    private void prune(final Subscription<?> subscription) {
+        if(subscriptionRegistry.remove(subscription)) {
+            prunedSubscriptions.increment();
+            if(metrics != null) {
+                metrics.unregister(subscription);
+            }
+        }
+    }
+
+    private void pruneCollected() {
+        Reference<? extends IAction<?>> collected;
+        while((collected = collectedActions.poll()) != null) {
+            ((WeakAction<?>) collected).prune();
+        }
+    }
+
+    private ISubscription register(final Subscription subscription) {
+        if(lastValues.isEmpty()) {
+            add(subscription);
+            return subscription;
+        }
+        synchronized(replayCache) {
+            add(subscription);
+            deliverLastValues(subscription);
+        }
         return subscription;
     }
 
+    @SuppressWarnings("unchecked")
+    private void deliverLastValues(final Subscription subscription) {
+        for(final Map.Entry<IEventType, ConcurrentMap<Object, IMessage<?>>> cache : lastValues.entrySet()) {
+            if(!EventTypes.matches(subscription.getEventType(), cache.getKey())) {
+                continue;
+            }
+            for(final Map.Entry<Object, IMessage<?>> lastValue : cache.getValue().entrySet()) {
+                if(subscription.getKey() == null || subscription.getKey().equals(lastValue.getKey())) {
+                    try {
+                        subscription.onAction(lastValue.getValue());
+                    } catch(RuntimeException failure) {
+                        errorHandler.onError(subscription, lastValue.getValue(), failure);
+                    }
+                }
+            }
+        }
+    }
+
+    private void add(final Subscription subscription) {
+        pruneCollected();
+        if(metrics != null) {
+            subscription.setMetrics(metrics.register(subscription));
+        }
+        if(watchdog != null) {
+            subscription.setWatchdog(watchdog);
+        }
+        subscriptionRegistry.add(subscription);
+    }
+
     /**
      * Unsubscribe the given {@link ISubscription} from the {@link EventAggregator}.
      *
      * @param subscription token which will be unsubscribed from the {@link EventAggregator}
      */
+    @Override
     public void unsubscribe(final ISubscription subscription) {
-        final IEventType eventType = requireNonNull(subscription).getEventType();
-        if(subscriptionsByEventType.containsKey(eventType)) {
-            subscriptionsByEventType.get(eventType).remove(subscription);
+        pruneCollected();
+        if(subscriptionRegistry.remove(requireNonNull(subscription)) && metrics != null) {
+            metrics.unregister(subscription);
+        }
+    }
+
+    /**
+     * A subscription of a batch, together with the positions of the messages of its
+     * routing key, or {@code null} when it receives the messages of every key.
+     */
+    private static final class BatchTarget {
+
+        private final Subscription subscription;
+
+        private final List<Integer> positions;
+
+        private BatchTarget(final Subscription subscription, final List<Integer> positions) {
+            this.subscription = subscription;
+            this.positions = positions;
         }
     }
 }
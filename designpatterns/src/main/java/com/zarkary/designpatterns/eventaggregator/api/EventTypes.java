@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utility class with the common {@link IEventTypeSelector}(s) and the rule which
+ * decides whether a subscribed {@link IEventType} is interested in the messages of
+ * a published one.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class EventTypes {
+
+    /**
+     * The wildcard, which selects the messages of every {@link IEventType}.
+     */
+    public static final IEventTypeSelector ANY = eventType -> true;
+
+    private EventTypes() {
+    }
+
+    /**
+     * Creates a selector of all the constants of the given enum.
+     *
+     * @param enumType the class of an enum which implements {@link IEventType}
+     * @param <E> the type of the enum
+     * @return the selector of all the constants of the enum
+     */
+    public static <E extends Enum<E> & IEventType> IEventTypeSelector allOf(final Class<E> enumType) {
+        requireNonNull(enumType);
+        return eventType -> eventType instanceof Enum
+                && ((Enum<?>) eventType).getDeclaringClass() == enumType;
+    }
+
+    /**
+     * Decides whether a subscription to the subscribed {@link IEventType} is
+     * interested in the messages of the published one. That is the case when
+     * the subscribed one is a matching {@link IEventTypeSelector}, the published
+     * event type itself, or one of its parents.
+     *
+     * @param subscribed the {@link IEventType} of a subscription
+     * @param published the {@link IEventType} of a published message
+     * @return {@code true} if the subscription is interested in the message
+     */
+    public static boolean matches(final IEventType subscribed, final IEventType published) {
+        if(subscribed instanceof IEventTypeSelector) {
+            return ((IEventTypeSelector) subscribed).matches(published);
+        }
+        for(IEventType eventType = published; eventType != null; eventType = eventType.getParent()) {
+            if(eventType.equals(subscribed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
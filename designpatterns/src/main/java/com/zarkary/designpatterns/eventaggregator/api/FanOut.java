@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks the asynchronous delivery of one {@link IMessage} to a number of
+ * {@link Subscription}(s) and completes its {@link CompletableFuture} when the
+ * last delivery has finished.
+ *
+ * <p>If some deliveries fail, the rest of them are still executed and the
+ * future completes exceptionally with the first failure.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class FanOut {
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final AtomicInteger pending;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Constructor
+     *
+     * @param deliveries the number of deliveries which have to finish
+     */
+    FanOut(final int deliveries) {
+        this.pending = new AtomicInteger(deliveries);
+    }
+
+    /**
+     * @return the future which completes when every delivery has finished
+     */
+    CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    /**
+     * Hands over the delivery of the message to the given subscription to the
+     * passed {@link Executor}.
+     *
+     * @param subscription the receiver of the message
+     * @param message the delivered message
+     * @param executor the {@link Executor} which runs the delivery
+     */
+    @SuppressWarnings("unchecked")
+    void dispatch(final Subscription subscription, final IMessage message, final Executor executor) {
+        try {
+            executor.execute(() -> {
+                Throwable thrown = null;
+                try {
+                    subscription.onAction(message);
+                } catch(Throwable throwable) {
+                    thrown = throwable;
+                }
+                finished(thrown);
+            });
+        } catch(RejectedExecutionException rejected) {
+            finished(rejected);
+        }
+    }
+
+    private void finished(final Throwable thrown) {
+        if(thrown != null) {
+            failure.compareAndSet(null, thrown);
+        }
+        if(pending.decrementAndGet() == 0) {
+            final Throwable firstFailure = failure.get();
+            if(firstFailure == null) {
+                completion.complete(null);
+            } else {
+                completion.completeExceptionally(firstFailure);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * A reusable {@link IMessage}, which carries the {@link IEventType} and the content
+ * passed to {@link EventAggregator#publishTransient(IEventType, Object)} to the subscriptions,
+ * so that no message is allocated per publish.
+ *
+ * <p>Each thread owns a small pool of flyweights, one per nesting level, so an
+ * {@link IAction} can publish again from inside its callback. A flyweight is valid
+ * only during the synchronous dispatching, anyone who wants to keep the message
+ * after that has to copy it with {@link Message#copyOf(IMessage)}.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class FlyweightMessage implements IMessage<Object> {
+
+    private static final ThreadLocal<Pool> POOLS = ThreadLocal.withInitial(Pool::new);
+
+    private final Pool pool;
+    private IEventType eventType;
+    private Object content;
+
+    private FlyweightMessage(final Pool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Takes a flyweight from the pool of the current thread and fills it.
+     *
+     * @param eventType the {@link IEventType} of the message
+     * @param content the content of the message
+     * @return the filled flyweight, which must be released after the dispatching
+     */
+    static FlyweightMessage acquire(final IEventType eventType, final Object content) {
+        final FlyweightMessage message = POOLS.get().next();
+        message.eventType = eventType;
+        message.content = content;
+        return message;
+    }
+
+    /**
+     * Returns this flyweight to the pool of the current thread.
+     */
+    void release() {
+        eventType = null;
+        content = null;
+        pool.depth--;
+    }
+
+    /**
+     * @return the {@link IEventType} of this message
+     */
+    @Override
+    public IEventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * @return the content of this message
+     */
+    @Override
+    public Object getContent() {
+        return content;
+    }
+
+    /**
+     * The flyweights of one thread, indexed by the nesting level of the publishing.
+     */
+    private static final class Pool {
+
+        private FlyweightMessage[] messages = new FlyweightMessage[0];
+        private int depth;
+
+        private FlyweightMessage next() {
+            if(depth == messages.length) {
+                final FlyweightMessage[] grown = new FlyweightMessage[depth + 1];
+                System.arraycopy(messages, 0, grown, 0, depth);
+                grown[depth] = new FlyweightMessage(this);
+                messages = grown;
+            }
+            return messages[depth++];
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link IAction} which is able to process a whole batch of {@link IMessage}(s)
+ * at once. When messages are published with {@link IPublisher#publishAll(java.util.Collection)},
+ * the batch action receives all the messages of its {@link IEventType} as one list,
+ * instead of one call per message.
+ *
+ * <p>This is a <a href="package-summary.html">functional interface</a> whose
+ * functional method is {@link #doBatch(List)}.</p>
+ *
+ * @param <T> the type of {@link IMessage}'s content
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface IBatchAction<T> extends IAction<T> {
+
+    /**
+     * Performs an action based on the given batch of {@link IMessage}(s), in the
+     * order in which they were published.
+     *
+     * @param messages the unmodifiable list of messages
+     */
+    void doBatch(List<IMessage<T>> messages);
+
+    /**
+     * A single published message is processed as a batch of one.
+     *
+     * @param message the {@link IMessage} which carry on valuable
+     *                information for the action's execution.
+     */
+    @Override
+    default void doAction(final IMessage<T> message) {
+        doBatch(Collections.singletonList(message));
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * An {@link IAction} which is able to consume a message, so the subscriptions of
+ * lower priority do not receive it at all. E.g. a validation which rejects a message
+ * consumes it, and the rest of the subscribers never see the invalid message.
+ *
+ * <p>The consumption stops the synchronous dispatching of
+ * {@link IPublisher#publish(IMessage)}, {@link IPublisher#publish(IEventType, Object)}
+ * and {@link IPublisher#publishAll(java.util.Collection)}, where the subscriptions
+ * run one after the other. The asynchronous dispatching delivers the message to every
+ * subscription, since the subscriptions run concurrently there.</p>
+ *
+ * <p>This is a <a href="package-summary.html">functional interface</a> whose
+ * functional method is {@link #consume(IMessage)}.</p>
+ *
+ * @param <T> the type of {@link IMessage}'s content
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface IConsumingAction<T> extends IAction<T> {
+
+    /**
+     * Performs an action based on the given {@link IMessage}, and tells whether the
+     * message has been handled.
+     *
+     * @param message the {@link IMessage} which carry on valuable
+     *                information for the action's execution.
+     * @return {@code true} when the message has been handled, and the subscriptions
+     *         of lower priority must not receive it
+     */
+    boolean consume(IMessage<T> message);
+
+    /**
+     * Performs the action, ignoring whether the message has been handled.
+     *
+     * @param message the {@link IMessage} which carry on valuable
+     *                information for the action's execution.
+     */
+    @Override
+    default void doAction(final IMessage<T> message) {
+        consume(message);
+    }
+}
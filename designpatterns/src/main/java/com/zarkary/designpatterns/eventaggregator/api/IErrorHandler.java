@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.List;
+
+/**
+ * Handles the failures of the {@link IAction}(s) of an {@link EventAggregator}. A
+ * failed {@link IAction} is reported to the error handler, and the message is still
+ * delivered to the rest of the subscribers, so the publisher never has to publish
+ * it again.
+ *
+ * <p>This is a <a href="package-summary.html">functional interface</a> whose
+ * functional method is {@link #onError(ISubscription, IMessage, Throwable)}.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface IErrorHandler {
+
+    /**
+     * Handles the failure of an {@link IAction}. The message may be reused after
+     * this method returns, it has to be copied with {@link Message#copyOf(IMessage)}
+     * in order to be kept.
+     *
+     * @param subscription the subscription whose {@link IAction} failed
+     * @param message the message which the {@link IAction} failed to process
+     * @param error the failure
+     */
+    void onError(ISubscription subscription, IMessage<?> message, Throwable error);
+
+    /**
+     * Handles the failure of an {@link IBatchAction}. By default every message of
+     * the batch is handled as failed.
+     *
+     * @param subscription the subscription whose {@link IBatchAction} failed
+     * @param messages the batch which the {@link IBatchAction} failed to process
+     * @param error the failure
+     */
+    default void onBatchError(final ISubscription subscription, final List<? extends IMessage<?>> messages,
+                              final Throwable error) {
+        for(final IMessage<?> message : messages) {
+            onError(subscription, message, error);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * The contract of an Event Aggregator engine, the HUB between the {@link IPublisher}(s)
+ * and the {@link ISubscriber}(s).
+ *
+ * <p>The {@link Publisher} and the {@link Subscriber} depend only on this interface,
+ * so the engine behind them (e.g. the {@link EventAggregator}, or a ring buffer based
+ * one) can be switched without any change to the code which publishes or
+ * subscribes.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public interface IEventAggregator {
+
+    /**
+     * Publishes the {@link IMessage} to all interested {@link ISubscriber}(s).
+     *
+     * @param message the published {@link IMessage}, must not be {@code null}
+     * @param <T> the data type of {@link IMessage}
+     */
+    <T> void publish(IMessage<T> message);
+
+    /**
+     * Publishes, for a specific {@link IEventType}, the given content to all interested
+     * {@link ISubscriber}(s), without requiring an {@link IMessage} from the caller.
+     *
+     * <p>Engines may pass a reusable {@link IMessage} to the {@link IAction}(s), so
+     * an action which wants to keep the message has to copy it with
+     * {@link Message#copyOf(IMessage)}.</p>
+     *
+     * @param eventType the type of event, must not be {@code null}
+     * @param content the content which is going to be published, must not be {@code null}
+     * @param <T> the content type of content
+     */
+    <T> void publish(IEventType eventType, T content);
+
+    /**
+     * Publishes a batch of {@link IMessage}(s) to all interested {@link ISubscriber}(s).
+     *
+     * <p>By default the messages are published one by one, engines may override it
+     * in order to amortize the routing over the whole batch.</p>
+     *
+     * @param messages the published messages, none of them can be {@code null}
+     */
+    default void publishAll(final Collection<? extends IMessage<?>> messages) {
+        for(final IMessage<?> message : messages) {
+            publish(message);
+        }
+    }
+
+    /**
+     * Publishes the {@link IMessage} without waiting for the subscribers to process it.
+     *
+     * @param message the published {@link IMessage}, must not be {@code null}
+     * @param <T> the data type of {@link IMessage}
+     * @return a future which completes when all the subscribers processed the message
+     */
+    <T> CompletableFuture<Void> publishAsync(IMessage<T> message);
+
+    /**
+     * Whether {@link #publish(IMessage)} returns only after every interested
+     * {@link IAction} has been invoked, so the caller knows which subscribers received
+     * the message as soon as it is published.
+     *
+     * <p>By default an engine is not considered synchronous.</p>
+     *
+     * @return {@code true} when the message is dispatched on the publisher's thread
+     */
+    default boolean isSynchronous() {
+        return false;
+    }
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}.
+     *
+     * @param eventType the type of event
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    <T> ISubscription subscribe(IEventType eventType, IAction<T> action);
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType} and routing key.
+     * The {@link IAction} receives only the messages whose content is {@link IKeyed}
+     * with an equal routing key, without being invoked for the rest of them.
+     *
+     * @param eventType the type of event
+     * @param key the routing key of the subscription
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place for the given key
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    <T> ISubscription subscribeByKey(IEventType eventType, Object key, IAction<T> action);
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}, which is invoked
+     * only for the messages which fulfil the given filter. The filter is evaluated
+     * by the aggregator, during the dispatching, so it must be cheap and side effect free.
+     *
+     * @param eventType the type of event
+     * @param filter the condition which a message has to fulfil
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    <T> ISubscription subscribeFiltered(IEventType eventType, Predicate<? super IMessage<T>> filter,
+                                        IAction<T> action);
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType} with a priority.
+     * A message is delivered to the subscriptions by descending priority, the other
+     * subscribe methods have priority {@code 0}. An {@link IConsumingAction} can
+     * consume a message, so the subscriptions of lower priority do not receive it.
+     *
+     * @param eventType the type of event
+     * @param priority the priority of the subscription, a subscription of higher
+     *        priority receives a message first
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    <T> ISubscription subscribeWithPriority(IEventType eventType, int priority, IAction<T> action);
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}, which first
+     * receives the recent messages which the engine retains for the event type, and
+     * then the live ones, without a gap and without a duplicate between them. An
+     * engine which retains nothing only subscribes the {@link IAction}.
+     *
+     * @param eventType the type of event
+     * @param action the {@link IAction} which will be invoked for the retained and
+     *        the published messages of the {@link IEventType}
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    <T> ISubscription subscribeWithReplay(IEventType eventType, IAction<T> action);
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}, which is referred
+     * weakly. So the subscription does not keep the {@link IAction} alive, and it is
+     * pruned once the {@link IAction} has been collected, even if it is never
+     * unsubscribed.
+     *
+     * @param eventType the type of event
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place, while it is alive
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    <T> ISubscription subscribeWeakly(IEventType eventType, IAction<T> action);
+
+    /**
+     * Unsubscribe the given {@link ISubscription}.
+     *
+     * @param subscription token which will be unsubscribed
+     */
+    void unsubscribe(ISubscription subscription);
+}
@@ -19,8 +19,37 @@ package com.zarkary.designpatterns.eventaggregator.api;
 /**
  * Represents the type of an Event.
  *
+ * <p>Event types can form a hierarchy, by returning their parent from
+ * {@link #getParent()}. A subscription to a parent event type receives also
+ * the messages of all its descendants.</p>
+ *
+ * <pre>{@code
+ * public enum Event implements IEventType {
+ *     MOVEMENT(null), LOCATION_CHANGED(MOVEMENT), AVAILABILITY_CHANGED(MOVEMENT);
+ *
+ *     private final Event parent;
+ *
+ *     Event(Event parent) {
+ *         this.parent = parent;
+ *     }
+ *
+ *     public IEventType getParent() {
+ *         return parent;
+ *     }
+ * }
+ * }</pre>
+ *
  * @author Ioannis Katsatos
  * @since 11.04.2018
+ *
+ * @see EventTypes
  */
 public interface IEventType {
+
+    /**
+     * @return the parent of this event type, or {@code null} if it has none
+     */
+    default IEventType getParent() {
+        return null;
+    }
 }
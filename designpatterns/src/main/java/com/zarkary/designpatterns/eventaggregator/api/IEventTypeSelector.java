@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * An {@link IEventType} which stands for a group of event types, e.g. all the
+ * constants of an enum, or every event type. Subscribing to a selector means
+ * subscribing to every event type which it matches.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ *
+ * @see EventTypes
+ */
+@FunctionalInterface
+public interface IEventTypeSelector extends IEventType {
+
+    /**
+     * @param eventType the {@link IEventType} of a published message
+     * @return {@code true} if the messages of the given event type are selected
+     */
+    boolean matches(IEventType eventType);
+}
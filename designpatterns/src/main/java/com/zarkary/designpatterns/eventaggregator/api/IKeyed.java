@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * The content of an {@link IMessage} which carries a routing key. A message with
+ * keyed content is delivered only to the subscriptions of its key (see
+ * {@link IEventAggregator#subscribeByKey(IEventType, Object, IAction)}), and to the
+ * subscriptions without a key.
+ *
+ * <p>The keys are compared with {@link Object#equals(Object)}, so they must have a
+ * consistent {@link Object#hashCode()}.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface IKeyed {
+
+    /**
+     * @return the routing key of this content, or {@code null} when the content
+     *         is not addressed to any specific key
+     */
+    Object getRoutingKey();
+}
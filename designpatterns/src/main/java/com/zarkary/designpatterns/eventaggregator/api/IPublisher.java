@@ -16,6 +16,10 @@
 
 package com.zarkary.designpatterns.eventaggregator.api;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * In the Publisher/Subscriber pattern a publisher (entity responsible for
  * publishing a message) publishes a message and there are one or more
@@ -41,9 +45,77 @@ public interface IPublisher {
      * This method is able to publish, for a specific {@link IEventType}, different types
      * of content.
      *
+     * <p>The subscribers may receive a reusable {@link IMessage}, which is valid only
+     * while their {@link IAction} is executed.</p>
+     *
      * @param eventType the type of event
      * @param content the content which is going to be published
      * @param <T> the content type of content
      */
     <T> void publish(IEventType eventType, T content);
-}
\ No newline at end of file
+
+    /**
+     * Publishes a batch of {@link IMessage}(s) at once. The subscribers of each
+     * {@link IEventType} get the messages of that type in the given order, an
+     * {@link IBatchAction} as one list.
+     *
+     * <p>By default the messages are published one by one, publishers which are able
+     * to publish a whole batch override it.</p>
+     *
+     * @param messages the messages which are going to be published
+     */
+    default void publishAll(final Collection<? extends IMessage<?>> messages) {
+        for(final IMessage<?> message : messages) {
+            publish(message);
+        }
+    }
+
+    /**
+     * Publishes a batch of {@link IMessage}(s) at once.
+     *
+     * @param messages the messages which are going to be published
+     * @see #publishAll(Collection)
+     */
+    default void publishAll(final IMessage<?>... messages) {
+        publishAll(Arrays.asList(messages));
+    }
+
+    /**
+     * Publishes the {@link IMessage} without waiting for the subscribers to
+     * process it.
+     *
+     * <p>By default the message is published synchronously, and the returned future
+     * is already complete, publishers which are able to dispatch asynchronously
+     * override it.</p>
+     *
+     * @param message the message which is going to be published
+     * @param <T> the content type of message
+     * @return a future which completes when all the subscribers processed the message
+     */
+    default <T> CompletableFuture<Void> publishAsync(final IMessage<T> message) {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        try {
+            publish(message);
+            completion.complete(null);
+        } catch(RuntimeException failure) {
+            completion.completeExceptionally(failure);
+        }
+        return completion;
+    }
+
+    /**
+     * Publishes, for a specific {@link IEventType}, the given content without
+     * waiting for the subscribers to process it.
+     *
+     * <p>By default the content is wrapped in a {@link Message}, and it is published
+     * by {@link #publishAsync(IMessage)}.</p>
+     *
+     * @param eventType the type of event
+     * @param content the content which is going to be published
+     * @param <T> the content type of content
+     * @return a future which completes when all the subscribers processed the content
+     */
+    default <T> CompletableFuture<Void> publishAsync(final IEventType eventType, final T content) {
+        return publishAsync(new Message<>(eventType, content));
+    }
+}
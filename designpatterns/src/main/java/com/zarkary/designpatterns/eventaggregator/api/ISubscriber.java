@@ -16,6 +16,11 @@
 
 package com.zarkary.designpatterns.eventaggregator.api;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
 /**
  * A subscriber captures messages of the {@link IEventType} it is interested in.
  *
@@ -44,6 +49,131 @@ public interface ISubscriber {
      */
     <T> void subscribe(IEventType eventType, IAction<T> action);
 
+    /**
+     * Subscribes an {@link IEventType} which is interested in, only for the messages
+     * of the given routing key (see {@link IKeyed}), and bind it with the
+     * {@link IAction} which will be executed.
+     *
+     * <p>By default the action is subscribed with {@link #subscribe(IEventType, IAction)}
+     * and skips the messages of the other keys, subscribers which are able to route
+     * by key override it.</p>
+     *
+     * @param eventType the {@link IEventType} which the Subscriber is interested in
+     * @param key       the routing key of the messages which the Subscriber is interested in
+     * @param action    the {@link IAction} which will be executed when an event of
+     *                  the given IEventType take place for the given key
+     * @param <T> the type of {@link IAction} content
+     */
+    default <T> void subscribeByKey(final IEventType eventType, final Object key, final IAction<T> action) {
+        requireNonNull(key);
+        requireNonNull(action);
+        subscribe(eventType, (IAction<T>) message -> {
+            final T content = message.getContent();
+            if(content instanceof IKeyed && key.equals(((IKeyed) content).getRoutingKey())) {
+                action.doAction(message);
+            }
+        });
+    }
+
+    /**
+     * Subscribes an {@link IEventType} which is interested in, and bind it with the
+     * {@link IAction} which will be executed with the given priority, before the
+     * actions of lower priority. An {@link IConsumingAction} can consume a message,
+     * so the actions of lower priority do not receive it.
+     *
+     * <p>By default only the priority {@code 0} is supported, and the action is
+     * subscribed with {@link #subscribe(IEventType, IAction)}, subscribers which are
+     * able to order their actions override it.</p>
+     *
+     * @param eventType the {@link IEventType} which the Subscriber is interested in
+     * @param priority  the priority of the action, the other subscribe methods have
+     *                  priority {@code 0}
+     * @param action    the {@link IAction} which will be executed when an event of
+     *                  the given IEventType take place
+     * @param <T> the type of {@link IAction} content
+     * @throws UnsupportedOperationException when the priority is not {@code 0} and the
+     *         subscriber does not support priorities
+     */
+    default <T> void subscribeWithPriority(final IEventType eventType, final int priority,
+                                           final IAction<T> action) {
+        if(priority != 0) {
+            throw new UnsupportedOperationException("The subscriber does not support priorities.");
+        }
+        subscribe(eventType, action);
+    }
+
+    /**
+     * Subscribes an {@link IEventType} which is interested in, and bind it with the
+     * {@link IAction} which will be executed first for the recent messages which the
+     * {@link IEventAggregator} retains and then for the published ones.
+     *
+     * <p>By default it is not supported, subscribers which are able to replay the
+     * retained messages override it.</p>
+     *
+     * @param eventType the {@link IEventType} which the Subscriber is interested in
+     * @param action    the {@link IAction} which will be executed for the retained
+     *                  and the published events of the given IEventType
+     * @param <T> the type of {@link IAction} content
+     * @throws UnsupportedOperationException when the subscriber does not support replay
+     */
+    default <T> void subscribeWithReplay(final IEventType eventType, final IAction<T> action) {
+        throw new UnsupportedOperationException("The subscriber does not support replay.");
+    }
+
+    /**
+     * Subscribes an {@link IEventType} which is interested in, and bind it with an
+     * {@link IAction} which receives only the newest message per routing key (see
+     * {@link IKeyed}). While the action is busy, or for up to the given staleness,
+     * the pending messages of the same key are conflated.
+     *
+     * <p>The capacity limits the number of the pending keys. When all of them are
+     * pending, a message of a new key is dropped, as in
+     * {@link OverflowPolicy#CONFLATE_LATEST_PER_KEY}, while the messages of the
+     * pending keys still replace the older ones.</p>
+     *
+     * <p>By default the action is subscribed with {@link #subscribe(IEventType, IAction)}
+     * behind a conflating {@link Mailbox}. The messages without a routing key are
+     * conflated per event type.</p>
+     *
+     * @param eventType    the {@link IEventType} which the Subscriber is interested in
+     * @param action       the {@link IAction} which will be executed for the newest
+     *                     event of every routing key
+     * @param executor     the {@link ScheduledExecutorService} which runs the action
+     * @param capacity     the maximum number of pending keys
+     * @param maxStaleness how long a pending message waits for newer ones, or {@code 0}
+     *                     when it is delivered as soon as the action is free
+     * @param unit         the {@link TimeUnit} of the maximum staleness
+     * @param <T> the type of {@link IAction} content
+     */
+    default <T> void subscribeConflated(final IEventType eventType, final IAction<T> action,
+                                        final ScheduledExecutorService executor, final int capacity,
+                                        final long maxStaleness, final TimeUnit unit) {
+        subscribe(eventType, new Mailbox<>(action, executor, capacity, (IMessage<T> message) -> {
+            final Object key = DispatchTable.routingKey(message.getContent());
+            return key != null ? key : message.getEventType();
+        }, maxStaleness, unit));
+    }
+
+    /**
+     * Subscribes an {@link IEventType} which is interested in, and bind it weakly with
+     * the {@link IAction} which will be executed. The {@link IEventAggregator} does
+     * not keep the action alive, so the subscription is pruned once the action has
+     * been collected, even if the Subscriber is never disposed.
+     *
+     * <p>By default it is not supported, subscribers whose engine is able to prune the
+     * collected actions override it.</p>
+     *
+     * @param eventType the {@link IEventType} which the Subscriber is interested in
+     * @param action    the {@link IAction} which will be executed when an event of
+     *                  the given IEventType take place, while it is alive
+     * @param <T> the type of {@link IAction} content
+     * @throws UnsupportedOperationException when the subscriber does not support weak
+     *         subscriptions
+     */
+    default <T> void subscribeWeakly(final IEventType eventType, final IAction<T> action) {
+        throw new UnsupportedOperationException("The subscriber does not support weak subscriptions.");
+    }
+
     /**
      * Unsubscribe an {@link IEventType} for which the Subscriber is not interested
      * any more.
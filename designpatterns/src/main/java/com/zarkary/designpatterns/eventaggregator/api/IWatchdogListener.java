@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * Receives the decisions of a {@link Watchdog}. Every method has an empty default
+ * implementation, so a listener overrides only the ones it is interested in.
+ *
+ * <p>The methods are called on the thread which executed the slow {@link IAction},
+ * so they have to return quickly.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public interface IWatchdogListener {
+
+    /**
+     * An execution of the {@link IAction} exceeded the latency budget.
+     *
+     * @param subscription the subscription of the slow {@link IAction}
+     * @param nanos the duration of the execution, in nanoseconds
+     */
+    default void onSlowAction(final ISubscription subscription, final long nanos) {
+    }
+
+    /**
+     * The {@link IAction} is moved to the slow lane.
+     *
+     * @param subscription the isolated subscription
+     */
+    default void onIsolated(final ISubscription subscription) {
+    }
+
+    /**
+     * The {@link IAction} is not executed any more.
+     *
+     * @param subscription the suspended subscription
+     */
+    default void onSuspended(final ISubscription subscription) {
+    }
+}
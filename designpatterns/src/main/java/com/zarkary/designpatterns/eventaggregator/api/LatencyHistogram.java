@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, in nanoseconds, in the spirit of the HDR
+ * histogram. The values are counted in logarithmic buckets, each power of two split
+ * in {@value #SUB_BUCKETS} linear sub-buckets, so every recorded value is kept with a
+ * relative error below 12.5%, in a fixed array of less than 500 counters.
+ *
+ * <p>Every counter is a {@link LongAdder}, so recording a value never locks, and
+ * the threads which record similar latencies do not contend on the same cache line:
+ * a contended counter spreads its increments over cells of its own, which are
+ * allocated the first time it is contended and summed when it is read. Reading a
+ * percentile scans the counters, without stopping the recording threads.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The values below this limit have a bucket of their own.
+     */
+    private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+
+    private static final int LINEAR_MAGNITUDE = SUB_BUCKET_BITS + 1;
+
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - LINEAR_MAGNITUDE) * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKET_COUNT];
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructor
+     */
+    public LatencyHistogram() {
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency, the negative values are recorded as zero.
+     *
+     * @param nanos the recorded latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(nanos, 0);
+        counts[bucketOf(value)].increment();
+        max.accumulate(value);
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        long count = 0;
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts[i].sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return the highest recorded value, or {@code 0} when nothing is recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile the requested percentile, between {@code 0} and {@code 100}
+     * @return the upper bound of the bucket which contains the given percentile,
+     *         never higher than the highest recorded value, or {@code 0} when
+     *         nothing is recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if(percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+        }
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts[i].sum();
+            count += snapshot[i];
+        }
+        if(count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if(seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int bucketOf(final long value) {
+        if(value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (magnitude - LINEAR_MAGNITUDE) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(final int bucket) {
+        if(bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        final int magnitude = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_MAGNITUDE;
+        final int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        final long width = 1L << (magnitude - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) * width) + width - 1;
+    }
+}
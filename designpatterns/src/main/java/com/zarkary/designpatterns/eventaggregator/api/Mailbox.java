@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded mailbox in front of an {@link IAction}. The mailbox itself is the
+ * {@link IAction} which is subscribed, it only queues the received messages,
+ * while the wrapped action processes them one at a time on the given
+ * {@link Executor}.
+ *
+ * <p>When the mailbox is full the {@link OverflowPolicy} decides what happens,
+ * so a slow subscriber can only delay or lose its own messages and never makes
+ * the memory grow without limit.</p>
+ *
+ * <p>A conflating mailbox keeps only the newest pending message per key, so while
+ * the action is busy a burst of updates of the same key costs a single invocation.
+ * With a maximum staleness the mailbox waits up to that long before it delivers
+ * the first pending message, in order to conflate the updates of a whole tick,
+ * e.g. for a subscriber which refreshes a UI.</p>
+ *
+ * <pre>{@code
+ * subscriber.subscribe(Event.LOCATION_CHANGED,
+ *         new Mailbox<>(action, executor, 1024, OverflowPolicy.DROP_OLDEST));
+ * }</pre>
+ *
+ * @param <T> the type of {@link IMessage}'s content
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class Mailbox<T> implements IAction<T> {
+
+    private final IAction<T> action;
+    private final Executor executor;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final Function<IMessage<T>, ?> keyExtractor;
+    private final ScheduledExecutorService scheduler;
+    private final long maxStalenessNanos;
+
+    private final BlockingQueue<IMessage<T>> queue;
+    private final Map<Object, IMessage<T>> latestByKey;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+
+    /**
+     * Constructor of a mailbox with a queue policy.
+     *
+     * @param action the {@link IAction} which processes the messages
+     * @param executor the {@link Executor} which runs the action
+     * @param capacity the maximum number of pending messages
+     * @param policy what happens when the mailbox is full, one of {@link OverflowPolicy#BLOCK},
+     *               {@link OverflowPolicy#DROP_NEWEST} or {@link OverflowPolicy#DROP_OLDEST}
+     */
+    public Mailbox(final IAction<T> action, final Executor executor, final int capacity,
+                   final OverflowPolicy policy) {
+        this(action, executor, capacity, policy, null, null, 0);
+        if(policy == OverflowPolicy.CONFLATE_LATEST_PER_KEY) {
+            throw new IllegalArgumentException("A conflating mailbox needs a key extractor.");
+        }
+    }
+
+    /**
+     * Constructor of a mailbox which keeps only the latest pending message per key,
+     * with policy {@link OverflowPolicy#CONFLATE_LATEST_PER_KEY}.
+     *
+     * @param action the {@link IAction} which processes the messages
+     * @param executor the {@link Executor} which runs the action
+     * @param capacity the maximum number of pending keys
+     * @param keyExtractor extracts the key of a message
+     */
+    public Mailbox(final IAction<T> action, final Executor executor, final int capacity,
+                   final Function<IMessage<T>, ?> keyExtractor) {
+        this(action, executor, capacity, OverflowPolicy.CONFLATE_LATEST_PER_KEY, requireNonNull(keyExtractor),
+                null, 0);
+    }
+
+    /**
+     * Constructor of a mailbox which keeps only the latest pending message per key,
+     * with policy {@link OverflowPolicy#CONFLATE_LATEST_PER_KEY}, and which delivers
+     * the pending messages at most the given staleness after the first of them has
+     * been received.
+     *
+     * @param action the {@link IAction} which processes the messages
+     * @param executor the {@link ScheduledExecutorService} which waits for the maximum
+     *                 staleness and runs the action
+     * @param capacity the maximum number of pending keys
+     * @param keyExtractor extracts the key of a message
+     * @param maxStaleness how long the first pending message waits for newer ones, or
+     *                     {@code 0} when it is delivered as soon as the action is free
+     * @param unit the {@link TimeUnit} of the maximum staleness
+     */
+    public Mailbox(final IAction<T> action, final ScheduledExecutorService executor, final int capacity,
+                   final Function<IMessage<T>, ?> keyExtractor, final long maxStaleness, final TimeUnit unit) {
+        this(action, executor, capacity, OverflowPolicy.CONFLATE_LATEST_PER_KEY, requireNonNull(keyExtractor),
+                executor, requireNonNull(unit).toNanos(maxStaleness));
+    }
+
+    private Mailbox(final IAction<T> action, final Executor executor, final int capacity,
+                    final OverflowPolicy policy, final Function<IMessage<T>, ?> keyExtractor,
+                    final ScheduledExecutorService scheduler, final long maxStalenessNanos) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        if(maxStalenessNanos < 0) {
+            throw new IllegalArgumentException("The staleness cannot be negative.");
+        }
+        this.action = requireNonNull(action);
+        this.executor = requireNonNull(executor);
+        this.capacity = capacity;
+        this.policy = requireNonNull(policy);
+        this.keyExtractor = keyExtractor;
+        this.scheduler = scheduler;
+        this.maxStalenessNanos = maxStalenessNanos;
+        if(policy == OverflowPolicy.CONFLATE_LATEST_PER_KEY) {
+            this.queue = null;
+            this.latestByKey = new LinkedHashMap<>();
+        } else {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.latestByKey = null;
+        }
+    }
+
+    /**
+     * Queues the message, according to the {@link OverflowPolicy}, and makes sure
+     * that the wrapped {@link IAction} will process it.
+     *
+     * @param message the received {@link IMessage}
+     */
+    @Override
+    public void doAction(final IMessage<T> message) {
+        if(enqueue(Message.copyOf(message))) {
+            schedule();
+        }
+    }
+
+    /**
+     * @return the maximum number of pending messages (or keys, for a conflating mailbox)
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the {@link OverflowPolicy} of this mailbox
+     */
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @param unit the {@link TimeUnit} of the result
+     * @return how long the first pending message waits for newer ones, or {@code 0}
+     */
+    public long getMaxStaleness(final TimeUnit unit) {
+        return unit.convert(maxStalenessNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of messages which are waiting to be processed
+     */
+    public int getPendingCount() {
+        if(queue != null) {
+            return queue.size();
+        }
+        synchronized(latestByKey) {
+            return latestByKey.size();
+        }
+    }
+
+    /**
+     * @return how many times a message found the mailbox full
+     */
+    public long getOverflowCount() {
+        return overflows.sum();
+    }
+
+    /**
+     * @return how many messages have been dropped, without being processed
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return how many pending messages have been replaced by a newer one with the same key
+     */
+    public long getConflatedCount() {
+        return conflated.sum();
+    }
+
+    private boolean enqueue(final IMessage<T> message) {
+        switch(policy) {
+            case BLOCK:
+                if(!queue.offer(message)) {
+                    overflows.increment();
+                    try {
+                        queue.put(message);
+                    } catch(InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        dropped.increment();
+                        return false;
+                    }
+                }
+                return true;
+            case DROP_NEWEST:
+                if(!queue.offer(message)) {
+                    overflows.increment();
+                    dropped.increment();
+                    return false;
+                }
+                return true;
+            case DROP_OLDEST:
+                while(!queue.offer(message)) {
+                    overflows.increment();
+                    if(queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+                return true;
+            default:
+                final Object key = keyExtractor.apply(message);
+                synchronized(latestByKey) {
+                    if(latestByKey.containsKey(key)) {
+                        latestByKey.put(key, message);
+                        conflated.increment();
+                        return true;
+                    }
+                    if(latestByKey.size() >= capacity) {
+                        overflows.increment();
+                        dropped.increment();
+                        return false;
+                    }
+                    latestByKey.put(key, message);
+                    return true;
+                }
+        }
+    }
+
+    private IMessage<T> poll() {
+        if(queue != null) {
+            return queue.poll();
+        }
+        synchronized(latestByKey) {
+            final Iterator<IMessage<T>> pending = latestByKey.values().iterator();
+            if(!pending.hasNext()) {
+                return null;
+            }
+            final IMessage<T> message = pending.next();
+            pending.remove();
+            return message;
+        }
+    }
+
+    private void schedule() {
+        if(scheduled.compareAndSet(false, true)) {
+            try {
+                if(maxStalenessNanos == 0) {
+                    executor.execute(this::drain);
+                } else {
+                    scheduler.schedule(this::drain, maxStalenessNanos, TimeUnit.NANOSECONDS);
+                }
+            } catch(RuntimeException rejected) {
+                scheduled.set(false);
+                throw rejected;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            IMessage<T> message;
+            while((message = poll()) != null) {
+                action.doAction(message);
+            }
+        } finally {
+            scheduled.set(false);
+            if(getPendingCount() > 0) {
+                schedule();
+            }
+        }
+    }
+}
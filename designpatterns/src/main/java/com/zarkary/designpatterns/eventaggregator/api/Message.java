@@ -57,4 +57,21 @@ public class Message<T> implements IMessage<T> {
     public T getContent() {
         return content;
     }
+
+    /**
+     * Returns an immutable copy of the given {@link IMessage}, which can be kept
+     * after the dispatching has finished. A {@link Message} is already immutable,
+     * so it is returned as it is.
+     *
+     * @param message the message which is copied
+     * @param <T> the data type of content
+     * @return the immutable copy of the message
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Message<T> copyOf(final IMessage<T> message) {
+        if(message instanceof Message) {
+            return (Message<T>) message;
+        }
+        return new Message<>(message.getEventType(), message.getContent());
+    }
 }
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the {@link DispatchMetrics} of an {@link EventAggregator}.
+ * The rates are computed from two snapshots, as the difference of their counters
+ * divided by the difference of their {@link #getTimestamp()}.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class MetricsSnapshot {
+
+    private final long timestamp;
+    private final Map<IEventType, EventTypeStatistics> eventTypes;
+    private final List<SubscriptionStatistics> subscriptions;
+    private final Map<String, Long> gauges;
+
+    MetricsSnapshot(final long timestamp, final Map<IEventType, EventTypeStatistics> eventTypes,
+                    final List<SubscriptionStatistics> subscriptions, final Map<String, Long> gauges) {
+        this.timestamp = timestamp;
+        this.eventTypes = eventTypes;
+        this.subscriptions = subscriptions;
+        this.gauges = gauges;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} when the snapshot was taken
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the statistics of every published {@link IEventType}
+     */
+    public Map<IEventType, EventTypeStatistics> getEventTypes() {
+        return eventTypes;
+    }
+
+    /**
+     * @return the statistics of every registered subscription
+     */
+    public List<SubscriptionStatistics> getSubscriptions() {
+        return subscriptions;
+    }
+
+    /**
+     * @return the values of the registered gauges, by name
+     */
+    public Map<String, Long> getGauges() {
+        return gauges;
+    }
+
+    /**
+     * The publishing statistics of a single {@link IEventType}.
+     */
+    public static final class EventTypeStatistics {
+
+        private final IEventType eventType;
+        private final long published;
+        private final long deliveries;
+        private final long maxFanOut;
+
+        EventTypeStatistics(final IEventType eventType, final long published, final long deliveries,
+                            final long maxFanOut) {
+            this.eventType = eventType;
+            this.published = published;
+            this.deliveries = deliveries;
+            this.maxFanOut = maxFanOut;
+        }
+
+        /**
+         * @return the {@link IEventType}
+         */
+        public IEventType getEventType() {
+            return eventType;
+        }
+
+        /**
+         * @return the number of published messages
+         */
+        public long getPublished() {
+            return published;
+        }
+
+        /**
+         * @return the number of deliveries to subscriptions, of all the published messages
+         */
+        public long getDeliveries() {
+            return deliveries;
+        }
+
+        /**
+         * @return the highest number of subscriptions which received a single message
+         */
+        public long getMaxFanOut() {
+            return maxFanOut;
+        }
+
+        /**
+         * @return the average number of subscriptions which received a message
+         */
+        public double getMeanFanOut() {
+            return published == 0 ? 0 : (double) deliveries / published;
+        }
+    }
+
+    /**
+     * The statistics of a single subscription. When its {@link IAction} is a
+     * {@link Mailbox}, they include also the depth and the drops of the mailbox.
+     */
+    public static final class SubscriptionStatistics {
+
+        private final ISubscription subscription;
+        private final long invocations;
+        private final long failures;
+        private final long latency50;
+        private final long latency99;
+        private final long latency999;
+        private final long maxLatency;
+        private final long pending;
+        private final long dropped;
+
+        SubscriptionStatistics(final Subscription subscription, final SubscriptionMetrics metrics) {
+            final LatencyHistogram latency = metrics.getLatency();
+            this.subscription = subscription;
+            this.invocations = latency.getCount();
+            this.failures = metrics.getFailures();
+            this.latency50 = latency.getValueAtPercentile(50);
+            this.latency99 = latency.getValueAtPercentile(99);
+            this.latency999 = latency.getValueAtPercentile(99.9);
+            this.maxLatency = latency.getMax();
+            final IAction action = subscription.getAction();
+            this.pending = action instanceof Mailbox ? ((Mailbox) action).getPendingCount() : 0;
+            this.dropped = action instanceof Mailbox ? ((Mailbox) action).getDroppedCount() : 0;
+        }
+
+        /**
+         * @return the subscription
+         */
+        public ISubscription getSubscription() {
+            return subscription;
+        }
+
+        /**
+         * @return the number of executions of the {@link IAction}
+         */
+        public long getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * @return the number of executions of the {@link IAction} which threw an exception
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return the median latency of the {@link IAction}, in nanoseconds
+         */
+        public long getLatency50() {
+            return latency50;
+        }
+
+        /**
+         * @return the 99th percentile of the latency of the {@link IAction}, in nanoseconds
+         */
+        public long getLatency99() {
+            return latency99;
+        }
+
+        /**
+         * @return the 99.9th percentile of the latency of the {@link IAction}, in nanoseconds
+         */
+        public long getLatency999() {
+            return latency999;
+        }
+
+        /**
+         * @return the highest latency of the {@link IAction}, in nanoseconds
+         */
+        public long getMaxLatency() {
+            return maxLatency;
+        }
+
+        /**
+         * @return the messages which wait in the {@link Mailbox} of the subscription
+         */
+        public long getPending() {
+            return pending;
+        }
+
+        /**
+         * @return the messages which the {@link Mailbox} of the subscription dropped
+         */
+        public long getDropped() {
+            return dropped;
+        }
+    }
+}
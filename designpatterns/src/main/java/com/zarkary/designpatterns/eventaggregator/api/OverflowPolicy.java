@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * What a {@link Mailbox} does with a new {@link IMessage}, when it is full.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The publisher waits until there is space in the mailbox.
+     */
+    BLOCK,
+
+    /**
+     * The new message is dropped.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The oldest pending message is dropped, in order to make space for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * A pending message is replaced from a newer one with the same key, so the
+     * subscriber gets only the latest message per key. The capacity limits the
+     * number of distinct pending keys, a message with a new key is dropped when
+     * the mailbox is full.
+     */
+    CONFLATE_LATEST_PER_KEY
+}
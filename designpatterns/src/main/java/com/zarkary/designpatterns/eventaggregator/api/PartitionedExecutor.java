@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link Executor} with a fixed number of lanes, each of them served by a single
+ * thread. When it is used for the asynchronous dispatching of an {@link EventAggregator},
+ * every message is assigned to a lane by its routing key (see {@link IKeyed}), so the
+ * messages of the same key are processed in the published order, while the messages
+ * of different keys are processed in parallel.
+ *
+ * <p>The messages without a routing key are assigned by their {@link IEventType},
+ * so they keep their order per event type.</p>
+ *
+ * <p>Every lane keeps a few metrics, its queue size, the highest queue size which
+ * was observed on submission, and the number of executed tasks, which show whether
+ * the load is spread evenly over the lanes.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class PartitionedExecutor implements Executor, AutoCloseable {
+
+    private final Lane[] lanes;
+
+    private final AtomicInteger nextLane = new AtomicInteger();
+
+    /**
+     * Constructor, with unbounded lanes
+     *
+     * @param laneCount the number of lanes, e.g. the number of available processors
+     */
+    public PartitionedExecutor(final int laneCount) {
+        this(laneCount, Integer.MAX_VALUE, "partition");
+    }
+
+    /**
+     * Constructor
+     *
+     * @param laneCount the number of lanes, e.g. the number of available processors
+     * @param laneCapacity the maximum number of queued tasks per lane, more tasks are
+     *                     rejected with a {@link RejectedExecutionException}
+     * @param name the prefix of the names of the lane threads
+     */
+    public PartitionedExecutor(final int laneCount, final int laneCapacity, final String name) {
+        if(laneCount < 1) {
+            throw new IllegalArgumentException("The lane count must be positive.");
+        }
+        if(laneCapacity < 1) {
+            throw new IllegalArgumentException("The lane capacity must be positive.");
+        }
+        this.lanes = new Lane[laneCount];
+        for(int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(laneCapacity, name + "-" + i);
+        }
+    }
+
+    /**
+     * Executes a task which has no key, on the lanes in turn.
+     *
+     * @param task the executed task
+     */
+    @Override
+    public void execute(final Runnable task) {
+        lanes[Math.floorMod(nextLane.getAndIncrement(), lanes.length)].execute(task);
+    }
+
+    /**
+     * Executes the task on the lane of the given key, after all the tasks which
+     * were submitted before for the same lane.
+     *
+     * @param key the key of the task
+     * @param task the executed task
+     */
+    public void execute(final Object key, final Runnable task) {
+        lane(key).execute(task);
+    }
+
+    /**
+     * @param key the key of a task
+     * @return the index of the lane which executes the tasks of the given key
+     */
+    public int laneOf(final Object key) {
+        final int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    /**
+     * @param key the key of a task
+     * @return the {@link Executor} of the lane of the given key
+     */
+    Executor lane(final Object key) {
+        return lanes[laneOf(key)];
+    }
+
+    /**
+     * @return the number of lanes
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * @param lane the index of the lane
+     * @return the number of tasks which wait in the queue of the lane
+     */
+    public int getQueueSize(final int lane) {
+        return lanes[lane].executor.getQueue().size();
+    }
+
+    /**
+     * @param lane the index of the lane
+     * @return the highest queue size of the lane, observed when a task was submitted
+     */
+    public long getHighWaterMark(final int lane) {
+        return lanes[lane].highWaterMark.get();
+    }
+
+    /**
+     * @param lane the index of the lane
+     * @return the number of tasks which the lane has executed
+     */
+    public long getExecutedCount(final int lane) {
+        return lanes[lane].executed.sum();
+    }
+
+    /**
+     * Stops accepting tasks and waits until all the already queued tasks are executed.
+     */
+    @Override
+    public void close() {
+        for(final Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+        boolean interrupted = false;
+        for(final Lane lane : lanes) {
+            while(true) {
+                try {
+                    if(lane.executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                        break;
+                    }
+                } catch(InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Lane implements Executor {
+
+        private final ThreadPoolExecutor executor;
+        private final LongAccumulator highWaterMark = new LongAccumulator(Math::max, 0);
+        private final LongAdder executed = new LongAdder();
+
+        private Lane(final int capacity, final String name) {
+            final BlockingQueue<Runnable> queue = capacity == Integer.MAX_VALUE
+                    ? new LinkedBlockingQueue<>()
+                    : new ArrayBlockingQueue<>(capacity);
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue,
+                    DispatchExecutors.daemonThreads(name));
+        }
+
+        @Override
+        public void execute(final Runnable task) {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    executed.increment();
+                }
+            });
+            highWaterMark.accumulate(executor.getQueue().size());
+        }
+    }
+}
@@ -16,6 +16,10 @@
 
 package com.zarkary.designpatterns.eventaggregator.api;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -29,15 +33,15 @@ import static java.util.Objects.requireNonNull;
  */
 public class Publisher implements IPublisher {
 
-    private final EventAggregator eventAggregator;
+    private final IEventAggregator eventAggregator;
 
     /**
      * Constructor
      *
-     * @param eventAggregator the {@link EventAggregator} to which the
+     * @param eventAggregator the {@link IEventAggregator} to which the
      *              {@link IPublisher} will publish its {@link IMessage}(s)
      */
-    public Publisher(final EventAggregator eventAggregator) {
+    public Publisher(final IEventAggregator eventAggregator) {
         this.eventAggregator = requireNonNull(eventAggregator);
     }
 
@@ -57,13 +61,64 @@ public class Publisher implements IPublisher {
      * The Publisher publishes, to the {@link EventAggregator}, the content which
      * corresponds to a specific {@link IEventType} type.
      *
+     * <p>The event type and the content are passed straight to the engine, so no
+     * {@link IMessage} is allocated for them.</p>
+     *
      * @param eventType the type of event
      * @param content the content which are going to published
      * @param <T> the type of content
      */
     @Override
     public <T> void publish(final IEventType eventType, final T content) {
-        final Message<T> message = new Message<>(eventType, content);
-        publish(message);
+        eventAggregator.publish(requireNonNull(eventType), requireNonNull(content));
+    }
+
+    /**
+     * The Publisher publishes a batch of {@link IMessage}(s) to the {@link EventAggregator}
+     * by calling its publishAll method.
+     *
+     * @param messages the messages which are going to be published
+     */
+    @Override
+    public void publishAll(final Collection<? extends IMessage<?>> messages) {
+        eventAggregator.publishAll(messages);
+    }
+
+    /**
+     * The Publisher publishes a batch of {@link IMessage}(s) to the {@link EventAggregator}
+     * by calling its publishAll method.
+     *
+     * @param messages the messages which are going to be published
+     */
+    @Override
+    public void publishAll(final IMessage<?>... messages) {
+        publishAll(Arrays.asList(messages));
+    }
+
+    /**
+     * The Publisher publishes asynchronously a {@link IMessage} to the
+     * {@link EventAggregator} by calling its publishAsync method.
+     *
+     * @param message the message which is going to be published
+     * @param <T> the type of message
+     * @return a future which completes when all the subscribers processed the message
+     */
+    @Override
+    public <T> CompletableFuture<Void> publishAsync(final IMessage<T> message) {
+        return eventAggregator.publishAsync(message);
+    }
+
+    /**
+     * The Publisher publishes asynchronously, to the {@link EventAggregator}, the
+     * content which corresponds to a specific {@link IEventType} type.
+     *
+     * @param eventType the type of event
+     * @param content the content which are going to published
+     * @param <T> the type of content
+     * @return a future which completes when all the subscribers processed the content
+     */
+    @Override
+    public <T> CompletableFuture<Void> publishAsync(final IEventType eventType, final T content) {
+        return publishAsync(new Message<>(eventType, content));
     }
 }
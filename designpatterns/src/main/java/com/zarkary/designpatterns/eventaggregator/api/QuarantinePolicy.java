@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * What a {@link Watchdog} does with a subscription whose {@link IAction} exceeded
+ * the latency budget too many times.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public enum QuarantinePolicy {
+
+    /**
+     * The slow executions are only reported, the subscription stays as it is.
+     */
+    FLAG,
+
+    /**
+     * The {@link IAction} is moved to the slow lane of the watchdog, so it never
+     * runs again on the publisher's thread.
+     */
+    ISOLATE,
+
+    /**
+     * The {@link IAction} is not executed any more, its messages are dropped.
+     */
+    SUSPEND
+}
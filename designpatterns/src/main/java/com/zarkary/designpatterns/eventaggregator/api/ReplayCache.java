@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The recent messages of the retained {@link IEventType}(s) of an {@link EventAggregator},
+ * in a ring per event type, which is bounded by a {@link ReplayPolicy}.
+ *
+ * <p>Every retained message gets a sequence number, which is common to all the
+ * rings, so the messages of several event types are replayed in the published
+ * order. The cache is also the lock of the hand-off to a late subscriber: a publisher
+ * retains a message and takes the snapshot of its subscriptions under this lock, and
+ * a late subscriber is replayed and registered under the same lock. So every message
+ * is either replayed or delivered live to the new subscription, never both and
+ * never neither.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class ReplayCache {
+
+    /**
+     * All the rings, guarded by this.
+     */
+    private final List<Ring> rings = new ArrayList<>();
+
+    /**
+     * The sequence number of the last retained message, guarded by this.
+     */
+    private long sequence;
+
+    /**
+     * Creates the ring of the given event type, which replaces its previous one.
+     *
+     * @param eventType the retained event type
+     * @param policy the {@link ReplayPolicy} of the ring
+     * @return the new ring
+     */
+    synchronized Ring retain(final IEventType eventType, final ReplayPolicy policy) {
+        final Ring ring = new Ring(requireNonNull(eventType), requireNonNull(policy));
+        rings.removeIf(previous -> previous.eventType.equals(eventType));
+        rings.add(ring);
+        return ring;
+    }
+
+    /**
+     * Retains a copy of the given message, the caller has to hold the lock of the cache.
+     *
+     * @param ring the ring of the event type of the message
+     * @param message the published message
+     */
+    void add(final Ring ring, final IMessage<?> message) {
+        ring.add(new Entry(++sequence, System.nanoTime(), Message.copyOf(message)));
+    }
+
+    /**
+     * Returns the retained messages of every event type which the given one matches, in
+     * the published order, the caller has to hold the lock of the cache.
+     *
+     * @param eventType the event type of a subscription
+     * @return the retained messages
+     */
+    List<IMessage<?>> messages(final IEventType eventType) {
+        final long now = System.nanoTime();
+        final List<Entry> entries = new ArrayList<>();
+        for(final Ring ring : rings) {
+            if(EventTypes.matches(eventType, ring.eventType)) {
+                ring.expire(now);
+                entries.addAll(ring.entries);
+            }
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.sequence));
+        final List<IMessage<?>> messages = new ArrayList<>(entries.size());
+        for(final Entry entry : entries) {
+            messages.add(entry.message);
+        }
+        return messages;
+    }
+
+    /**
+     * The retained messages of a single event type, guarded by the cache.
+     */
+    static final class Ring {
+
+        private final IEventType eventType;
+        private final ReplayPolicy policy;
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+
+        private Ring(final IEventType eventType, final ReplayPolicy policy) {
+            this.eventType = eventType;
+            this.policy = policy;
+        }
+
+        private void add(final Entry entry) {
+            if(entries.size() == policy.getMessages()) {
+                entries.pollFirst();
+            }
+            entries.addLast(entry);
+            expire(entry.timestamp);
+        }
+
+        private void expire(final long now) {
+            while(!entries.isEmpty() && now - entries.peekFirst().timestamp > policy.getMaxAgeNanos()) {
+                entries.pollFirst();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final long sequence;
+        private final long timestamp;
+        private final IMessage<?> message;
+
+        private Entry(final long sequence, final long timestamp, final IMessage<?> message) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * How many of the recent messages of an {@link IEventType} an {@link EventAggregator}
+ * retains, in order to replay them to a late subscriber (see
+ * {@link IEventAggregator#subscribeWithReplay(IEventType, IAction)}).
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class ReplayPolicy {
+
+    private final int messages;
+    private final long maxAgeNanos;
+
+    private ReplayPolicy(final int messages, final long maxAgeNanos) {
+        this.messages = messages;
+        this.maxAgeNanos = maxAgeNanos;
+    }
+
+    /**
+     * @param messages the number of retained messages
+     * @return a policy which retains the last messages, however old they are
+     */
+    public static ReplayPolicy lastMessages(final int messages) {
+        if(messages < 1) {
+            throw new IllegalArgumentException("The messages must be positive.");
+        }
+        return new ReplayPolicy(messages, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param period the period of the retained messages
+     * @param unit the {@link TimeUnit} of the period
+     * @return a policy which retains the messages published within the last period
+     */
+    public static ReplayPolicy lastPeriod(final long period, final TimeUnit unit) {
+        if(period < 1) {
+            throw new IllegalArgumentException("The period must be positive.");
+        }
+        return new ReplayPolicy(Integer.MAX_VALUE, requireNonNull(unit).toNanos(period));
+    }
+
+    /**
+     * @return the maximum number of retained messages
+     */
+    int getMessages() {
+        return messages;
+    }
+
+    /**
+     * @return the maximum age of a retained message in nanoseconds
+     */
+    long getMaxAgeNanos() {
+        return maxAgeNanos;
+    }
+}
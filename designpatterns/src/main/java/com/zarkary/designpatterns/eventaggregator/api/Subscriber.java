@@ -44,14 +44,14 @@ public class Subscriber implements ISubscriber {
      */
     private final Map<IEventType, ISubscription> subscriptionTokens;
 
-    private final EventAggregator eventAggregator;
+    private final IEventAggregator eventAggregator;
 
     /**
      * Constructor
      *
-     * @param eventAggregator the {@link EventAggregator}
+     * @param eventAggregator the {@link IEventAggregator}
      */
-    public Subscriber(final EventAggregator eventAggregator) {
+    public Subscriber(final IEventAggregator eventAggregator) {
         this.eventAggregator = requireNonNull(eventAggregator);
         this.subscriptionTokens  = new ConcurrentHashMap<>();
     }
@@ -83,6 +83,107 @@ public class Subscriber implements ISubscriber {
         subscriptionTokens.put(eventType, subscription);
     }
 
+    /**
+     * Subscribes an {@link IAction} to the {@link EventAggregator} for a specific
+     * {@link IEventType} and routing key. The same rules as in
+     * {@link #subscribe(IEventType, IAction)} apply, there can be only one
+     * subscription per {@link IEventType}.
+     *
+     * @param eventType the {@link IEventType} which the Subscriber is interested in
+     * @param key the routing key of the messages which the Subscriber is interested in
+     * @param action the {@link IAction} which will be executed when an event of
+     *                the given IEventType take place for the given key
+     * @param <T> the type of {@link IAction} content
+     */
+    @Override
+    public <T> void subscribeByKey(final IEventType eventType, final Object key, final IAction<T> action) {
+
+        if(subscriptionTokens.containsKey(requireNonNull(eventType))) {
+            throw new IllegalArgumentException(
+                    "There is already registered an IAction for this IEventType.");
+        }
+
+        final ISubscription subscription =
+                eventAggregator.subscribeByKey(eventType, requireNonNull(key), requireNonNull(action));
+        subscriptionTokens.put(eventType, subscription);
+    }
+
+    /**
+     * Subscribes an {@link IAction} to the {@link EventAggregator} for a specific
+     * {@link IEventType} with a priority, e.g. a validation which has to run before
+     * the rest of the subscribers. The same rules as in
+     * {@link #subscribe(IEventType, IAction)} apply, there can be only one
+     * subscription per {@link IEventType}.
+     *
+     * @param eventType the {@link IEventType} which the Subscriber is interested in
+     * @param priority the priority of the action, an action of higher priority
+     *                 is executed first
+     * @param action the {@link IAction} which will be executed when an event of
+     *                the given IEventType take place
+     * @param <T> the type of {@link IAction} content
+     */
+    @Override
+    public <T> void subscribeWithPriority(final IEventType eventType, final int priority, final IAction<T> action) {
+
+        if(subscriptionTokens.containsKey(requireNonNull(eventType))) {
+            throw new IllegalArgumentException(
+                    "There is already registered an IAction for this IEventType.");
+        }
+
+        final ISubscription subscription =
+                eventAggregator.subscribeWithPriority(eventType, priority, requireNonNull(action));
+        subscriptionTokens.put(eventType, subscription);
+    }
+
+    /**
+     * Subscribes an {@link IAction} to the {@link EventAggregator} for a specific
+     * {@link IEventType}, which receives first the retained messages of the event type.
+     * So a Subscriber which joins late does not miss the recent state. The same rules
+     * as in {@link #subscribe(IEventType, IAction)} apply, there can be only one
+     * subscription per {@link IEventType}.
+     *
+     * @param eventType the {@link IEventType} which the Subscriber is interested in
+     * @param action the {@link IAction} which will be executed for the retained and
+     *                the published events of the given IEventType
+     * @param <T> the type of {@link IAction} content
+     */
+    @Override
+    public <T> void subscribeWithReplay(final IEventType eventType, final IAction<T> action) {
+
+        if(subscriptionTokens.containsKey(requireNonNull(eventType))) {
+            throw new IllegalArgumentException(
+                    "There is already registered an IAction for this IEventType.");
+        }
+
+        final ISubscription subscription = eventAggregator.subscribeWithReplay(eventType, requireNonNull(action));
+        subscriptionTokens.put(eventType, subscription);
+    }
+
+    /**
+     * Subscribes an {@link IAction} to the {@link EventAggregator} for a specific
+     * {@link IEventType}, which the EventAggregator refers weakly. The action has to
+     * be kept alive from its owner, e.g. the owner implements it itself, and once it
+     * has been collected its subscription is pruned. The same rules as in
+     * {@link #subscribe(IEventType, IAction)} apply, there can be only one
+     * subscription per {@link IEventType}.
+     *
+     * @param eventType the {@link IEventType} which the Subscriber is interested in
+     * @param action the {@link IAction} which will be executed when an event of
+     *                the given IEventType take place, while it is alive
+     * @param <T> the type of {@link IAction} content
+     */
+    @Override
+    public <T> void subscribeWeakly(final IEventType eventType, final IAction<T> action) {
+
+        if(subscriptionTokens.containsKey(requireNonNull(eventType))) {
+            throw new IllegalArgumentException(
+                    "There is already registered an IAction for this IEventType.");
+        }
+
+        final ISubscription subscription = eventAggregator.subscribeWeakly(eventType, requireNonNull(action));
+        subscriptionTokens.put(eventType, subscription);
+    }
+
     /**
      * Unsubscribe an {@link IEventType} from the {@link EventAggregator}
      *
@@ -16,6 +16,15 @@
 
 package com.zarkary.designpatterns.eventaggregator.api;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -36,8 +45,24 @@ import static java.util.Objects.requireNonNull;
  */
 public class Subscription<T> implements ISubscription<T> {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Subscription, QuarantinePolicy> QUARANTINE =
+            AtomicReferenceFieldUpdater.newUpdater(Subscription.class, QuarantinePolicy.class, "quarantine");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Subscription> OFFENCES =
+            AtomicIntegerFieldUpdater.newUpdater(Subscription.class, "offences");
+
     private final IEventType eventType;
     private final IAction<T> action;
+    private final Executor executor;
+    private final Object key;
+    private final Predicate<? super IMessage<T>> filter;
+    private final int priority;
+    private SubscriptionMetrics metrics;
+    private Watchdog watchdog;
+    private volatile QuarantinePolicy quarantine;
+    private volatile int offences;
 
     /**
      * Constructor
@@ -47,8 +72,61 @@ public class Subscription<T> implements ISubscription<T> {
      *                  of {@link IEventType} occur
      */
     public Subscription(final IEventType eventType, final IAction<T> action) {
+        this(eventType, action, null, null, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param eventType the {@link IEventType} of this subscription
+     * @param action    the {@link IAction} which is executed when an event
+     *                  of {@link IEventType} occur
+     * @param executor  the {@link Executor} which runs the {@link IAction} when
+     *                  the message is published asynchronously
+     */
+    public Subscription(final IEventType eventType, final IAction<T> action, final Executor executor) {
+        this(eventType, action, requireNonNull(executor), null, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param eventType the {@link IEventType} of this subscription
+     * @param action    the {@link IAction} which is executed when an event
+     *                  of {@link IEventType} occur
+     * @param executor  the {@link Executor} of the {@link IAction}, or {@code null}
+     * @param key       the routing key of the subscription, or {@code null}
+     *                  when it receives the messages of every key
+     * @param filter    the condition which a message has to fulfil in order to
+     *                  be passed to the {@link IAction}, or {@code null}
+     */
+    Subscription(final IEventType eventType, final IAction<T> action, final Executor executor,
+                 final Object key, final Predicate<? super IMessage<T>> filter) {
+        this(eventType, action, executor, key, filter, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param eventType the {@link IEventType} of this subscription
+     * @param action    the {@link IAction} which is executed when an event
+     *                  of {@link IEventType} occur
+     * @param executor  the {@link Executor} of the {@link IAction}, or {@code null}
+     * @param key       the routing key of the subscription, or {@code null}
+     *                  when it receives the messages of every key
+     * @param filter    the condition which a message has to fulfil in order to
+     *                  be passed to the {@link IAction}, or {@code null}
+     * @param priority  the priority of the subscription, a subscription of higher
+     *                  priority receives a message first
+     */
+    Subscription(final IEventType eventType, final IAction<T> action, final Executor executor,
+                 final Object key, final Predicate<? super IMessage<T>> filter, final int priority) {
         this.eventType = requireNonNull(eventType);
         this.action = requireNonNull(action);
+        this.executor = executor;
+        this.key = key;
+        this.filter = filter;
+        this.priority = priority;
     }
 
     /**
@@ -64,6 +142,251 @@ public class Subscription<T> implements ISubscription<T> {
      */
     @Override
     public void onAction(final IMessage<T> message) {
+        handle(message);
+    }
+
+    /**
+     * Executes the {@link IAction} like {@link #onAction(IMessage)}, and tells whether
+     * an {@link IConsumingAction} has consumed the message. A message which is filtered
+     * out, or which is executed in the slow lane of the {@link Watchdog}, is not consumed.
+     *
+     * @param message the received {@link IMessage}
+     * @return {@code true} when the message has been consumed
+     */
+    boolean handle(final IMessage<T> message) {
+        if(filter != null && !filter.test(message)) {
+            return false;
+        }
+        if(metrics == null && watchdog == null) {
+            return perform(message);
+        }
+        if(watchdog != null && quarantine != null) {
+            final IMessage<T> copy = Message.copyOf(message);
+            onQuarantined(() -> action.doAction(copy));
+            return false;
+        }
+        final long start = System.nanoTime();
+        try {
+            return perform(message);
+        } catch(RuntimeException | Error failure) {
+            recordFailure();
+            throw failure;
+        } finally {
+            executed(System.nanoTime() - start);
+        }
+    }
+
+    private boolean perform(final IMessage<T> message) {
+        final IAction<T> target = getAction();
+        if(target instanceof IConsumingAction) {
+            return ((IConsumingAction<T>) target).consume(message);
+        }
         action.doAction(message);
+        return false;
+    }
+
+    /**
+     * Executes the {@link IAction} for a batch of messages. An {@link IBatchAction}
+     * receives the whole batch at once, any other action one message at a time, like
+     * {@link #handle(IMessage)}. A failure is passed to the given {@link IErrorHandler},
+     * and the rest of the messages are still processed.
+     *
+     * @param messages the messages which are published as result of the occurred events
+     * @param errorHandler the {@link IErrorHandler} of the failures
+     * @return the positions of the messages which an {@link IConsumingAction} has
+     *         consumed, or {@code null} when none of them has been consumed
+     */
+    BitSet onBatch(final List<IMessage<T>> messages, final IErrorHandler errorHandler) {
+        final IAction<T> target = getAction();
+        if(target instanceof IBatchAction) {
+            final List<IMessage<T>> accepted = filter(messages);
+            if(!accepted.isEmpty()) {
+                try {
+                    doBatch((IBatchAction<T>) target, accepted);
+                } catch(RuntimeException failure) {
+                    errorHandler.onBatchError(this, accepted, failure);
+                }
+            }
+            return null;
+        }
+        BitSet consumed = null;
+        for(int i = 0; i < messages.size(); i++) {
+            final IMessage<T> message = messages.get(i);
+            try {
+                if(handle(message)) {
+                    if(consumed == null) {
+                        consumed = new BitSet(messages.size());
+                    }
+                    consumed.set(i);
+                }
+            } catch(RuntimeException failure) {
+                errorHandler.onError(this, message, failure);
+            }
+        }
+        return consumed;
+    }
+
+    private void doBatch(final IBatchAction<T> batchAction, final List<IMessage<T>> messages) {
+        if(metrics == null && watchdog == null) {
+            batchAction.doBatch(messages);
+            return;
+        }
+        if(watchdog != null && quarantine != null) {
+            final List<IMessage<T>> copy = new ArrayList<>(messages.size());
+            for(final IMessage<T> message : messages) {
+                copy.add(Message.copyOf(message));
+            }
+            onQuarantined(() -> batchAction.doBatch(Collections.unmodifiableList(copy)));
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            batchAction.doBatch(messages);
+        } catch(RuntimeException | Error failure) {
+            recordFailure();
+            throw failure;
+        } finally {
+            executed(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * A suspended subscription drops the execution, an isolated one hands it over
+     * to the slow lane of the {@link Watchdog}, where it is not watched any more.
+     */
+    private void onQuarantined(final Runnable execution) {
+        if(quarantine == QuarantinePolicy.SUSPEND) {
+            return;
+        }
+        watchdog.getSlowLane().execute(() -> {
+            final long start = System.nanoTime();
+            try {
+                execution.run();
+            } catch(RuntimeException | Error failure) {
+                recordFailure();
+                throw failure;
+            } finally {
+                if(metrics != null) {
+                    metrics.recordLatency(System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    private void recordFailure() {
+        if(metrics != null) {
+            metrics.recordFailure();
+        }
+    }
+
+    private void executed(final long nanos) {
+        if(metrics != null) {
+            metrics.recordLatency(nanos);
+        }
+        if(watchdog != null) {
+            watchdog.check(this, nanos);
+        }
+    }
+
+    private List<IMessage<T>> filter(final List<IMessage<T>> messages) {
+        if(filter == null) {
+            return messages;
+        }
+        final List<IMessage<T>> accepted = new ArrayList<>(messages.size());
+        for(final IMessage<T> message : messages) {
+            if(filter.test(message)) {
+                accepted.add(message);
+            }
+        }
+        return Collections.unmodifiableList(accepted);
+    }
+
+    /**
+     * @return the {@link Executor} of this subscription, or {@code null} when
+     *         the default one of the {@link EventAggregator} should be used
+     */
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return the routing key of this subscription, or {@code null} when it
+     *         receives the messages of every key
+     */
+    Object getKey() {
+        return key;
+    }
+
+    /**
+     * @return the priority of this subscription, a subscription of higher priority
+     *         receives a message first
+     */
+    int getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return the {@link IAction} of this subscription, or {@code null} when the
+     *         action of a weak subscription has been collected
+     */
+    IAction<T> getAction() {
+        return action instanceof WeakAction ? ((WeakAction<T>) action).get() : action;
+    }
+
+    /**
+     * Attaches the metrics which record every execution of the {@link IAction}. It
+     * is called before the subscription is registered, so it is published safely
+     * together with the subscription.
+     *
+     * @param metrics the metrics of this subscription
+     */
+    void setMetrics(final SubscriptionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Attaches the {@link Watchdog} which measures every execution of the
+     * {@link IAction}. It is called before the subscription is registered.
+     *
+     * @param watchdog the watchdog of this subscription
+     */
+    void setWatchdog(final Watchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+
+    /**
+     * Quarantines this subscription, if it is not quarantined already.
+     *
+     * @param policy the {@link QuarantinePolicy#ISOLATE} or {@link QuarantinePolicy#SUSPEND} policy
+     * @return {@code true} if the subscription was quarantined by this call
+     */
+    boolean quarantine(final QuarantinePolicy policy) {
+        return QUARANTINE.compareAndSet(this, null, policy);
+    }
+
+    /**
+     * Counts a slow execution of the {@link IAction}, it is kept by the subscription
+     * itself, so it goes away together with the subscription.
+     *
+     * @return the number of the slow executions since the last release
+     */
+    int offend() {
+        return OFFENCES.incrementAndGet(this);
+    }
+
+    /**
+     * Restores this subscription from the quarantine, and forgets its offences.
+     */
+    void release() {
+        offences = 0;
+        quarantine = null;
+    }
+
+    /**
+     * @return the {@link QuarantinePolicy} of this subscription, or {@code null}
+     *         when it is not quarantined
+     */
+    QuarantinePolicy getQuarantine() {
+        return quarantine;
     }
 }
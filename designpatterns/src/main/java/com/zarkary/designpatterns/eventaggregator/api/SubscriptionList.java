@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+/**
+ * A copy-on-write list of the {@link Subscription}(s) of a single {@link IEventType}.
+ *
+ * <p>The list never mutates the array which is handed out by {@link #snapshot()}.
+ * Every {@link #add(Subscription)} and {@link #remove(ISubscription)} builds a new
+ * array and publishes it with a volatile write, so a publisher iterates a stable
+ * snapshot without locking and without allocating. The changes are serialized by
+ * the lock of the {@link SubscriptionRegistry}, so they need no CAS of their own.
+ * The array is kept sorted by priority on every change, so nothing is sorted while
+ * publishing.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class SubscriptionList {
+
+    static final Subscription[] EMPTY = new Subscription[0];
+
+    private volatile Subscription[] snapshot = EMPTY;
+
+    /**
+     * @return the current immutable array of subscriptions, it must not be modified
+     */
+    Subscription[] snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Inserts the given {@link Subscription} after the subscriptions of the same or
+     * higher priority, so the snapshot is always in the order of the dispatching:
+     * by descending priority, and by subscription order for the same priority.
+     *
+     * @param subscription the subscription which is added
+     */
+    void add(final Subscription subscription) {
+        final Subscription[] current = snapshot;
+        final int index = insertionPoint(current, subscription.getPriority());
+        final Subscription[] next = new Subscription[current.length + 1];
+        System.arraycopy(current, 0, next, 0, index);
+        next[index] = subscription;
+        System.arraycopy(current, index, next, index + 1, current.length - index);
+        snapshot = next;
+    }
+
+    /**
+     * Removes the given {@link ISubscription}, compared by identity, from the list.
+     *
+     * @param subscription the subscription which is removed
+     * @return {@code true} if the subscription was part of the list
+     */
+    boolean remove(final ISubscription subscription) {
+        final Subscription[] current = snapshot;
+        final int index = indexOf(current, subscription);
+        if(index < 0) {
+            return false;
+        }
+        if(current.length == 1) {
+            snapshot = EMPTY;
+            return true;
+        }
+        final Subscription[] next = new Subscription[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        snapshot = next;
+        return true;
+    }
+
+    private static int insertionPoint(final Subscription[] subscriptions, final int priority) {
+        int index = subscriptions.length;
+        while(index > 0 && subscriptions[index - 1].getPriority() < priority) {
+            index--;
+        }
+        return index;
+    }
+
+    private static int indexOf(final Subscription[] subscriptions, final ISubscription subscription) {
+        for(int i = 0; i < subscriptions.length; i++) {
+            if(subscriptions[i] == subscription) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a single {@link Subscription}, the latency of its {@link IAction}
+ * and the number of its failures. It is attached to the subscription only when the
+ * {@link EventAggregator} has {@link DispatchMetrics}.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class SubscriptionMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * @param nanos the duration of an execution of the {@link IAction}
+     */
+    void recordLatency(final long nanos) {
+        latency.record(nanos);
+    }
+
+    /**
+     * Counts an execution of the {@link IAction} which threw an exception.
+     */
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * @return the latency histogram of the {@link IAction}
+     */
+    LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the number of failed executions of the {@link IAction}
+     */
+    long getFailures() {
+        return failures.sum();
+    }
+}
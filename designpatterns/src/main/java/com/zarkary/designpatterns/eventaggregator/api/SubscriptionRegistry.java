@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The subscriptions of an {@link EventAggregator}, together with a dispatch table
+ * per published {@link IEventType}.
+ *
+ * <p>A {@link DispatchTable} holds all the subscriptions which are interested in
+ * one concrete event type, including the ones to its parents and to matching
+ * {@link IEventTypeSelector}(s). The tables are resolved when an event
+ * type is published for the first time, and they are kept up to date on every
+ * subscribe/unsubscribe. So publishing is a single lookup, which never walks a
+ * hierarchy and never takes a lock.</p>
+ *
+ * <p>The dispatch tables of enum event types are indexed also by the ordinal of
+ * the constant, in an array per enum class. So for the usual enum event types
+ * the lookup is an array access, without any hashing or {@code equals} call.</p>
+ *
+ * <p>Subscribing, unsubscribing and the creation of a table are serialized on the
+ * registry, which keeps all the tables consistent with each other. This is the
+ * trade-off of the design: the publishing stays a lock-free lookup, while a subscribe
+ * or an unsubscribe visits every table, so it costs O(number of published event
+ * types), and the changes do not run in parallel. The tables are never evicted, they
+ * live as long as the registry, which suits a bounded set of event types such as the
+ * enum constants; an unbounded set of event types would grow the registry without
+ * limit.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class SubscriptionRegistry {
+
+    private final ConcurrentMap<IEventType, DispatchTable> dispatchTables = new ConcurrentHashMap<>();
+
+    /**
+     * The dispatch tables of the enum event types, indexed by the ordinal of the constant.
+     */
+    private final ClassValue<AtomicReferenceArray<DispatchTable>> enumDispatchTables =
+            new ClassValue<AtomicReferenceArray<DispatchTable>>() {
+                @Override
+                protected AtomicReferenceArray<DispatchTable> computeValue(final Class<?> enumType) {
+                    return new AtomicReferenceArray<>(enumType.getEnumConstants().length);
+                }
+            };
+
+    /**
+     * All the registered subscriptions, in subscription order, guarded by this.
+     */
+    private final Set<Subscription> subscriptions = new LinkedHashSet<>();
+
+    /**
+     * @param eventType the {@link IEventType} of a published message
+     * @return the dispatch table of the given event type
+     */
+    DispatchTable dispatchTable(final IEventType eventType) {
+        final DispatchTable dispatchTable = eventType instanceof Enum
+                ? enumDispatchTable((Enum<?>) eventType)
+                : dispatchTables.get(eventType);
+        return dispatchTable != null ? dispatchTable : createDispatchTable(eventType);
+    }
+
+    private DispatchTable enumDispatchTable(final Enum<?> eventType) {
+        return enumDispatchTables.get(eventType.getDeclaringClass()).get(eventType.ordinal());
+    }
+
+    /**
+     * Registers the subscription and adds it to every dispatch table which it matches.
+     *
+     * @param subscription the new subscription
+     */
+    synchronized void add(final Subscription subscription) {
+        subscriptions.add(subscription);
+        for(final Map.Entry<IEventType, DispatchTable> dispatchTable : dispatchTables.entrySet()) {
+            if(EventTypes.matches(subscription.getEventType(), dispatchTable.getKey())) {
+                dispatchTable.getValue().add(subscription);
+            }
+        }
+    }
+
+    /**
+     * Removes the subscription from the registry and from every dispatch table.
+     *
+     * @param subscription the removed subscription
+     * @return {@code true} if the subscription was registered
+     */
+    synchronized boolean remove(final ISubscription subscription) {
+        if(!subscriptions.remove(subscription)) {
+            return false;
+        }
+        for(final Map.Entry<IEventType, DispatchTable> dispatchTable : dispatchTables.entrySet()) {
+            if(EventTypes.matches(subscription.getEventType(), dispatchTable.getKey())) {
+                dispatchTable.getValue().remove((Subscription) subscription);
+            }
+        }
+        return true;
+    }
+
+    private synchronized DispatchTable createDispatchTable(final IEventType eventType) {
+        DispatchTable dispatchTable = dispatchTables.get(eventType);
+        if(dispatchTable == null) {
+            dispatchTable = new DispatchTable();
+            for(final Subscription subscription : subscriptions) {
+                if(EventTypes.matches(subscription.getEventType(), eventType)) {
+                    dispatchTable.add(subscription);
+                }
+            }
+            dispatchTables.put(eventType, dispatchTable);
+            if(eventType instanceof Enum) {
+                final Enum<?> constant = (Enum<?>) eventType;
+                enumDispatchTables.get(constant.getDeclaringClass()).set(constant.ordinal(), dispatchTable);
+            }
+        }
+        return dispatchTable;
+    }
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Guards the publishers of an {@link EventAggregator} from slow {@link IAction}(s).
+ * Every execution of an {@link IAction} is measured, and the ones which exceed the
+ * latency budget are reported to the {@link IWatchdogListener}. A subscription which
+ * is reported too many times is quarantined, according to the {@link QuarantinePolicy}:
+ * it is isolated on a slow lane, so it does not run on the publisher's thread any
+ * more, or it is suspended.
+ *
+ * <p>A quarantined subscription is restored with {@link #release(ISubscription)}.</p>
+ *
+ * <p>The watchdog is enabled by passing it to the
+ * {@link EventAggregator#EventAggregator(Executor, DispatchMetrics, Watchdog)}
+ * constructor. The fast executions cost only a time measurement, the bookkeeping
+ * happens only for the slow ones.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class Watchdog {
+
+    private final long budgetNanos;
+    private final int maxOffences;
+    private final QuarantinePolicy policy;
+    private final Executor slowLane;
+    private final IWatchdogListener listener;
+
+    /**
+     * Constructor, of a watchdog which only reports the slow executions
+     *
+     * @param budget the latency budget of an execution of an {@link IAction}
+     * @param unit the {@link TimeUnit} of the budget
+     * @param listener the {@link IWatchdogListener} of the slow executions
+     */
+    public Watchdog(final long budget, final TimeUnit unit, final IWatchdogListener listener) {
+        this(budget, unit, Integer.MAX_VALUE, QuarantinePolicy.FLAG, null, listener);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param budget the latency budget of an execution of an {@link IAction}
+     * @param unit the {@link TimeUnit} of the budget
+     * @param maxOffences the number of slow executions after which a subscription
+     *                    is quarantined
+     * @param policy the {@link QuarantinePolicy} of the repeat offenders
+     * @param slowLane the {@link Executor} of the isolated {@link IAction}(s), it
+     *                 is required only by the {@link QuarantinePolicy#ISOLATE} policy
+     * @param listener the {@link IWatchdogListener} of the slow executions and of
+     *                 the quarantined subscriptions
+     */
+    public Watchdog(final long budget, final TimeUnit unit, final int maxOffences,
+                    final QuarantinePolicy policy, final Executor slowLane, final IWatchdogListener listener) {
+        if(budget < 0) {
+            throw new IllegalArgumentException("The budget must not be negative.");
+        }
+        if(maxOffences < 1) {
+            throw new IllegalArgumentException("The offences must be positive.");
+        }
+        if(requireNonNull(policy) == QuarantinePolicy.ISOLATE && slowLane == null) {
+            throw new IllegalArgumentException("The isolation requires a slow lane.");
+        }
+        this.budgetNanos = requireNonNull(unit).toNanos(budget);
+        this.maxOffences = maxOffences;
+        this.policy = policy;
+        this.slowLane = slowLane;
+        this.listener = requireNonNull(listener);
+    }
+
+    /**
+     * Restores a quarantined subscription, and forgets its offences.
+     *
+     * @param subscription the quarantined subscription
+     */
+    public void release(final ISubscription subscription) {
+        if(requireNonNull(subscription) instanceof Subscription) {
+            ((Subscription) subscription).release();
+        }
+    }
+
+    /**
+     * @param subscription a subscription of the {@link EventAggregator}
+     * @return {@code true} if the subscription is isolated or suspended
+     */
+    public boolean isQuarantined(final ISubscription subscription) {
+        return subscription instanceof Subscription && ((Subscription) subscription).getQuarantine() != null;
+    }
+
+    /**
+     * @return the latency budget in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * @return the {@link QuarantinePolicy} of the repeat offenders
+     */
+    public QuarantinePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the {@link Executor} of the isolated {@link IAction}(s)
+     */
+    Executor getSlowLane() {
+        return slowLane;
+    }
+
+    /**
+     * Checks an execution of the {@link IAction} of the given subscription.
+     *
+     * @param subscription the subscription whose {@link IAction} was executed
+     * @param nanos the duration of the execution
+     */
+    void check(final Subscription subscription, final long nanos) {
+        if(nanos <= budgetNanos) {
+            return;
+        }
+        listener.onSlowAction(subscription, nanos);
+        if(policy == QuarantinePolicy.FLAG || subscription.offend() < maxOffences) {
+            return;
+        }
+        if(subscription.quarantine(policy)) {
+            if(policy == QuarantinePolicy.ISOLATE) {
+                listener.onIsolated(subscription);
+            } else {
+                listener.onSuspended(subscription);
+            }
+        }
+    }
+}
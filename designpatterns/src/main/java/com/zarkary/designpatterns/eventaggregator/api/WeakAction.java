@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.api;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.function.Consumer;
+
+/**
+ * The {@link IAction} of a weak subscription, which refers to the actual action
+ * weakly. So the subscription does not keep alive its subscriber, and when the
+ * subscriber has been collected, the subscription is pruned from the
+ * {@link EventAggregator}.
+ *
+ * <p>A collected action is noticed either the next time a message is dispatched
+ * to it, or when its reference is taken from the {@link ReferenceQueue} of the
+ * EventAggregator. In both cases the weak action knows its own subscription, so no
+ * sweep over the weak subscriptions is needed to find it. Its removal costs as
+ * much as an unsubscribe, which checks every dispatch table and copies the ones
+ * which hold the subscription.</p>
+ *
+ * @param <T> the type of {@link IMessage}'s content
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class WeakAction<T> extends WeakReference<IAction<T>> implements IAction<T> {
+
+    private final Consumer<Subscription<?>> pruner;
+
+    private Subscription<T> subscription;
+
+    /**
+     * Constructor
+     *
+     * @param action the actual {@link IAction}, which is referred weakly
+     * @param queue the queue where the reference is enqueued when the action is collected
+     * @param pruner removes the subscription of a collected action
+     */
+    WeakAction(final IAction<T> action, final ReferenceQueue<? super IAction<T>> queue,
+               final Consumer<Subscription<?>> pruner) {
+        super(action, queue);
+        this.pruner = pruner;
+    }
+
+    /**
+     * Executes the actual {@link IAction}, or prunes the subscription if it has been collected.
+     *
+     * @param message the {@link IMessage} which carry on valuable
+     *                information for the action's execution.
+     */
+    @Override
+    public void doAction(final IMessage<T> message) {
+        final IAction<T> action = get();
+        if(action == null) {
+            prune();
+            return;
+        }
+        action.doAction(message);
+    }
+
+    /**
+     * Removes the subscription of the collected action.
+     */
+    void prune() {
+        pruner.accept(subscription);
+    }
+
+    /**
+     * @param subscription the subscription of this action, it is set before the
+     *                     subscription is registered
+     */
+    void setSubscription(final Subscription<T> subscription) {
+        this.subscription = subscription;
+    }
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.bridge;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.Message;
+
+/**
+ * A message which has been imported from another JVM by a bridge, and is not
+ * exported again, so the connected JVMs do not echo each other's messages.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class ImportedMessage<T> extends Message<T> {
+
+    /**
+     * Constructor
+     *
+     * @param eventType the {@link IEventType} of the message
+     * @param content the content of the message
+     */
+    ImportedMessage(final IEventType eventType, final T content) {
+        super(eventType, content);
+    }
+}
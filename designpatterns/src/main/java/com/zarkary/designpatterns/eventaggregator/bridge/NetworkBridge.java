@@ -0,0 +1,532 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.zarkary.designpatterns.eventaggregator.bridge;
+
+import com.zarkary.designpatterns.eventaggregator.api.DispatchExecutors;
+import com.zarkary.designpatterns.eventaggregator.api.IEventAggregator;
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.api.ISubscription;
+import com.zarkary.designpatterns.eventaggregator.api.Message;
+import com.zarkary.designpatterns.eventaggregator.api.OverflowPolicy;
+import com.zarkary.designpatterns.eventaggregator.journal.IMessageSerializer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Connects {@link IEventAggregator}(s) of different nodes, through TCP connections
+ * which are served by a single selector thread, without any broker in between.
+ *
+ * <p>Every bridge can listen for peers and connect to peers, and the connections work
+ * the same in both directions. The messages of the exported {@link IEventType}(s) are
+ * forwarded to all the connected peers, and every message which arrives from a peer is
+ * published to the local {@link IEventAggregator}. Like the {@link SharedMemoryBridge},
+ * an imported message is never exported again.</p>
+ *
+ * <pre>{@code
+ * final NetworkBridge bridge = new NetworkBridge(eventAggregator, new JavaSerializer());
+ * bridge.export(Event.LOCATION_CHANGED, Event.ITEM_SAVED);
+ * bridge.listen(new InetSocketAddress(7070));
+ * bridge.connect(new InetSocketAddress("node-2", 7070));
+ * }</pre>
+ *
+ * <p>A message is sent as a frame, its length followed by its serialized bytes. The
+ * publisher only queues the message for every peer, the selector thread serializes the
+ * queued messages straight into a direct buffer per peer, and writes as many frames as
+ * fit in it with a single system call. When the publishers are faster than the network
+ * the frames are coalesced in ever larger writes, and when a peer can not keep up its
+ * queue fills up and the {@link OverflowPolicy} decides what happens.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class NetworkBridge implements AutoCloseable {
+
+    /**
+     * The maximum size of a frame in bytes, including its length.
+     */
+    public static final int MAX_FRAME_SIZE = 64 * 1024;
+
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private final IEventAggregator eventAggregator;
+    private final IMessageSerializer serializer;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final List<Peer> peers = new CopyOnWriteArrayList<>();
+    private final List<ServerSocketChannel> servers = new ArrayList<>();
+    private final List<ISubscription> exports = new ArrayList<>();
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Queue<Peer> ready = new ConcurrentLinkedQueue<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private Selector selector;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    /**
+     * Constructor of a bridge, which queues up to 8192 messages per peer, and drops the
+     * oldest queued message of a peer whose queue is full, so a stalled peer never
+     * holds up the publishers.
+     *
+     * @param eventAggregator the local {@link IEventAggregator}
+     * @param serializer the {@link IMessageSerializer} of the messages, which has to be
+     *                   the same in all the connected nodes
+     */
+    public NetworkBridge(final IEventAggregator eventAggregator, final IMessageSerializer serializer) {
+        this(eventAggregator, serializer, DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param eventAggregator the local {@link IEventAggregator}
+     * @param serializer the {@link IMessageSerializer} of the messages, which has to be
+     *                   the same in all the connected nodes
+     * @param capacity the maximum number of messages which are queued for a peer
+     * @param policy what happens when the queue of a peer is full, one of
+     *               {@link OverflowPolicy#BLOCK}, {@link OverflowPolicy#DROP_NEWEST} or
+     *               {@link OverflowPolicy#DROP_OLDEST}, with {@link OverflowPolicy#BLOCK}
+     *               a peer which stops reading holds up the publishers of every peer
+     */
+    public NetworkBridge(final IEventAggregator eventAggregator, final IMessageSerializer serializer,
+                         final int capacity, final OverflowPolicy policy) {
+        if(capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        if(requireNonNull(policy) == OverflowPolicy.CONFLATE_LATEST_PER_KEY) {
+            throw new IllegalArgumentException("The policy must be BLOCK, DROP_NEWEST or DROP_OLDEST.");
+        }
+        this.eventAggregator = requireNonNull(eventAggregator);
+        this.serializer = requireNonNull(serializer);
+        this.capacity = capacity;
+        this.policy = policy;
+    }
+
+    /**
+     * Forwards every message of the given {@link IEventType}(s), which is published to
+     * the local {@link IEventAggregator}, to all the connected peers.
+     *
+     * @param eventTypes the exported event types
+     */
+    public synchronized void export(final IEventType... eventTypes) {
+        for(final IEventType eventType : eventTypes) {
+            exports.add(eventAggregator.subscribeFiltered(requireNonNull(eventType),
+                    message -> !(message instanceof ImportedMessage), this::send));
+        }
+    }
+
+    /**
+     * Accepts the connections of peers at the given address.
+     *
+     * @param address the local address, with port {@code 0} for any free port
+     * @return the actual local address
+     * @throws IOException when the address can not be bound
+     */
+    public synchronized InetSocketAddress listen(final InetSocketAddress address) throws IOException {
+        requireNonNull(address);
+        start();
+        final ServerSocketChannel server = ServerSocketChannel.open();
+        try {
+            server.bind(address);
+            server.configureBlocking(false);
+        } catch(IOException failure) {
+            server.close();
+            throw failure;
+        }
+        servers.add(server);
+        submit(() -> {
+            try {
+                server.register(selector, SelectionKey.OP_ACCEPT);
+            } catch(IOException failure) {
+                report(failure);
+            }
+        });
+        return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    /**
+     * Connects to a peer, waiting until the connection is established. The messages
+     * which are published after this method returns are forwarded to the peer.
+     *
+     * @param address the address at which the peer listens
+     * @throws IOException when the connection fails
+     */
+    public synchronized void connect(final InetSocketAddress address) throws IOException {
+        requireNonNull(address);
+        start();
+        final Peer peer = open(SocketChannel.open(address));
+        submit(() -> register(peer));
+        peers.add(peer);
+    }
+
+    /**
+     * @return the number of the connected peers
+     */
+    public int getPeerCount() {
+        return peers.size();
+    }
+
+    /**
+     * @return how many messages have been written to the peers, a message which is sent
+     *         to more peers is counted once per peer
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * @return how many writes to the peers there have been, which is less than
+     *         {@link #getSentCount()} when frames are coalesced
+     */
+    public long getWriteCount() {
+        return writes.sum();
+    }
+
+    /**
+     * @return how many messages have been dropped, because the queue of a peer was full,
+     *         or the message did not fit in a frame
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the forwarding of the messages, and closes all the connections.
+     *
+     * @throws IOException when a connection can not be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        exports.forEach(eventAggregator::unsubscribe);
+        exports.clear();
+        if(selectorThread == null) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch(InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        selectorThread = null;
+        for(final Peer peer : peers) {
+            disconnect(peer);
+        }
+        for(final ServerSocketChannel server : servers) {
+            server.close();
+        }
+        servers.clear();
+        selector.close();
+    }
+
+    private void start() throws IOException {
+        if(selectorThread == null) {
+            selector = Selector.open();
+            running = true;
+            selectorThread = DispatchExecutors.daemonThreads("network-bridge").newThread(this::run);
+            selectorThread.start();
+        }
+    }
+
+    private void submit(final Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    private void send(final IMessage<Object> message) {
+        final IMessage<Object> copy = Message.copyOf(message);
+        for(final Peer peer : peers) {
+            if(enqueue(peer.queue, copy) && peer.scheduled.compareAndSet(false, true)) {
+                ready.add(peer);
+                selector.wakeup();
+            }
+        }
+    }
+
+    private boolean enqueue(final BlockingQueue<IMessage<?>> queue, final IMessage<?> message) {
+        switch(policy) {
+            case BLOCK:
+                if(!queue.offer(message)) {
+                    if(Thread.currentThread() == selectorThread) {
+                        // a subscriber of an imported message must not wait for its own thread
+                        dropped.increment();
+                        return false;
+                    }
+                    try {
+                        queue.put(message);
+                    } catch(InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        dropped.increment();
+                        return false;
+                    }
+                }
+                return true;
+            case DROP_NEWEST:
+                if(!queue.offer(message)) {
+                    dropped.increment();
+                    return false;
+                }
+                return true;
+            default:
+                while(!queue.offer(message)) {
+                    if(queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+                return true;
+        }
+    }
+
+    private void run() {
+        while(running) {
+            try {
+                selector.select();
+            } catch(IOException failure) {
+                report(failure);
+                return;
+            }
+            Runnable task;
+            while((task = tasks.poll()) != null) {
+                task.run();
+            }
+            Peer peer;
+            while((peer = ready.poll()) != null) {
+                try {
+                    flush(peer);
+                } catch(IOException failure) {
+                    fail(peer, failure);
+                }
+            }
+            final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while(keys.hasNext()) {
+                final SelectionKey key = keys.next();
+                keys.remove();
+                if(key.isValid()) {
+                    handle(key);
+                }
+            }
+        }
+    }
+
+    private void handle(final SelectionKey key) {
+        if(key.isAcceptable()) {
+            try {
+                final SocketChannel channel = ((ServerSocketChannel) key.channel()).accept();
+                if(channel != null) {
+                    final Peer peer = open(channel);
+                    register(peer);
+                    peers.add(peer);
+                }
+            } catch(IOException failure) {
+                report(failure);
+            }
+            return;
+        }
+        final Peer peer = (Peer) key.attachment();
+        try {
+            if(key.isReadable()) {
+                read(peer);
+            }
+            if(key.isValid() && key.isWritable()) {
+                flush(peer);
+            }
+        } catch(IOException failure) {
+            fail(peer, failure);
+        }
+    }
+
+    private Peer open(final SocketChannel channel) throws IOException {
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        } catch(IOException failure) {
+            channel.close();
+            throw failure;
+        }
+        return new Peer(channel, capacity);
+    }
+
+    private void register(final Peer peer) {
+        try {
+            peer.key = peer.channel.register(selector, SelectionKey.OP_READ, peer);
+            if(peer.scheduled.get()) {
+                flush(peer);
+            }
+        } catch(IOException failure) {
+            fail(peer, failure);
+        }
+    }
+
+    private void read(final Peer peer) throws IOException {
+        final ByteBuffer in = peer.in;
+        if(peer.channel.read(in) < 0) {
+            disconnect(peer);
+            return;
+        }
+        in.flip();
+        while(in.remaining() >= Integer.BYTES) {
+            final int start = in.position();
+            final int length = in.getInt(start);
+            if(length < 0 || length > MAX_FRAME_SIZE - Integer.BYTES) {
+                throw new IOException("The peer sent a corrupt frame.");
+            }
+            if(in.remaining() < Integer.BYTES + length) {
+                break;
+            }
+            final int limit = in.limit();
+            final int end = start + Integer.BYTES + length;
+            in.position(start + Integer.BYTES).limit(end);
+            try {
+                publish(serializer.deserialize(in));
+            } catch(RuntimeException failure) {
+                report(failure);
+            }
+            in.limit(limit).position(end);
+        }
+        in.compact();
+    }
+
+    private void publish(final IMessage<?> message) {
+        eventAggregator.publish(new ImportedMessage<>(message.getEventType(), message.getContent()));
+    }
+
+    private void flush(final Peer peer) throws IOException {
+        if(peer.key == null || !peer.key.isValid()) {
+            // not registered yet, the registration flushes the peer, or disconnected
+            return;
+        }
+        do {
+            while(fill(peer)) {
+                peer.out.flip();
+                peer.channel.write(peer.out);
+                writes.increment();
+                final boolean blocked = peer.out.hasRemaining();
+                peer.out.compact();
+                if(blocked) {
+                    peer.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+            peer.key.interestOps(SelectionKey.OP_READ);
+            peer.scheduled.set(false);
+        } while(!peer.queue.isEmpty() && peer.scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Serializes the queued messages of the peer in its output buffer, as long as they
+     * fit, and returns whether there is anything to write.
+     */
+    private boolean fill(final Peer peer) {
+        final ByteBuffer out = peer.out;
+        IMessage<?> message;
+        while((message = peer.pending != null ? peer.pending : peer.queue.poll()) != null) {
+            final int start = out.position();
+            if(out.remaining() < Integer.BYTES) {
+                peer.pending = message;
+                return true;
+            }
+            peer.pending = null;
+            try {
+                out.position(start + Integer.BYTES);
+                serializer.serialize(message.getEventType(), message.getContent(), out);
+                out.putInt(start, out.position() - start - Integer.BYTES);
+                sent.increment();
+            } catch(BufferOverflowException full) {
+                out.position(start);
+                if(start > 0) {
+                    peer.pending = message;
+                    return true;
+                }
+                dropped.increment();
+                report(new IllegalArgumentException("The message does not fit in a frame.", full));
+            } catch(RuntimeException failure) {
+                // e.g. the serializer has no codec for the message, which will never fit
+                out.position(start);
+                dropped.increment();
+                report(failure);
+            }
+        }
+        return out.position() > 0;
+    }
+
+    private void fail(final Peer peer, final IOException failure) {
+        if(peer.channel.isOpen()) {
+            report(failure);
+        }
+        disconnect(peer);
+    }
+
+    private void disconnect(final Peer peer) {
+        peers.remove(peer);
+        try {
+            peer.channel.close();
+        } catch(IOException failure) {
+            report(failure);
+        }
+        // unblocks the publishers which wait for the queue of the peer
+        peer.queue.clear();
+    }
+
+    private static void report(final Throwable failure) {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+    }
+
+    /**
+     * A connected peer, with its queue of outgoing messages and its buffers.
+     */
+    private static final class Peer {
+
+        private final SocketChannel channel;
+        private final BlockingQueue<IMessage<?>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final ByteBuffer in = ByteBuffer.allocateDirect(MAX_FRAME_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocateDirect(MAX_FRAME_SIZE);
+
+        private SelectionKey key;
+        private IMessage<?> pending;
+
+        private Peer(final SocketChannel channel, final int capacity) {
+            this.channel = channel;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.bridge;
+
+import com.zarkary.designpatterns.eventaggregator.api.DispatchExecutors;
+import com.zarkary.designpatterns.eventaggregator.api.IEventAggregator;
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.api.ISubscription;
+import com.zarkary.designpatterns.eventaggregator.journal.IMessageSerializer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Connects {@link IEventAggregator}(s) of different JVMs on the same host, through
+ * rings of serialized messages in memory-mapped files.
+ *
+ * <p>Every JVM exports the messages of some {@link IEventType}(s) to its own ring,
+ * whose single writer it is, and imports the rings of the other JVMs. The imported
+ * messages are published to the local {@link IEventAggregator} from a dedicated
+ * polling thread, so a message reaches the subscribers of another JVM within
+ * microseconds, without any system call on the way.</p>
+ *
+ * <pre>{@code
+ * final SharedMemoryBridge bridge = new SharedMemoryBridge(eventAggregator, new JavaSerializer());
+ * bridge.export(Paths.get("/dev/shm/events-node-1"), 1 << 20, Event.LOCATION_CHANGED, Event.ITEM_SAVED);
+ * bridge.importFrom(Paths.get("/dev/shm/events-node-2"));
+ * }</pre>
+ *
+ * <p>An imported message is never exported again, so two JVMs can export and import
+ * the same event types without echoing each other's messages. This works with an
+ * engine which passes the published {@link IMessage} to its subscribers, like the
+ * {@code EventAggregator}, an engine which copies the messages has to export and
+ * import different event types.</p>
+ *
+ * <p>The readers never hold up the writer. A reader which falls behind by more than
+ * the capacity of the ring loses the overwritten messages, see
+ * {@link #getLappedCount()}. The polling thread spins while messages arrive, and it
+ * backs off to yielding and then to parking when the rings are idle.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class SharedMemoryBridge implements AutoCloseable {
+
+    private static final int SPINS = 1000;
+    private static final int YIELDS = 100;
+    private static final long PARK_NANOS = 50_000;
+
+    private final IEventAggregator eventAggregator;
+    private final IMessageSerializer serializer;
+    private final List<SharedMemoryRing> imports = new CopyOnWriteArrayList<>();
+    private final List<ISubscription> exports = new ArrayList<>();
+
+    private SharedMemoryRing exportRing;
+    private Thread poller;
+    private volatile boolean running;
+    private volatile long lappedCount;
+
+    /**
+     * Constructor
+     *
+     * @param eventAggregator the local {@link IEventAggregator}
+     * @param serializer the {@link IMessageSerializer} of the messages, which has to be
+     *                   the same in all the connected JVMs
+     */
+    public SharedMemoryBridge(final IEventAggregator eventAggregator, final IMessageSerializer serializer) {
+        this.eventAggregator = requireNonNull(eventAggregator);
+        this.serializer = requireNonNull(serializer);
+    }
+
+    /**
+     * Writes every message of the given {@link IEventType}(s), which is published to
+     * the local {@link IEventAggregator}, to the ring of the given file. The bridge is
+     * the single writer of the ring, and it can export to one ring only.
+     *
+     * @param file the file of the ring, it is created if it does not exist
+     * @param capacity the capacity of the ring in bytes, a power of 2, a message can
+     *                 take up to a quarter of it
+     * @param eventTypes the exported event types
+     * @throws IOException when the file can not be opened
+     * @throws IllegalStateException when the ring has already a writer, or when the
+     *         bridge exports already to another ring
+     */
+    public synchronized void export(final Path file, final int capacity, final IEventType... eventTypes)
+            throws IOException {
+        if(exportRing != null) {
+            throw new IllegalStateException("The bridge exports already to a ring.");
+        }
+        exportRing = SharedMemoryRing.writer(requireNonNull(file), capacity, serializer);
+        for(final IEventType eventType : eventTypes) {
+            exports.add(eventAggregator.subscribeFiltered(requireNonNull(eventType),
+                    message -> !(message instanceof ImportedMessage), this::write));
+        }
+    }
+
+    /**
+     * Publishes to the local {@link IEventAggregator} every message which is written to
+     * the ring of the given file from now on.
+     *
+     * @param file the file of the ring, which has been created by its writer
+     * @throws IOException when the file can not be opened
+     * @throws IllegalStateException when the file is not a ring
+     */
+    public synchronized void importFrom(final Path file) throws IOException {
+        imports.add(SharedMemoryRing.reader(requireNonNull(file), serializer));
+        if(poller == null) {
+            running = true;
+            poller = DispatchExecutors.daemonThreads("shared-memory-bridge").newThread(this::poll);
+            poller.start();
+        }
+    }
+
+    /**
+     * @return how many times an imported ring has been lapped by its writer, and
+     *         messages have been lost
+     */
+    public long getLappedCount() {
+        return lappedCount;
+    }
+
+    /**
+     * Stops the export and the import of the messages, and releases the files.
+     *
+     * @throws IOException when a file can not be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        exports.forEach(eventAggregator::unsubscribe);
+        exports.clear();
+        running = false;
+        if(poller != null) {
+            try {
+                poller.join();
+            } catch(InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            poller = null;
+        }
+        for(final SharedMemoryRing ring : imports) {
+            ring.close();
+        }
+        imports.clear();
+        if(exportRing != null) {
+            exportRing.close();
+            exportRing = null;
+        }
+    }
+
+    private void write(final IMessage<Object> message) {
+        final SharedMemoryRing ring = exportRing;
+        synchronized(ring) {
+            ring.write(message.getEventType(), message.getContent());
+        }
+    }
+
+    private void poll() {
+        int idle = 0;
+        while(running) {
+            int read = 0;
+            for(final SharedMemoryRing ring : imports) {
+                read += readFrom(ring);
+            }
+            if(read > 0) {
+                idle = 0;
+            } else if(++idle > SPINS + YIELDS) {
+                LockSupport.parkNanos(PARK_NANOS);
+            } else if(idle > SPINS) {
+                Thread.yield();
+            }
+        }
+    }
+
+    private int readFrom(final SharedMemoryRing ring) {
+        final long lapped = ring.getLappedCount();
+        try {
+            return ring.read(this::publish);
+        } catch(RuntimeException failure) {
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, failure);
+            return 1;
+        } finally {
+            if(ring.getLappedCount() != lapped) {
+                lappedCount += ring.getLappedCount() - lapped;
+            }
+        }
+    }
+
+    private void publish(final IMessage<?> message) {
+        eventAggregator.publish(new ImportedMessage<>(message.getEventType(), message.getContent()));
+    }
+}
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.bridge;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.journal.IMessageSerializer;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * A ring of serialized messages in a memory-mapped file, which is shared by the
+ * processes of the same host. The ring has a single writer and any number of
+ * readers, which never hold up the writer. The file is laid out as:
+ *
+ * <pre>
+ *   0    int  magic number
+ *   4    int  capacity of the data, a power of 2
+ *   64   long tail intent, where the record which is being written ends
+ *   128  long tail, where the last complete record ends
+ *   192  byte[capacity] the records
+ * </pre>
+ *
+ * <p>Every record is an int length followed by the serialized message, aligned to 8
+ * bytes. A length of {@value #PADDING} pads the end of the ring, when the next record
+ * does not fit before the wrap. The positions are the total bytes written since the
+ * ring was created, so they never wrap themselves.</p>
+ *
+ * <p>The writer announces the tail intent before it writes a record, and it publishes
+ * the new tail after the record is complete. A reader reads the records up to the
+ * tail, and it checks after every record that the tail intent has not lapped it, i.e.
+ * that the record has not been overwritten while it was read. A lapped reader drops
+ * the overwritten messages and continues from the current tail.</p>
+ *
+ * <p>The mapped memory is accessed with plain reads and writes, and Java 8 has no
+ * supported fence for them, the ones of {@code VarHandle} come with Java 9. So the
+ * ring assumes a processor with total store order, e.g. x86-64, which reorders neither
+ * a write with an earlier write nor a read with an earlier read, also across processes.
+ * What is left is to keep the compiler from reordering them, which is done by the
+ * access of a volatile field of the ring: HotSpot does not move any memory access
+ * across it. The memory model itself does not promise it for an unrelated field, so
+ * a processor with a weaker order, e.g. ARM, needs the fences of Java 9.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class SharedMemoryRing implements AutoCloseable {
+
+    static final int PADDING = -1;
+
+    private static final int MAGIC = 0x45564252;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int TAIL_INTENT_OFFSET = 64;
+    private static final int TAIL_OFFSET = 128;
+    private static final int HEADER = 192;
+    private static final int ALIGNMENT = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer view;
+    private final FileLock writerLock;
+    private final int capacity;
+    private final IMessageSerializer serializer;
+    private final ByteBuffer scratch;
+
+    /**
+     * The tail of the writer, or the next record of the reader.
+     */
+    private long position;
+    private long lappedCount;
+    private volatile int fence;
+
+    private SharedMemoryRing(final FileChannel channel, final MappedByteBuffer buffer, final FileLock writerLock,
+                             final int capacity, final IMessageSerializer serializer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.view = buffer.duplicate();
+        this.writerLock = writerLock;
+        this.capacity = capacity;
+        this.serializer = serializer;
+        this.scratch = writerLock != null ? ByteBuffer.allocate(capacity / 4) : null;
+        this.position = buffer.getLong(TAIL_OFFSET);
+    }
+
+    /**
+     * Opens the ring of the given file as its single writer, and creates the file if
+     * it does not exist. An existing ring continues from its tail, so its readers do
+     * not notice that the writer has been restarted.
+     *
+     * @param file the file of the ring
+     * @param capacity the capacity of the data, a power of 2, a message can take up
+     *                 to a quarter of it
+     * @param serializer the {@link IMessageSerializer} of the messages
+     * @return the writer of the ring
+     * @throws IOException when the file can not be opened
+     * @throws IllegalStateException when the ring has already a writer
+     */
+    static SharedMemoryRing writer(final Path file, final int capacity, final IMessageSerializer serializer)
+            throws IOException {
+        if(capacity < 64 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of 2, at least 64.");
+        }
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final FileLock writerLock = lockWriter(channel);
+            final boolean created = channel.size() == 0;
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + capacity);
+            if(created) {
+                buffer.putInt(CAPACITY_OFFSET, capacity);
+                buffer.putInt(0, MAGIC);
+            } else if(buffer.getInt(0) != MAGIC || buffer.getInt(CAPACITY_OFFSET) != capacity) {
+                throw new IllegalArgumentException("The file is not a ring of the same capacity.");
+            }
+            return new SharedMemoryRing(channel, buffer, writerLock, capacity, serializer);
+        } catch(IOException | RuntimeException failure) {
+            channel.close();
+            throw failure;
+        }
+    }
+
+    /**
+     * Opens the ring of the given file as a reader, which starts from the current tail.
+     *
+     * @param file the file of the ring, which has been created by its writer
+     * @param serializer the {@link IMessageSerializer} of the messages
+     * @return a reader of the ring
+     * @throws IOException when the file can not be opened
+     * @throws IllegalStateException when the file is not a ring
+     */
+    static SharedMemoryRing reader(final Path file, final IMessageSerializer serializer) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if(channel.size() < HEADER) {
+                throw new IllegalStateException("The file is not a ring.");
+            }
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+            if(header.getInt(0) != MAGIC) {
+                throw new IllegalStateException("The file is not a ring.");
+            }
+            final int capacity = header.getInt(CAPACITY_OFFSET);
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER + capacity);
+            return new SharedMemoryRing(channel, buffer, null, capacity, serializer);
+        } catch(IOException | RuntimeException failure) {
+            channel.close();
+            throw failure;
+        }
+    }
+
+    private static FileLock lockWriter(final FileChannel channel) throws IOException {
+        final FileLock writerLock;
+        try {
+            writerLock = channel.tryLock(0, HEADER, false);
+        } catch(OverlappingFileLockException locked) {
+            throw new IllegalStateException("The ring has already a writer.");
+        }
+        if(writerLock == null) {
+            throw new IllegalStateException("The ring has already a writer.");
+        }
+        return writerLock;
+    }
+
+    /**
+     * Appends a message to the ring, it is called only by the writer.
+     *
+     * @param eventType the {@link IEventType} of the message
+     * @param content the content of the message
+     * @throws IllegalArgumentException when the message takes more than a quarter of the ring
+     */
+    void write(final IEventType eventType, final Object content) {
+        scratch.clear();
+        try {
+            serializer.serialize(eventType, content, scratch);
+        } catch(BufferOverflowException tooLarge) {
+            throw new IllegalArgumentException("The message does not fit in the ring.");
+        }
+        scratch.flip();
+        final int length = scratch.remaining();
+        final int recordLength = align(Integer.BYTES + length);
+        int index = index(position);
+        final int padding = index + recordLength > capacity ? capacity - index : 0;
+        final long tail = position + padding + recordLength;
+        buffer.putLong(TAIL_INTENT_OFFSET, tail);
+        storeFence();
+        if(padding > 0) {
+            buffer.putInt(HEADER + index, PADDING);
+            index = 0;
+        }
+        view.clear();
+        view.position(HEADER + index + Integer.BYTES);
+        view.put(scratch);
+        buffer.putInt(HEADER + index, length);
+        storeFence();
+        buffer.putLong(TAIL_OFFSET, tail);
+        position = tail;
+    }
+
+    /**
+     * Passes the messages which have been written since the last call to the consumer,
+     * it is called only by a reader.
+     *
+     * @param consumer the consumer of the messages
+     * @return the number of the read messages
+     */
+    int read(final Consumer<IMessage<?>> consumer) {
+        final long tail = buffer.getLong(TAIL_OFFSET);
+        loadFence();
+        int read = 0;
+        while(position < tail) {
+            final int index = index(position);
+            final int length = buffer.getInt(HEADER + index);
+            final long next;
+            IMessage<?> message = null;
+            RuntimeException failure = null;
+            if(length == PADDING) {
+                next = position + capacity - index;
+            } else {
+                next = position + align(Integer.BYTES + length);
+                try {
+                    view.clear();
+                    view.position(HEADER + index + Integer.BYTES);
+                    view.limit(HEADER + index + Integer.BYTES + length);
+                    message = serializer.deserialize(view);
+                } catch(RuntimeException corrupted) {
+                    failure = corrupted;
+                }
+            }
+            loadFence();
+            if(buffer.getLong(TAIL_INTENT_OFFSET) - position > capacity) {
+                lappedCount++;
+                position = buffer.getLong(TAIL_OFFSET);
+                return read;
+            }
+            if(failure != null) {
+                position = next;
+                throw failure;
+            }
+            position = next;
+            if(message != null) {
+                consumer.accept(message);
+                read++;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * @return how many times the reader has been lapped by the writer, and has lost messages
+     */
+    long getLappedCount() {
+        return lappedCount;
+    }
+
+    /**
+     * Releases the file, the mapped memory is released when it is collected.
+     *
+     * @throws IOException when the file can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if(writerLock != null) {
+            writerLock.release();
+        }
+        channel.close();
+    }
+
+    /**
+     * Keeps the compiler from moving the writes across the fence, the processor keeps
+     * their order itself.
+     */
+    private void storeFence() {
+        fence = 0;
+    }
+
+    /**
+     * Keeps the compiler from moving the reads across the fence, the processor keeps
+     * their order itself.
+     */
+    private void loadFence() {
+        if(fence != 0) {
+            throw new IllegalStateException("The fence of the ring has been written.");
+        }
+    }
+
+    private int index(final long position) {
+        return (int) position & (capacity - 1);
+    }
+
+    private static int align(final int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+}
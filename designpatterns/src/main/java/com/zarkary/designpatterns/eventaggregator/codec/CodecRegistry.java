@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.codec;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.api.Message;
+import com.zarkary.designpatterns.eventaggregator.journal.IMessageSerializer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link IMessageSerializer} which serializes the content of every message with the
+ * {@link ICodec} of its {@link IEventType}, so it can be used by the journal and the
+ * bridges. The event type is written as a numeric id of two bytes, which has to be
+ * the same in all the JVMs which read the bytes.
+ *
+ * <pre>{@code
+ * final CodecRegistry registry = new CodecRegistry()
+ *         .register(Event.ITEM_CREATED, 1, new ItemCodec())
+ *         .register(Event.ITEM_SAVED, 2, new ItemCodec());
+ * final Journal journal = new Journal(directory, registry);
+ * }</pre>
+ *
+ * <p>The messages of an event type without a codec are serialized by the fallback
+ * serializer, e.g. a {@link com.zarkary.designpatterns.eventaggregator.journal.JavaSerializer},
+ * or they are rejected when there is no fallback.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class CodecRegistry implements IMessageSerializer {
+
+    private static final short FALLBACK_ID = -1;
+
+    private final IMessageSerializer fallback;
+    private final Map<IEventType, Registration> byEventType = new ConcurrentHashMap<>();
+    private volatile Registration[] byId = new Registration[0];
+
+    /**
+     * Constructor of a registry, which rejects the event types without a codec.
+     */
+    public CodecRegistry() {
+        this.fallback = null;
+    }
+
+    /**
+     * Constructor
+     *
+     * @param fallback the {@link IMessageSerializer} of the event types without a codec
+     */
+    public CodecRegistry(final IMessageSerializer fallback) {
+        this.fallback = requireNonNull(fallback);
+    }
+
+    /**
+     * Registers the {@link ICodec} of an {@link IEventType}.
+     *
+     * @param eventType the event type
+     * @param id the id of the event type in the serialized messages, between 0 and 32767
+     * @param codec the codec of the contents of the event type
+     * @param <T> the data type of the content
+     * @return this registry
+     * @throws IllegalArgumentException when the event type or the id are already registered
+     */
+    public synchronized <T> CodecRegistry register(final IEventType eventType, final int id, final ICodec<T> codec) {
+        requireNonNull(eventType);
+        requireNonNull(codec);
+        if(id < 0 || id > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("The id must be between 0 and 32767.");
+        }
+        if(byEventType.containsKey(eventType)) {
+            throw new IllegalArgumentException("The event type is already registered.");
+        }
+        if(id < byId.length && byId[id] != null) {
+            throw new IllegalArgumentException("The id is already registered.");
+        }
+        final Registration registration = new Registration(eventType, (short) id, codec);
+        final Registration[] registrations = Arrays.copyOf(byId, Math.max(byId.length, id + 1));
+        registrations[id] = registration;
+        byId = registrations;
+        byEventType.put(eventType, registration);
+        return this;
+    }
+
+    /**
+     * @param eventType the {@link IEventType}
+     * @return whether the event type has a registered {@link ICodec}
+     */
+    public boolean isRegistered(final IEventType eventType) {
+        return byEventType.containsKey(eventType);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException when the event type has no codec and there is no fallback
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void serialize(final IEventType eventType, final Object content, final ByteBuffer buffer) {
+        final Registration registration = byEventType.get(eventType);
+        if(registration != null) {
+            buffer.putShort(registration.id);
+            ((ICodec<Object>) registration.codec).encode(content, buffer);
+        } else if(fallback != null) {
+            buffer.putShort(FALLBACK_ID);
+            fallback.serialize(eventType, content, buffer);
+        } else {
+            throw new IllegalArgumentException("The event type has no codec.");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException when the id of the message has no codec
+     */
+    @Override
+    public IMessage<?> deserialize(final ByteBuffer buffer) {
+        final short id = buffer.getShort();
+        if(id == FALLBACK_ID && fallback != null) {
+            return fallback.deserialize(buffer);
+        }
+        final Registration[] registrations = byId;
+        if(id < 0 || id >= registrations.length || registrations[id] == null) {
+            throw new IllegalStateException("The message has an unknown codec id " + id + ".");
+        }
+        final Registration registration = registrations[id];
+        return new Message<>(registration.eventType, registration.codec.decode(buffer));
+    }
+
+    /**
+     * The {@link ICodec} and the id of an {@link IEventType}.
+     */
+    private static final class Registration {
+
+        private final IEventType eventType;
+        private final short id;
+        private final ICodec<?> codec;
+
+        private Registration(final IEventType eventType, final short id, final ICodec<?> codec) {
+            this.eventType = eventType;
+            this.id = id;
+            this.codec = codec;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts the content of the messages of an {@link com.zarkary.designpatterns.eventaggregator.api.IEventType}
+ * to bytes and back, straight in a {@link ByteBuffer}, without any intermediate array.
+ * The codecs are registered per event type to a {@link CodecRegistry}.
+ *
+ * <p>A codec writes the fields of the content one after the other with the primitive
+ * operations of the buffer, so it is much faster and more compact than the Java
+ * serialization. A codec has to be thread safe, which it is when it has no state.</p>
+ *
+ * @param <T> the data type of the content
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public interface ICodec<T> {
+
+    /**
+     * Writes the content at the current position of the buffer, and advances the
+     * position to the end of the written bytes.
+     *
+     * @param content the content of a message
+     * @param buffer the target buffer
+     * @throws java.nio.BufferOverflowException when the remaining bytes of the
+     *         buffer are not enough
+     */
+    void encode(T content, ByteBuffer buffer);
+
+    /**
+     * Reads a content, which was written by {@link #encode(Object, ByteBuffer)}, from
+     * the current position of the buffer.
+     *
+     * @param buffer the source buffer
+     * @return the read content
+     */
+    T decode(ByteBuffer buffer);
+}
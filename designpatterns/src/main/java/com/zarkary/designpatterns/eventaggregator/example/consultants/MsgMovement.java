@@ -16,14 +16,17 @@
 
 package com.zarkary.designpatterns.eventaggregator.example.consultants;
 
+import com.zarkary.designpatterns.eventaggregator.api.IKeyed;
+
 /**
  * Message that indicates who {@link IConsultant} moved and
- * which is its {@link Location} now.
+ * which is its {@link Location} now. The message is routed by the
+ * {@link IConsultant}, so only the subscriptions of the moved consultant receive it.
  *
  * @author Ioannis Katsatos
  * @since 23.04.2018
  */
-public class MsgMovement {
+public class MsgMovement implements IKeyed {
 
     private Location place;
     private IConsultant consultant;
@@ -74,4 +77,12 @@ public class MsgMovement {
     public boolean isAvailableAtHome() {
         return availableAtHome;
     }
+
+    /**
+     * @return the given {@link IConsultant}, which is the routing key of the message
+     */
+    @Override
+    public Object getRoutingKey() {
+        return consultant;
+    }
 }
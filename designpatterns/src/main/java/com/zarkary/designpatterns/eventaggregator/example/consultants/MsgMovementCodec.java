@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.example.consultants;
+
+import com.zarkary.designpatterns.eventaggregator.codec.ICodec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link ICodec} of a {@link MsgMovement}, which is written in six bytes: the
+ * ordinal of the {@link Location} (or {@code -1} when there is none), the availability
+ * at home, and the id of the {@link IConsultant}.
+ *
+ * <p>A consultant is not serialized, it is identified by its index in a directory of
+ * consultants, which has to be the same on both sides, so a decoded message refers to
+ * the local instance of the consultant.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class MsgMovementCodec implements ICodec<MsgMovement> {
+
+    private static final Location[] LOCATIONS = Location.values();
+
+    private final List<IConsultant> consultants;
+    private final Map<IConsultant, Integer> ids = new IdentityHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param consultants the directory of the {@link IConsultant}(s), in the same order
+     *                    on all the sides
+     */
+    public MsgMovementCodec(final List<? extends IConsultant> consultants) {
+        this.consultants = new ArrayList<>(consultants);
+        for(int id = 0; id < this.consultants.size(); id++) {
+            ids.put(requireNonNull(this.consultants.get(id)), id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException when the consultant is not in the directory
+     */
+    @Override
+    public void encode(final MsgMovement content, final ByteBuffer buffer) {
+        final Integer id = ids.get(content.getConsultant());
+        if(id == null) {
+            throw new IllegalArgumentException("The consultant is not in the directory.");
+        }
+        final Location place = content.getPlace();
+        buffer.put(place == null ? -1 : (byte) place.ordinal())
+                .put(content.isAvailableAtHome() ? (byte) 1 : (byte) 0)
+                .putInt(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MsgMovement decode(final ByteBuffer buffer) {
+        final byte place = buffer.get();
+        final boolean availableAtHome = buffer.get() != 0;
+        final IConsultant consultant = consultants.get(buffer.getInt());
+        return place < 0
+                ? new MsgMovement(consultant, availableAtHome)
+                : new MsgMovement(consultant, LOCATIONS[place]);
+    }
+}
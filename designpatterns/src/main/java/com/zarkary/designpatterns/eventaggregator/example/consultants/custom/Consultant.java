@@ -98,12 +98,13 @@ public class Consultant extends Subscriber
 
     /**
      * Subscribes the {@link IEventType} for which the {@link IConsultant} will
-     * be listen for events
+     * be listen for events. Only the events about this {@link IConsultant}
+     * are received, since the subscription is keyed by the consultant.
      *
      * @param eventType the type of event
      */
     public void subscribe(IEventType eventType) {
-        subscribe(eventType, this);
+        subscribeByKey(eventType, this, this);
     }
 
     /**
@@ -114,8 +115,6 @@ public class Consultant extends Subscriber
     @Override
     public void doAction(IMessage<MsgMovement> message) {
 
-        if(message.getContent().getConsultant() != this) return;
-
         if(message.getEventType() == Event.LOCATION_CHANGED) {
             actionLocationChanged(message.getContent());
         } else if(message.getEventType() == Event.AVAILABILITY_CHANGED) {
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.example.items;
+
+import com.zarkary.designpatterns.eventaggregator.codec.ICodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The {@link ICodec} of an {@link Item}, which is written as its item number in four bytes.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class ItemCodec implements ICodec<Item> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encode(final Item content, final ByteBuffer buffer) {
+        buffer.putInt(content.getItemNumber());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Item decode(final ByteBuffer buffer) {
+        return new Item(buffer.getInt());
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.journal;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * When the {@link Journal} forces its memory-mapped segments to the disk. The
+ * appended messages are visible to the operating system immediately, the fsync only
+ * protects them from a crash of the whole machine, so it is committed in groups of
+ * messages, never once per message.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class FsyncPolicy {
+
+    private static final FsyncPolicy NEVER = new FsyncPolicy(0, 0);
+
+    private final int messages;
+    private final long intervalNanos;
+
+    private FsyncPolicy(final int messages, final long intervalNanos) {
+        this.messages = messages;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * @return a policy which leaves the writing to the disk to the operating system,
+     *         and forces only the complete segments and the closed journal
+     */
+    public static FsyncPolicy never() {
+        return NEVER;
+    }
+
+    /**
+     * @param messages the number of appended messages per fsync
+     * @return a policy which forces the journal after every group of messages
+     */
+    public static FsyncPolicy everyMessages(final int messages) {
+        if(messages < 1) {
+            throw new IllegalArgumentException("The messages must be positive.");
+        }
+        return new FsyncPolicy(messages, 0);
+    }
+
+    /**
+     * @param interval the interval between two fsyncs
+     * @param unit the {@link TimeUnit} of the interval
+     * @return a policy which forces the journal periodically, from a background thread
+     */
+    public static FsyncPolicy periodically(final long interval, final TimeUnit unit) {
+        if(interval < 1) {
+            throw new IllegalArgumentException("The interval must be positive.");
+        }
+        return new FsyncPolicy(0, requireNonNull(unit).toNanos(interval));
+    }
+
+    /**
+     * @return the number of messages per fsync, or {@code 0}
+     */
+    int getMessages() {
+        return messages;
+    }
+
+    /**
+     * @return the interval between two fsyncs in nanoseconds, or {@code 0}
+     */
+    long getIntervalNanos() {
+        return intervalNanos;
+    }
+}
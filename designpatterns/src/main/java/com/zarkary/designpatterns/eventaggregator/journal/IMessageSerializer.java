@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.journal;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts the published messages to bytes and back, for the {@link Journal}.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public interface IMessageSerializer {
+
+    /**
+     * Writes the event type and the content of a message at the current position of
+     * the buffer. The serializer has to advance the position of the buffer to the
+     * end of the written bytes.
+     *
+     * @param eventType the {@link IEventType} of the message
+     * @param content the content of the message
+     * @param buffer the target buffer
+     * @throws java.nio.BufferOverflowException when the remaining bytes of the
+     *         buffer are not enough
+     */
+    void serialize(IEventType eventType, Object content, ByteBuffer buffer);
+
+    /**
+     * Reads a message, which was written by {@link #serialize(IEventType, Object, ByteBuffer)}.
+     *
+     * @param buffer the buffer which contains exactly the bytes of the message
+     * @return the read message
+     */
+    IMessage<?> deserialize(ByteBuffer buffer);
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.journal;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.api.Message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link IMessageSerializer} based on the Java serialization, so it works with
+ * every {@link java.io.Serializable} event type and content, e.g. the enum event
+ * types, without any extra code. It is the simplest, not the fastest, serializer.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class JavaSerializer implements IMessageSerializer {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(final IEventType eventType, final Object content, final ByteBuffer buffer) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(eventType);
+            output.writeObject(content);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.put(bytes.toByteArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IMessage<?> deserialize(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        try(ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            final IEventType eventType = (IEventType) input.readObject();
+            return new Message<>(eventType, input.readObject());
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        } catch(ClassNotFoundException e) {
+            throw new IllegalStateException("The journal contains an unknown class.", e);
+        }
+    }
+}
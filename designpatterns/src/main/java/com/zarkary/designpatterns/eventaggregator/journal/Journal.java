@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.journal;
+
+import com.zarkary.designpatterns.eventaggregator.api.DispatchExecutors;
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A durable, append-only journal of published messages, which survives a restart of
+ * the application. The messages are appended to fixed-size segment files, which are
+ * memory-mapped, so an append is a copy to memory without any system call. The
+ * segments are forced to the disk according to the {@link FsyncPolicy}, and the old
+ * ones are deleted according to the {@link RetentionPolicy}.
+ *
+ * <p>Every message gets a sequence, which increases by one per message and continues
+ * after a restart. The journaled messages are read back in sequence order with
+ * {@link #replay(long, Consumer)}, e.g. in order to rebuild the state of new subscribers
+ * on startup.</p>
+ *
+ * <p>The appends and the replays are serialized on the journal.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class Journal implements AutoCloseable {
+
+    /**
+     * The default size of a segment file, 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final IMessageSerializer serializer;
+    private final FsyncPolicy fsyncPolicy;
+    private final RetentionPolicy retentionPolicy;
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * The segments in sequence order, the last one is written, guarded by this.
+     */
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private long nextSequence;
+    private int unforcedMessages;
+    private boolean closed;
+
+    /**
+     * Constructor, with the default segment size, without fsync and without retention
+     *
+     * @param directory the directory of the segment files, it is created if it does not exist
+     * @param serializer the {@link IMessageSerializer} of the messages
+     * @throws IOException when the segments can not be opened
+     */
+    public Journal(final Path directory, final IMessageSerializer serializer) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, serializer, FsyncPolicy.never(), RetentionPolicy.unlimited());
+    }
+
+    /**
+     * Constructor, it opens the existing segments of the directory and continues after
+     * their last message.
+     *
+     * @param directory the directory of the segment files, it is created if it does not exist
+     * @param segmentSize the size of a new segment file, in bytes
+     * @param serializer the {@link IMessageSerializer} of the messages
+     * @param fsyncPolicy the {@link FsyncPolicy} of the journal
+     * @param retentionPolicy the {@link RetentionPolicy} of the journal
+     * @throws IOException when the segments can not be opened
+     */
+    public Journal(final Path directory, final int segmentSize, final IMessageSerializer serializer,
+                   final FsyncPolicy fsyncPolicy, final RetentionPolicy retentionPolicy) throws IOException {
+        if(segmentSize <= Segment.HEADER) {
+            throw new IllegalArgumentException("The segment size is too small.");
+        }
+        this.directory = Files.createDirectories(requireNonNull(directory));
+        this.segmentSize = segmentSize;
+        this.serializer = requireNonNull(serializer);
+        this.fsyncPolicy = requireNonNull(fsyncPolicy);
+        this.retentionPolicy = requireNonNull(retentionPolicy);
+        for(final Path file : segmentFiles(directory)) {
+            segments.add(Segment.open(file));
+        }
+        if(segments.isEmpty()) {
+            segments.add(Segment.create(directory, 0, segmentSize));
+        }
+        this.nextSequence = segments.getLast().getNextSequence();
+        applyRetention();
+        if(fsyncPolicy.getIntervalNanos() > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(DispatchExecutors.daemonThreads("journal-fsync"));
+            flusher.scheduleAtFixedRate(this::flush, fsyncPolicy.getIntervalNanos(),
+                    fsyncPolicy.getIntervalNanos(), TimeUnit.NANOSECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Appends a message to the journal.
+     *
+     * @param eventType the {@link IEventType} of the message
+     * @param content the content of the message
+     * @return the sequence of the message
+     * @throws UncheckedIOException when a new segment can not be created
+     */
+    public synchronized long append(final IEventType eventType, final Object content) {
+        if(closed) {
+            throw new IllegalStateException("The journal is closed.");
+        }
+        Segment segment = segments.getLast();
+        if(!segment.append(nextSequence, requireNonNull(eventType), requireNonNull(content), serializer)) {
+            if(segment.isEmpty()) {
+                throw new IllegalArgumentException("The message does not fit in a segment.");
+            }
+            segment = roll();
+            if(!segment.append(nextSequence, eventType, content, serializer)) {
+                throw new IllegalArgumentException("The message does not fit in a segment.");
+            }
+        }
+        if(fsyncPolicy.getMessages() > 0 && ++unforcedMessages >= fsyncPolicy.getMessages()) {
+            segment.force();
+            unforcedMessages = 0;
+        }
+        return nextSequence++;
+    }
+
+    /**
+     * Appends a message to the journal.
+     *
+     * @param message the appended message
+     * @return the sequence of the message
+     */
+    public long append(final IMessage<?> message) {
+        return append(requireNonNull(message).getEventType(), message.getContent());
+    }
+
+    /**
+     * Reads the journaled messages sequentially, in sequence order, and passes them
+     * to the consumer. The messages which were deleted by the {@link RetentionPolicy}
+     * are skipped.
+     *
+     * @param fromSequence the first sequence which is replayed
+     * @param consumer the consumer of the messages
+     * @return the number of the replayed messages
+     */
+    public synchronized long replay(final long fromSequence, final Consumer<? super IMessage<?>> consumer) {
+        requireNonNull(consumer);
+        long count = 0;
+        for(final Segment segment : segments) {
+            if(segment.getNextSequence() > fromSequence) {
+                count += segment.read(fromSequence, serializer, consumer);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the sequence of the oldest kept message
+     */
+    public synchronized long getFirstSequence() {
+        return segments.getFirst().getFirstSequence();
+    }
+
+    /**
+     * @return the sequence of the next appended message
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Forces the written segment to the disk. It is called by the periodic
+     * {@link FsyncPolicy}, but it can be called at any time.
+     */
+    public void flush() {
+        final Segment segment;
+        synchronized(this) {
+            if(closed) {
+                return;
+            }
+            segment = segments.getLast();
+        }
+        segment.force();
+    }
+
+    /**
+     * Forces and closes all the segments.
+     */
+    @Override
+    public synchronized void close() {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        if(flusher != null) {
+            flusher.shutdownNow();
+        }
+        segments.getLast().force();
+        for(final Segment segment : segments) {
+            try {
+                segment.close();
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Segment roll() {
+        final Segment completed = segments.getLast();
+        completed.force();
+        unforcedMessages = 0;
+        try {
+            final Segment segment = Segment.create(directory, nextSequence, segmentSize);
+            segments.addLast(segment);
+            applyRetention();
+            return segment;
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void applyRetention() {
+        long bytes = 0;
+        for(final Segment segment : segments) {
+            bytes += segment.getCapacity();
+        }
+        final long now = System.currentTimeMillis();
+        while(segments.size() > 1) {
+            final Segment oldest = segments.getFirst();
+            if(bytes <= retentionPolicy.getMaxBytes()
+                    && now - oldest.getCompletedMillis() <= retentionPolicy.getMaxAgeMillis()) {
+                return;
+            }
+            segments.removeFirst();
+            bytes -= oldest.getCapacity();
+            try {
+                oldest.delete();
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static List<Path> segmentFiles(final Path directory) throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.filter(Segment::isSegment)
+                    .sorted(Comparator.comparingLong(Segment::firstSequenceOf))
+                    .collect(Collectors.toList());
+        }
+    }
+}
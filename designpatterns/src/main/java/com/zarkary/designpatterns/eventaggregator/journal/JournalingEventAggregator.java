@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.journal;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link IEventAggregator} decorator which appends every published message to a
+ * {@link Journal}, before it passes it to the decorated engine. So the state which is
+ * built from the messages can be rebuilt after a restart, by replaying the journal.
+ *
+ * <pre>
+ *   final Journal journal = new Journal(directory, new JavaSerializer());
+ *   final IEventAggregator eventAggregator = new JournalingEventAggregator(journal, new EventAggregator());
+ * </pre>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class JournalingEventAggregator implements IEventAggregator {
+
+    private final Journal journal;
+    private final IEventAggregator eventAggregator;
+
+    /**
+     * Constructor
+     *
+     * @param journal the {@link Journal} of the published messages
+     * @param eventAggregator the decorated {@link IEventAggregator}
+     */
+    public JournalingEventAggregator(final Journal journal, final IEventAggregator eventAggregator) {
+        this.journal = requireNonNull(journal);
+        this.eventAggregator = requireNonNull(eventAggregator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void publish(final IMessage<T> message) {
+        journal.append(message);
+        eventAggregator.publish(message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> void publish(final IEventType eventType, final T content) {
+        journal.append(eventType, content);
+        eventAggregator.publish(eventType, content);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishAll(final Collection<? extends IMessage<?>> messages) {
+        for(final IMessage<?> message : requireNonNull(messages)) {
+            journal.append(message);
+        }
+        eventAggregator.publishAll(messages);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> CompletableFuture<Void> publishAsync(final IMessage<T> message) {
+        journal.append(message);
+        return eventAggregator.publishAsync(message);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSynchronous() {
+        return eventAggregator.isSynchronous();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribe(final IEventType eventType, final IAction<T> action) {
+        return eventAggregator.subscribe(eventType, action);
+    }
+
+    /**
+     * Subscribes an {@link IAction} for a specific {@link IEventType}, after it replays
+     * to it the journaled messages of the event type, from the given sequence and on.
+     *
+     * <p>The journal is locked during the replay and the subscription, so no message
+     * is lost between them. A message which is being published at that moment may be
+     * received twice, once from the journal and once as published.</p>
+     *
+     * @param eventType the type of event
+     * @param action the {@link IAction} which will be invoked when the
+     *        {@link IEventType} take place
+     * @param fromSequence the first replayed sequence, {@code 0} for all the journal
+     * @param <T> the data type of {@link IMessage}, which passed to the {@link IAction}
+     * @return the {@link ISubscription} token which is used from {@link ISubscriber}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ISubscription subscribe(final IEventType eventType, final IAction<T> action, final long fromSequence) {
+        requireNonNull(eventType);
+        requireNonNull(action);
+        synchronized(journal) {
+            journal.replay(fromSequence, message -> {
+                if(EventTypes.matches(eventType, message.getEventType())) {
+                    action.doAction((IMessage<T>) message);
+                }
+            });
+            return eventAggregator.subscribe(eventType, action);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeByKey(final IEventType eventType, final Object key, final IAction<T> action) {
+        return eventAggregator.subscribeByKey(eventType, key, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeFiltered(final IEventType eventType, final Predicate<? super IMessage<T>> filter,
+                                               final IAction<T> action) {
+        return eventAggregator.subscribeFiltered(eventType, filter, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeWithPriority(final IEventType eventType, final int priority,
+                                                   final IAction<T> action) {
+        return eventAggregator.subscribeWithPriority(eventType, priority, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeWithReplay(final IEventType eventType, final IAction<T> action) {
+        return eventAggregator.subscribeWithReplay(eventType, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeWeakly(final IEventType eventType, final IAction<T> action) {
+        return eventAggregator.subscribeWeakly(eventType, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unsubscribe(final ISubscription subscription) {
+        eventAggregator.unsubscribe(subscription);
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.journal;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Which complete segments the {@link Journal} keeps. The oldest segments are deleted
+ * when the journal grows above a size, or when they get older than an age. The
+ * segment which is written is never deleted.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class RetentionPolicy {
+
+    private static final RetentionPolicy UNLIMITED = new RetentionPolicy(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final long maxBytes;
+    private final long maxAgeMillis;
+
+    private RetentionPolicy(final long maxBytes, final long maxAgeMillis) {
+        this.maxBytes = maxBytes;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * @return a policy which keeps all the segments
+     */
+    public static RetentionPolicy unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * @param maxBytes the maximum size of all the segments together
+     * @return a policy which deletes the oldest segments above the given size
+     */
+    public static RetentionPolicy maxBytes(final long maxBytes) {
+        if(maxBytes < 1) {
+            throw new IllegalArgumentException("The bytes must be positive.");
+        }
+        return new RetentionPolicy(maxBytes, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param maxAge the maximum age of a segment, since its last message
+     * @param unit the {@link TimeUnit} of the age
+     * @return a policy which deletes the segments which are older than the given age
+     */
+    public static RetentionPolicy maxAge(final long maxAge, final TimeUnit unit) {
+        if(maxAge < 1) {
+            throw new IllegalArgumentException("The age must be positive.");
+        }
+        return new RetentionPolicy(Long.MAX_VALUE, requireNonNull(unit).toMillis(maxAge));
+    }
+
+    /**
+     * @return the maximum size of all the segments together
+     */
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return the maximum age of a segment in milliseconds
+     */
+    long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+}
@@ -0,0 +1,286 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.journal;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * A fixed-size, memory-mapped file of the {@link Journal}, which holds the records of
+ * consecutive sequences. Every record is laid out as:
+ *
+ * <pre>
+ *   int  record length, header included
+ *   long sequence
+ *   byte[] the serialized message
+ * </pre>
+ *
+ * <p>The record length is written last, so a record becomes visible only when it is
+ * complete. A length of {@code 0} marks the end of the written records and a length
+ * of {@value #END_OF_SEGMENT} marks a full segment.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class Segment {
+
+    static final int HEADER = Integer.BYTES + Long.BYTES;
+
+    static final int END_OF_SEGMENT = -1;
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+
+    private final Path file;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private int position;
+    private long nextSequence;
+    private long completedMillis;
+
+    private Segment(final Path file, final long firstSequence, final FileChannel channel,
+                    final int capacity) throws IOException {
+        this.file = file;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.capacity = capacity;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.nextSequence = firstSequence;
+        this.completedMillis = Long.MAX_VALUE;
+    }
+
+    /**
+     * Creates a new empty segment.
+     *
+     * @param directory the directory of the journal
+     * @param firstSequence the sequence of the first record of the segment
+     * @param capacity the size of the segment file
+     * @return the new segment
+     * @throws IOException when the file can not be created
+     */
+    static Segment create(final Path directory, final long firstSequence, final int capacity) throws IOException {
+        final Path file = directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(file, firstSequence, channel, capacity);
+    }
+
+    /**
+     * Opens an existing segment, and finds the end of its written records.
+     *
+     * @param file the segment file
+     * @return the opened segment
+     * @throws IOException when the file can not be opened
+     */
+    static Segment open(final Path file) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final Segment segment = new Segment(file, firstSequenceOf(file), channel, (int) channel.size());
+        segment.recover(Files.getLastModifiedTime(file).toMillis());
+        return segment;
+    }
+
+    /**
+     * @param file a file of the directory of the journal
+     * @return {@code true} if the file is a segment
+     */
+    static boolean isSegment(final Path file) {
+        final String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    /**
+     * @param file a segment file
+     * @return the sequence of the first record of the segment
+     */
+    static long firstSequenceOf(final Path file) {
+        final String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * Appends a record, unless the remaining space is not enough. In that case the
+     * segment is marked as full, unless it is empty, because a record which does not
+     * fit in an empty segment does not fit in any segment.
+     *
+     * @param sequence the sequence of the record
+     * @param eventType the {@link IEventType} of the message
+     * @param content the content of the message
+     * @param serializer the {@link IMessageSerializer} of the message
+     * @return {@code false} if the segment is full
+     */
+    boolean append(final long sequence, final IEventType eventType, final Object content,
+                   final IMessageSerializer serializer) {
+        if(completedMillis != Long.MAX_VALUE) {
+            return false;
+        }
+        if(position + HEADER < capacity) {
+            buffer.limit(capacity).position(position + HEADER);
+            try {
+                serializer.serialize(eventType, content, buffer);
+                final int length = buffer.position() - position;
+                buffer.putLong(position + Integer.BYTES, sequence);
+                buffer.putInt(position, length);
+                position += length;
+                nextSequence = sequence + 1;
+                return true;
+            } catch(BufferOverflowException full) {
+                if(position == 0) {
+                    erase(position, buffer.position());
+                    return false;
+                }
+                // the record continues in the next segment
+            } catch(RuntimeException failure) {
+                erase(position, buffer.position());
+                throw failure;
+            }
+        }
+        if(position + Integer.BYTES <= capacity) {
+            buffer.putInt(position, END_OF_SEGMENT);
+        }
+        completedMillis = System.currentTimeMillis();
+        return false;
+    }
+
+    /**
+     * Passes the messages of the segment, from the given sequence and on, to the consumer.
+     *
+     * @param fromSequence the first sequence which is read
+     * @param serializer the {@link IMessageSerializer} of the messages
+     * @param consumer the consumer of the messages
+     * @return the number of the read messages
+     */
+    long read(final long fromSequence, final IMessageSerializer serializer,
+              final Consumer<? super IMessage<?>> consumer) {
+        final ByteBuffer view = buffer.duplicate();
+        long count = 0;
+        int offset = 0;
+        while(offset < position) {
+            final int length = view.getInt(offset);
+            if(view.getLong(offset + Integer.BYTES) >= fromSequence) {
+                view.limit(offset + length).position(offset + HEADER);
+                consumer.accept(serializer.deserialize(view.slice()));
+                view.limit(capacity);
+                count++;
+            }
+            offset += length;
+        }
+        return count;
+    }
+
+    /**
+     * Zeroes the bytes of a record which has not been completed. Otherwise a shorter
+     * record could be written in its place, and the recovery would take the bytes
+     * which are left behind it for a record.
+     */
+    private void erase(final int from, final int to) {
+        for(int offset = from; offset < to; offset++) {
+            buffer.put(offset, (byte) 0);
+        }
+    }
+
+    private void recover(final long lastModifiedMillis) {
+        while(position + HEADER <= capacity) {
+            final int length = buffer.getInt(position);
+            if(length == END_OF_SEGMENT) {
+                completedMillis = lastModifiedMillis;
+                return;
+            }
+            if(length < HEADER || length > capacity - position) {
+                return;
+            }
+            nextSequence = buffer.getLong(position + Integer.BYTES) + 1;
+            position += length;
+        }
+        completedMillis = lastModifiedMillis;
+    }
+
+    /**
+     * @return the sequence of the first record of the segment
+     */
+    long getFirstSequence() {
+        return firstSequence;
+    }
+
+    /**
+     * @return the sequence which follows the last record of the segment
+     */
+    long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * @return {@code true} if the segment has no record
+     */
+    boolean isEmpty() {
+        return position == 0;
+    }
+
+    /**
+     * @return the size of the segment file
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the {@link System#currentTimeMillis()} when the segment was
+     *         completed, or {@link Long#MAX_VALUE} while it is written
+     */
+    long getCompletedMillis() {
+        return completedMillis;
+    }
+
+    /**
+     * Writes the modified pages of the segment to the disk.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Closes the file of the segment, the mapping is released by the garbage collector.
+     *
+     * @throws IOException when the file can not be closed
+     */
+    void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Closes and deletes the file of the segment.
+     *
+     * @throws IOException when the file can not be deleted
+     */
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+}
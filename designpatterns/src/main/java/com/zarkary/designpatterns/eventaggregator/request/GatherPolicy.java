@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.request;
+
+/**
+ * When the replies of a request (see {@link Requester}) are enough, so the request
+ * completes before its timeout.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class GatherPolicy {
+
+    private static final GatherPolicy ALL = new GatherPolicy(0, false);
+    private static final GatherPolicy QUORUM = new GatherPolicy(0, true);
+
+    private final int first;
+    private final boolean quorum;
+
+    private GatherPolicy(final int first, final boolean quorum) {
+        this.first = first;
+        this.quorum = quorum;
+    }
+
+    /**
+     * @return a policy which waits for every responder which received the request, and
+     *         completes with their replies as soon as all of them have answered, or with
+     *         the replies which have arrived until the timeout
+     */
+    public static GatherPolicy all() {
+        return ALL;
+    }
+
+    /**
+     * @param replies the number of the needed replies
+     * @return a policy which completes with the first replies, and fails when they
+     *         do not arrive until the timeout
+     */
+    public static GatherPolicy first(final int replies) {
+        if(replies < 1) {
+            throw new IllegalArgumentException("The replies must be positive.");
+        }
+        return new GatherPolicy(replies, false);
+    }
+
+    /**
+     * @return a policy which completes with the replies of the majority of the
+     *         responders which received the request, and fails when they do not
+     *         arrive until the timeout
+     */
+    public static GatherPolicy quorum() {
+        return QUORUM;
+    }
+
+    /**
+     * @param responders the number of the responders which received the request
+     * @return the number of the needed replies
+     */
+    int required(final int responders) {
+        if(first > 0) {
+            return first;
+        }
+        return quorum ? responders / 2 + 1 : responders;
+    }
+
+    /**
+     * @return whether the needed replies are known before all the responders have
+     *         received the request
+     */
+    boolean isKnownInAdvance() {
+        return first > 0;
+    }
+
+    /**
+     * @return whether the request completes with the replies which have arrived, when
+     *         the rest of the responders do not reply
+     */
+    boolean isPartial() {
+        return first == 0 && !quorum;
+    }
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.request;
+
+/**
+ * A responder of the requests of an {@link com.zarkary.designpatterns.eventaggregator.api.IEventType},
+ * which is subscribed with {@link Requester#respond(com.zarkary.designpatterns.eventaggregator.api.IEventType, IResponder)}.
+ *
+ * <p>A responder answers every request exactly once, with {@link Request#reply(Object)}
+ * or with {@link Request#decline()}, either during the call or later, from any thread.
+ * A responder which throws an exception, before it has answered, declines the request.</p>
+ *
+ * <p>This is a <a href="package-summary.html">functional interface</a> whose
+ * functional method is {@link #respond(Request)}.</p>
+ *
+ * @param <Q> the data type of the query
+ * @param <R> the data type of the reply
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface IResponder<Q, R> {
+
+    /**
+     * Answers the given {@link Request}.
+     *
+     * @param request the received request, which carries the query
+     */
+    void respond(Request<Q, R> request);
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.request;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The content of a message which asks a question to the responders of its
+ * {@link com.zarkary.designpatterns.eventaggregator.api.IEventType}, and carries
+ * their answers back to its {@link Requester}.
+ *
+ * <p>Every responder receives its own copy of the request, which it can answer
+ * exactly once, with a reply or a decline.</p>
+ *
+ * @param <Q> the data type of the query
+ * @param <R> the data type of the reply
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public final class Request<Q, R> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Request> ANSWERED =
+            AtomicIntegerFieldUpdater.newUpdater(Request.class, "answered");
+
+    private final Requester requester;
+    private final long correlationId;
+    private final Q query;
+    private volatile int answered;
+
+    /**
+     * Constructor
+     *
+     * @param requester the {@link Requester} which gathers the replies
+     * @param correlationId the id of the pending request in the requester
+     * @param query the query
+     */
+    Request(final Requester requester, final long correlationId, final Q query) {
+        this.requester = requester;
+        this.correlationId = correlationId;
+        this.query = query;
+    }
+
+    /**
+     * @return the query of this request
+     */
+    public Q getQuery() {
+        return query;
+    }
+
+    /**
+     * Sends a reply to the {@link Requester}.
+     *
+     * @param reply the reply, must not be {@code null}
+     * @return {@code false} when the request is already over, e.g. it has timed out,
+     *         and the reply is ignored
+     * @throws IllegalStateException when the request has already been answered
+     */
+    public boolean reply(final R reply) {
+        requireNonNull(reply);
+        if(!claim()) {
+            throw new IllegalStateException("The request has already been answered.");
+        }
+        return requester.answer(correlationId, reply);
+    }
+
+    /**
+     * Tells the {@link Requester} that the responder has no reply, so it does not
+     * wait for it.
+     *
+     * @return {@code false} when the request is already over
+     * @throws IllegalStateException when the request has already been answered
+     */
+    public boolean decline() {
+        if(!claim()) {
+            throw new IllegalStateException("The request has already been answered.");
+        }
+        return requester.answer(correlationId, null);
+    }
+
+    /**
+     * @return whether the request has been answered, with a reply or a decline
+     */
+    public boolean isAnswered() {
+        return answered != 0;
+    }
+
+    /**
+     * Tells the {@link Requester} that one more responder has received the request,
+     * and returns the copy of the request which the responder answers.
+     *
+     * @return the request of the responder
+     */
+    Request<Q, R> deliver() {
+        requester.received(correlationId);
+        return new Request<>(requester, correlationId, query);
+    }
+
+    /**
+     * Declines the request, unless the responder has already answered it.
+     */
+    void declineIfUnanswered() {
+        if(claim()) {
+            requester.answer(correlationId, null);
+        }
+    }
+
+    private boolean claim() {
+        return ANSWERED.compareAndSet(this, 0, 1);
+    }
+}
@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+
+package com.zarkary.designpatterns.eventaggregator.request;
+
+import com.zarkary.designpatterns.eventaggregator.api.DispatchExecutors;
+import com.zarkary.designpatterns.eventaggregator.api.IAction;
+import com.zarkary.designpatterns.eventaggregator.api.IEventAggregator;
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.ISubscription;
+import com.zarkary.designpatterns.eventaggregator.api.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Asks questions over an {@link IEventAggregator} and gathers the replies of the
+ * responders asynchronously (scatter-gather).
+ *
+ * <p>A request is published as a message, whose content is a {@link Request} with the
+ * query, to the responders of its {@link IEventType}. Every responder replies to the
+ * request, or declines it, and the replies go straight back to the requester. The
+ * returned {@link CompletableFuture} completes according to the {@link GatherPolicy},
+ * or when the timeout expires.</p>
+ *
+ * <pre>{@code
+ * final Requester requester = new Requester(eventAggregator);
+ * requester.respond(Event.AVAILABILITY_QUERIED, (Request<Location, IConsultant> request) -> {
+ *     if(consultant.getCurrentLocation() == request.getQuery()) {
+ *         request.reply(consultant);
+ *     } else {
+ *         request.decline();
+ *     }
+ * });
+ * final CompletableFuture<List<IConsultant>> available = requester.request(Event.AVAILABILITY_QUERIED,
+ *         Location.OFFICE, GatherPolicy.all(), 100, TimeUnit.MILLISECONDS);
+ * }</pre>
+ *
+ * <p>The pending requests are kept in a fixed pool of slots, and the correlation id of
+ * a request is the index of its slot with a generation, so a reply finds its request
+ * without any lookup, and a late reply to a recycled slot is ignored.</p>
+ *
+ * <p>The responders are counted as they receive the request, so {@link GatherPolicy#all()}
+ * and {@link GatherPolicy#quorum()} are settled only once the count is final. With a
+ * synchronous engine (see {@link IEventAggregator#isSynchronous()}) it is final when
+ * the request has been published. Any other engine, e.g. the ring buffer engine,
+ * publishes the request asynchronously, and the count is final when the future of
+ * the publishing completes, i.e. when every responder has received the request.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class Requester {
+
+    private static final int DEFAULT_MAX_PENDING = 1024;
+    private static final long CLOSED = -1;
+
+    private final IEventAggregator eventAggregator;
+    private final Slot[] slots;
+    private final BlockingQueue<Slot> freeSlots;
+
+    /**
+     * Constructor of a requester with up to 1024 pending requests.
+     *
+     * @param eventAggregator the {@link IEventAggregator} of the requests
+     */
+    public Requester(final IEventAggregator eventAggregator) {
+        this(eventAggregator, DEFAULT_MAX_PENDING);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param eventAggregator the {@link IEventAggregator} of the requests
+     * @param maxPending the maximum number of pending requests
+     */
+    public Requester(final IEventAggregator eventAggregator, final int maxPending) {
+        if(maxPending <= 0) {
+            throw new IllegalArgumentException("The max pending must be positive.");
+        }
+        this.eventAggregator = requireNonNull(eventAggregator);
+        this.slots = new Slot[maxPending];
+        this.freeSlots = new ArrayBlockingQueue<>(maxPending);
+        for(int index = 0; index < maxPending; index++) {
+            slots[index] = new Slot(index);
+            freeSlots.add(slots[index]);
+        }
+    }
+
+    /**
+     * Publishes a query to the responders of the given {@link IEventType}, and gathers
+     * their replies.
+     *
+     * <p>The future fails with a {@link TimeoutException} when the replies are not
+     * enough until the timeout, except for {@link GatherPolicy#all()}. It fails with an
+     * {@link IllegalStateException} as soon as the replies can not be enough any more,
+     * because too few responders received the request or too many of them declined it,
+     * or when there are already too many pending requests.</p>
+     *
+     * @param eventType the type of event of the request
+     * @param query the query, must not be {@code null}
+     * @param policy the {@link GatherPolicy}
+     * @param timeout how long to wait for the replies
+     * @param unit the {@link TimeUnit} of the timeout
+     * @param <Q> the data type of the query
+     * @param <R> the data type of the reply
+     * @return the future of the replies, in the order of their arrival
+     */
+    public <Q, R> CompletableFuture<List<R>> request(final IEventType eventType, final Q query,
+                                                     final GatherPolicy policy, final long timeout,
+                                                     final TimeUnit unit) {
+        requireNonNull(eventType);
+        requireNonNull(query);
+        requireNonNull(policy);
+        requireNonNull(unit);
+        if(timeout <= 0) {
+            throw new IllegalArgumentException("The timeout must be positive.");
+        }
+        final CompletableFuture<List<R>> future = new CompletableFuture<>();
+        final Slot slot = freeSlots.poll();
+        if(slot == null) {
+            future.completeExceptionally(new IllegalStateException("There are too many pending requests."));
+            return future;
+        }
+        final long correlationId = slot.open(policy, future);
+        final ScheduledFuture<?> expiration = DispatchExecutors.sharedScheduler()
+                .schedule(() -> expire(correlationId), timeout, unit);
+        synchronized(slot) {
+            if(slot.correlationId == correlationId) {
+                slot.expiration = expiration;
+            } else {
+                expiration.cancel(false);
+            }
+        }
+        final Request<Q, R> request = new Request<>(this, correlationId, query);
+        try {
+            if(eventAggregator.isSynchronous()) {
+                eventAggregator.publish(eventType, request);
+                published(slot, correlationId);
+            } else {
+                eventAggregator.publishAsync(new Message<>(eventType, request))
+                        .whenComplete((ignored, failure) -> published(slot, correlationId));
+            }
+        } catch(RuntimeException failure) {
+            close(slot, correlationId, failure);
+        }
+        return future;
+    }
+
+    /**
+     * Subscribes a responder for the requests of the given {@link IEventType}.
+     *
+     * @param eventType the type of event of the requests
+     * @param responder the {@link IResponder} which answers the requests
+     * @param <Q> the data type of the query
+     * @param <R> the data type of the reply
+     * @return the {@link ISubscription} token of the responder
+     */
+    public <Q, R> ISubscription respond(final IEventType eventType, final IResponder<Q, R> responder) {
+        requireNonNull(responder);
+        return eventAggregator.subscribe(eventType, (IAction<Request<Q, R>>) message -> {
+            final Request<Q, R> request = message.getContent().deliver();
+            try {
+                responder.respond(request);
+            } catch(RuntimeException failure) {
+                request.declineIfUnanswered();
+                throw failure;
+            }
+        });
+    }
+
+    /**
+     * @return the number of the pending requests
+     */
+    public int getPendingCount() {
+        return slots.length - freeSlots.size();
+    }
+
+    void received(final long correlationId) {
+        final Slot slot = slots[(int) correlationId];
+        synchronized(slot) {
+            if(slot.correlationId == correlationId) {
+                slot.responders++;
+            }
+        }
+    }
+
+    boolean answer(final long correlationId, final Object reply) {
+        final Slot slot = slots[(int) correlationId];
+        synchronized(slot) {
+            if(slot.correlationId != correlationId) {
+                return false;
+            }
+            slot.answers++;
+            if(reply != null) {
+                slot.replies.add(reply);
+            }
+        }
+        update(slot, correlationId);
+        return true;
+    }
+
+    /**
+     * Marks the request as received by all its responders, whose count is final from
+     * now on. A failure of a responder does not matter here, it has been counted and
+     * its request has been declined.
+     */
+    private void published(final Slot slot, final long correlationId) {
+        synchronized(slot) {
+            if(slot.correlationId != correlationId) {
+                return;
+            }
+            slot.published = true;
+        }
+        update(slot, correlationId);
+    }
+
+    private void update(final Slot slot, final long correlationId) {
+        final Object outcome;
+        synchronized(slot) {
+            if(slot.correlationId != correlationId) {
+                return;
+            }
+            final GatherPolicy policy = slot.policy;
+            final int required = policy.required(slot.responders);
+            final int replies = slot.replies.size();
+            final int unanswered = slot.responders - slot.answers;
+            if(policy.isKnownInAdvance() && replies >= required) {
+                outcome = new ArrayList<>(slot.replies.subList(0, required));
+            } else if(!slot.published) {
+                return;
+            } else if(replies >= required) {
+                outcome = new ArrayList<>(slot.replies);
+            } else if(policy.isPartial()) {
+                if(unanswered > 0) {
+                    return;
+                }
+                outcome = new ArrayList<>(slot.replies);
+            } else if(replies + unanswered >= required) {
+                return;
+            } else {
+                outcome = new IllegalStateException("The replies can not be enough for the request.");
+            }
+        }
+        close(slot, correlationId, outcome);
+    }
+
+    private void expire(final long correlationId) {
+        final Slot slot = slots[(int) correlationId];
+        final Object outcome;
+        synchronized(slot) {
+            if(slot.correlationId != correlationId) {
+                return;
+            }
+            outcome = slot.policy.isPartial()
+                    ? new ArrayList<>(slot.replies)
+                    : new TimeoutException("The request has timed out with " + slot.replies.size() + " replies.");
+        }
+        close(slot, correlationId, outcome);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void close(final Slot slot, final long correlationId, final Object outcome) {
+        final CompletableFuture<Object> future;
+        synchronized(slot) {
+            if(slot.correlationId != correlationId) {
+                return;
+            }
+            future = (CompletableFuture<Object>) slot.close();
+        }
+        freeSlots.add(slot);
+        if(outcome instanceof Throwable) {
+            future.completeExceptionally((Throwable) outcome);
+        } else {
+            future.complete(outcome);
+        }
+    }
+
+    /**
+     * A reusable slot of a pending request.
+     */
+    private static final class Slot {
+
+        private final int index;
+        private final List<Object> replies = new ArrayList<>();
+        private int generation;
+        private long correlationId = CLOSED;
+        private GatherPolicy policy;
+        private CompletableFuture<?> future;
+        private ScheduledFuture<?> expiration;
+        private boolean published;
+        private int responders;
+        private int answers;
+
+        private Slot(final int index) {
+            this.index = index;
+        }
+
+        private synchronized long open(final GatherPolicy policy, final CompletableFuture<?> future) {
+            this.policy = policy;
+            this.future = future;
+            correlationId = (long) ++generation << Integer.SIZE | index;
+            return correlationId;
+        }
+
+        private CompletableFuture<?> close() {
+            final CompletableFuture<?> closed = future;
+            if(expiration != null) {
+                expiration.cancel(false);
+            }
+            correlationId = CLOSED;
+            policy = null;
+            future = null;
+            expiration = null;
+            published = false;
+            responders = 0;
+            answers = 0;
+            replies.clear();
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs an {@link IEventHandler} over the {@link RingBuffer}. On each round it
+ * waits for the next sequence, drains all the available sequences in one batch
+ * and then advances its own {@link Sequence}, which gates the producers.
+ *
+ * <p>When it is halted, it first drains the sequences which are already claimed
+ * and then it stops.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class BatchConsumer implements Runnable {
+
+    private final RingBuffer ringBuffer;
+    private final IWaitStrategy waitStrategy;
+    private final IEventHandler handler;
+    private final Sequence sequence = new Sequence();
+    private final BooleanSupplier haltedCheck = this::isHalted;
+    private volatile boolean halted;
+
+    BatchConsumer(final RingBuffer ringBuffer, final IWaitStrategy waitStrategy, final IEventHandler handler) {
+        this.ringBuffer = ringBuffer;
+        this.waitStrategy = waitStrategy;
+        this.handler = handler;
+    }
+
+    Sequence getSequence() {
+        return sequence;
+    }
+
+    void halt() {
+        halted = true;
+    }
+
+    private boolean isHalted() {
+        return halted;
+    }
+
+    @Override
+    public void run() {
+        long next = sequence.get() + 1;
+        while(true) {
+            final long available = waitStrategy.waitFor(next, ringBuffer.cursor(), haltedCheck);
+            if(available < next) {
+                return;
+            }
+            final long highest = ringBuffer.highestPublished(next, available);
+            for(long current = next; current <= highest; current++) {
+                try {
+                    handler.onEvent(ringBuffer.get(current), current, current == highest);
+                } catch(Throwable throwable) {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+                }
+            }
+            if(highest >= next) {
+                sequence.set(highest);
+                next = highest + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits in a tight loop. It gives the lowest latency, at the cost of keeping
+ * a CPU core busy, so it should be used only when the consumer threads are
+ * fewer than the physical cores.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class BusySpinWaitStrategy implements IWaitStrategy {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long waitFor(final long sequence, final Sequence cursor, final BooleanSupplier halted) {
+        long available;
+        while((available = cursor.get()) < sequence && !halted.getAsBoolean()) {
+            // spin
+        }
+        return available;
+    }
+}
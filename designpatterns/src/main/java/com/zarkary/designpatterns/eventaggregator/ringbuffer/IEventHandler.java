@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+
+/**
+ * A consumer of the {@link RingBufferEventAggregator}, which processes every
+ * published {@link IMessage} in sequence order.
+ *
+ * <p>The consumer drains all the available sequences in one go. The
+ * {@code endOfBatch} flag marks the last message of each batch, so expensive
+ * work (e.g. flushing to the storage) can be done once per batch.</p>
+ *
+ * <p>The passed {@link IMessage} is a reusable slot of the ring buffer, so it
+ * must not be kept after this method returns.</p>
+ *
+ * <p>This is a <a href="package-summary.html">functional interface</a> whose
+ * functional method is {@link #onEvent(IMessage, long, boolean)}.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface IEventHandler {
+
+    /**
+     * Processes a published {@link IMessage}.
+     *
+     * @param message the published message
+     * @param sequence the sequence of the message in the ring buffer
+     * @param endOfBatch {@code true} if this is the last available message
+     */
+    void onEvent(IMessage<?> message, long sequence, boolean endOfBatch);
+}
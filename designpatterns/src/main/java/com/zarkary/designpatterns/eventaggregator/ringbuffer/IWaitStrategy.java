@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * The strategy which is followed by a consumer while it waits for the next
+ * sequence to be published in the {@link RingBuffer}.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public interface IWaitStrategy {
+
+    /**
+     * Waits until the given sequence is claimed by a producer, or until the
+     * consumer is halted.
+     *
+     * @param sequence the sequence which the consumer waits for
+     * @param cursor the claim cursor of the ring buffer
+     * @param halted tells whether the consumer has been halted
+     * @return the current value of the cursor, which is lower than the requested
+     *         sequence only when the consumer has been halted
+     */
+    long waitFor(long sequence, Sequence cursor, BooleanSupplier halted);
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Parks the consumer thread for a short period between the checks. It uses
+ * almost no CPU while the ring buffer is idle, at the cost of a higher latency.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class ParkingWaitStrategy implements IWaitStrategy {
+
+    private final long parkNanos;
+
+    /**
+     * Constructor, parks for 50 microseconds between the checks.
+     */
+    public ParkingWaitStrategy() {
+        this(50, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parkTime the time the consumer is parked between the checks
+     * @param unit the {@link TimeUnit} of the park time
+     */
+    public ParkingWaitStrategy(final long parkTime, final TimeUnit unit) {
+        if(parkTime <= 0) {
+            throw new IllegalArgumentException("The park time must be positive.");
+        }
+        this.parkNanos = unit.toNanos(parkTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long waitFor(final long sequence, final Sequence cursor, final BooleanSupplier halted) {
+        long available;
+        while((available = cursor.get()) < sequence && !halted.getAsBoolean()) {
+            LockSupport.parkNanos(parkNanos);
+        }
+        return available;
+    }
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A fixed size ring of preallocated {@link Slot}(s) with multi-producer sequencing.
+ *
+ * <p>Producers claim the next sequence with a CAS on the cursor, fill the slot
+ * and then mark it as available. Since producers can finish out of order, the
+ * consumers read the highest contiguous available sequence, instead of the
+ * cursor itself. A producer never overwrites a slot which has not been
+ * processed from all the gating consumer {@link Sequence}(s).</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class RingBuffer {
+
+    private final Slot[] slots;
+    private final int mask;
+    private final int indexShift;
+    private final AtomicIntegerArray availability;
+    private final Sequence cursor = new Sequence();
+    private final Sequence gatingSequenceCache = new Sequence();
+    private volatile Sequence[] gatingSequences = new Sequence[0];
+    private volatile boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param size the number of slots, must be a power of 2
+     */
+    RingBuffer(final int size) {
+        if(size < 1 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("The buffer size must be a power of 2.");
+        }
+        this.slots = new Slot[size];
+        for(int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(size);
+        this.availability = new AtomicIntegerArray(size);
+        for(int i = 0; i < size; i++) {
+            availability.set(i, -1);
+        }
+    }
+
+    /**
+     * @return the cursor, with the highest claimed sequence
+     */
+    Sequence cursor() {
+        return cursor;
+    }
+
+    /**
+     * Sets the consumer {@link Sequence}(s) which the producers must not overtake.
+     *
+     * @param sequences the consumer sequences
+     */
+    void gateOn(final Sequence[] sequences) {
+        this.gatingSequences = sequences.clone();
+    }
+
+    /**
+     * @param sequence a claimed sequence
+     * @return the {@link Slot} of the given sequence
+     */
+    Slot get(final long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    /**
+     * Claims the next sequence, waiting while the ring buffer is full.
+     *
+     * @return the claimed sequence
+     * @throws IllegalStateException when the ring buffer is closed
+     */
+    long next() {
+        checkOpen();
+        while(true) {
+            final long current = cursor.get();
+            final long next = current + 1;
+            final long wrapPoint = next - slots.length;
+            final long cachedGatingSequence = gatingSequenceCache.get();
+
+            if(wrapPoint > cachedGatingSequence || cachedGatingSequence > current) {
+                final long gatingSequence = minimumGatingSequence(current);
+                if(wrapPoint > gatingSequence) {
+                    checkOpen();
+                    LockSupport.parkNanos(1);
+                } else {
+                    gatingSequenceCache.set(gatingSequence);
+                }
+            } else if(cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Closes the ring buffer, so no sequence can be claimed any more, and the
+     * producers which wait for a free slot give up.
+     */
+    void close() {
+        closed = true;
+    }
+
+    private void checkOpen() {
+        if(closed) {
+            throw new IllegalStateException("The ring buffer is closed.");
+        }
+    }
+
+    /**
+     * Makes the slot of the given claimed sequence visible to the consumers.
+     *
+     * @param sequence the claimed sequence
+     */
+    void publish(final long sequence) {
+        availability.lazySet((int) sequence & mask, (int) (sequence >>> indexShift));
+    }
+
+    /**
+     * Finds the highest sequence, up to which all the slots are published.
+     *
+     * @param lowerBound the first sequence to check
+     * @param availableSequence the highest claimed sequence
+     * @return the highest contiguous published sequence, or {@code lowerBound - 1}
+     *         when not even the first one is published yet
+     */
+    long highestPublished(final long lowerBound, final long availableSequence) {
+        for(long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            if(availability.get((int) sequence & mask) != (int) (sequence >>> indexShift)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    private long minimumGatingSequence(final long minimum) {
+        long result = minimum;
+        for(final Sequence sequence : gatingSequences) {
+            result = Math.min(result, sequence.get());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,336 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link IEventAggregator} engine built on a preallocated ring buffer of
+ * reusable message slots, in the style of the LMAX Disruptor.
+ *
+ * <p>Publishing copies the {@link IEventType} and the content of the message
+ * into the next free slot and returns, without allocating and without running
+ * any {@link IAction}. A dedicated consumer thread drains all the available
+ * slots in batches and dispatches each message to the subscriptions, which are
+ * kept in an {@link EventAggregator}. So {@link Publisher}(s) and
+ * {@link Subscriber}(s) can switch to this engine without any change.</p>
+ *
+ * <p>Extra sequence-based consumers can be attached with
+ * {@link #addConsumer(IEventHandler)}. Each one sees every published message,
+ * in sequence order, on its own thread, and producers never overwrite a slot
+ * before all consumers have processed it.</p>
+ *
+ * <p>The {@link IAction}(s) see a reusable slot instead of the published
+ * {@link IMessage}, so they must not keep a reference to it.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class RingBufferEventAggregator implements IEventAggregator, AutoCloseable {
+
+    private final EventAggregator subscriptions =
+            new EventAggregator(DispatchExecutors.sameThread(), null, null, this::onActionFailure);
+    private final RingBuffer ringBuffer;
+    private final IWaitStrategy waitStrategy;
+    private final ThreadFactory threadFactory;
+    private final List<BatchConsumer> consumers = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private boolean started;
+
+    /**
+     * The first failure of the message which is dispatched, confined to the consumer thread.
+     */
+    private Throwable dispatchFailure;
+
+    /**
+     * Constructor, the consumers run on daemon threads.
+     *
+     * @param bufferSize the number of slots of the ring buffer, must be a power of 2
+     * @param waitStrategy the {@link IWaitStrategy} of the consumers
+     */
+    public RingBufferEventAggregator(final int bufferSize, final IWaitStrategy waitStrategy) {
+        this(bufferSize, waitStrategy, DispatchExecutors.daemonThreads("ring-buffer-consumer"));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param bufferSize the number of slots of the ring buffer, must be a power of 2
+     * @param waitStrategy the {@link IWaitStrategy} of the consumers
+     * @param threadFactory the {@link ThreadFactory} of the consumer threads
+     */
+    public RingBufferEventAggregator(final int bufferSize, final IWaitStrategy waitStrategy,
+                                     final ThreadFactory threadFactory) {
+        this.ringBuffer = new RingBuffer(bufferSize);
+        this.waitStrategy = requireNonNull(waitStrategy);
+        this.threadFactory = requireNonNull(threadFactory);
+        consumers.add(new BatchConsumer(ringBuffer, waitStrategy, this::dispatch));
+        gateOnConsumers();
+    }
+
+    /**
+     * Attaches a consumer which processes every published message, in sequence
+     * order, on its own thread. Consumers can be added only before {@link #start()}.
+     *
+     * @param handler the {@link IEventHandler} of the consumer
+     * @return the {@link Sequence} of the last message processed by the consumer
+     */
+    public synchronized Sequence addConsumer(final IEventHandler handler) {
+        if(started) {
+            throw new IllegalStateException("Consumers must be added before the start.");
+        }
+        final BatchConsumer consumer = new BatchConsumer(ringBuffer, waitStrategy, requireNonNull(handler));
+        consumers.add(consumer);
+        gateOnConsumers();
+        return consumer.getSequence();
+    }
+
+    /**
+     * Starts the consumer threads. Messages can be published before the start,
+     * but the producers wait when the ring buffer gets full.
+     */
+    public synchronized void start() {
+        if(started) {
+            throw new IllegalStateException("The ring buffer is already started.");
+        }
+        started = true;
+        for(final BatchConsumer consumer : consumers) {
+            final Thread thread = threadFactory.newThread(consumer);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops the consumers, after they have processed the messages which are
+     * already published, and waits for their threads to finish. After the close
+     * the publishing fails with an {@link IllegalStateException}, also for the
+     * producers which are waiting for a free slot.
+     */
+    @Override
+    public synchronized void close() throws InterruptedException {
+        ringBuffer.close();
+        consumers.forEach(BatchConsumer::halt);
+        for(final Thread thread : threads) {
+            thread.join();
+        }
+        threads.clear();
+    }
+
+    /**
+     * @return the highest sequence which has been claimed by a producer
+     */
+    public long getCursor() {
+        return ringBuffer.cursor().get();
+    }
+
+    /**
+     * Publishes the {@link IMessage} by copying its {@link IEventType} and its
+     * content into the next free slot. It waits only while the ring buffer is full.
+     *
+     * @param message the published {@link IMessage}, must not be {@code null}
+     * @param <T> the data type of {@link IMessage}
+     * @throws IllegalStateException when the ring buffer is closed
+     */
+    @Override
+    public <T> void publish(final IMessage<T> message) {
+        publish(requireNonNull(message).getEventType(), message.getContent(), null);
+    }
+
+    /**
+     * Publishes, for a specific {@link IEventType}, the given content without
+     * creating an {@link IMessage} for it.
+     *
+     * @param eventType the type of event
+     * @param content the content which is going to be published
+     * @param <T> the content type of content
+     */
+    @Override
+    public <T> void publish(final IEventType eventType, final T content) {
+        publish(eventType, content, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> CompletableFuture<Void> publishAsync(final IMessage<T> message) {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        publish(requireNonNull(message).getEventType(), message.getContent(), completion);
+        return completion;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribe(final IEventType eventType, final IAction<T> action) {
+        return subscriptions.subscribe(eventType, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeByKey(final IEventType eventType, final Object key, final IAction<T> action) {
+        return subscriptions.subscribeByKey(eventType, key, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeFiltered(final IEventType eventType, final Predicate<? super IMessage<T>> filter,
+                                               final IAction<T> action) {
+        return subscriptions.subscribeFiltered(eventType, filter, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeWithPriority(final IEventType eventType, final int priority,
+                                                   final IAction<T> action) {
+        return subscriptions.subscribeWithPriority(eventType, priority, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeWithReplay(final IEventType eventType, final IAction<T> action) {
+        return subscriptions.subscribeWithReplay(eventType, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> ISubscription subscribeWeakly(final IEventType eventType, final IAction<T> action) {
+        return subscriptions.subscribeWeakly(eventType, action);
+    }
+
+    /**
+     * Retains the recent messages of the given {@link IEventType} for the late subscribers.
+     *
+     * @param eventType the published event type
+     * @param policy the {@link ReplayPolicy} of the retained messages
+     * @see EventAggregator#retain(IEventType, ReplayPolicy)
+     */
+    public void retain(final IEventType eventType, final ReplayPolicy policy) {
+        subscriptions.retain(eventType, policy);
+    }
+
+    /**
+     * Caches the last value per routing key of the given {@link IEventType}.
+     *
+     * @param eventType the published event type
+     * @see EventAggregator#cacheLastValues(IEventType)
+     */
+    public void cacheLastValues(final IEventType eventType) {
+        subscriptions.cacheLastValues(eventType);
+    }
+
+    /**
+     * @param eventType the cached {@link IEventType}
+     * @param key the routing key of the message, or {@code null} for the messages
+     *            without a routing key
+     * @param <T> the data type of {@link IMessage}
+     * @return the last message of the given event type and routing key, which has
+     *         been dispatched from the consumer thread, or {@code null} if there is none
+     */
+    public <T> IMessage<T> getLastValue(final IEventType eventType, final Object key) {
+        return subscriptions.getLastValue(eventType, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unsubscribe(final ISubscription subscription) {
+        subscriptions.unsubscribe(subscription);
+    }
+
+    private void gateOnConsumers() {
+        final Sequence[] gatingSequences = new Sequence[consumers.size()];
+        for(int i = 0; i < gatingSequences.length; i++) {
+            gatingSequences[i] = consumers.get(i).getSequence();
+        }
+        ringBuffer.gateOn(gatingSequences);
+    }
+
+    private void publish(final IEventType eventType, final Object content,
+                         final CompletableFuture<Void> completion) {
+        requireNonNull(eventType);
+        requireNonNull(content);
+        final long sequence = ringBuffer.next();
+        ringBuffer.get(sequence).set(eventType, content, completion);
+        ringBuffer.publish(sequence);
+    }
+
+    private void dispatch(final IMessage<?> message, final long sequence, final boolean endOfBatch) {
+        final Slot slot = (Slot) message;
+        final CompletableFuture<Void> completion = slot.getCompletion();
+        dispatchFailure = null;
+        try {
+            subscriptions.publish(slot);
+        } catch(Error failure) {
+            if(completion == null) {
+                throw failure;
+            }
+            completion.completeExceptionally(failure);
+            return;
+        }
+        if(completion != null) {
+            if(dispatchFailure != null) {
+                completion.completeExceptionally(dispatchFailure);
+            } else {
+                completion.complete(null);
+            }
+        }
+    }
+
+    /**
+     * The failure of a message which is published asynchronously completes its future,
+     * after all the subscribers, any other failure is reported to the uncaught exception
+     * handler of the consumer thread. In both cases the rest of the subscribers still
+     * receive the message.
+     */
+    /**
+     * A failure of an asynchronous message is kept for its future, on the consumer thread.
+     * The rest of the failures are reported, including the ones of the retained and cached
+     * messages, which are delivered on the subscriber's thread as copies of the slots.
+     */
+    private void onActionFailure(final ISubscription subscription, final IMessage<?> message, final Throwable error) {
+        if(message instanceof Slot && ((Slot) message).getCompletion() != null) {
+            if(dispatchFailure == null) {
+                dispatchFailure = error;
+            }
+        } else {
+            ErrorHandlers.reportUncaught().onError(subscription, message, error);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A counter of ring buffer positions, which is shared between producers and
+ * consumers. The value is padded, so two Sequences never share a cache line.
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+public class Sequence {
+
+    /**
+     * The value of a Sequence before anything has been published or consumed.
+     */
+    public static final long INITIAL_VALUE = -1L;
+
+    private static final AtomicLongFieldUpdater<Sequence> VALUE =
+            AtomicLongFieldUpdater.newUpdater(Sequence.class, "value");
+
+    @SuppressWarnings("unused")
+    private long p1, p2, p3, p4, p5, p6, p7;
+    private volatile long value = INITIAL_VALUE;
+    @SuppressWarnings("unused")
+    private long p9, p10, p11, p12, p13, p14, p15;
+
+    /**
+     * @return the current value of the sequence
+     */
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Sets the value with an ordered write, which is cheaper than a volatile
+     * one and enough to publish the preceding writes to the other threads.
+     *
+     * @param value the new value
+     */
+    public void set(final long value) {
+        VALUE.lazySet(this, value);
+    }
+
+    /**
+     * Atomically sets the value, if the current value is the expected one.
+     *
+     * @param expected the expected current value
+     * @param value the new value
+     * @return {@code true} if the value was set
+     */
+    public boolean compareAndSet(final long expected, final long value) {
+        return VALUE.compareAndSet(this, expected, value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright 2018 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.zarkary.designpatterns.eventaggregator.ringbuffer;
+
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A preallocated and reusable entry of the {@link RingBuffer}. Producers copy
+ * the event type and the content of the published message into the slot, so
+ * no {@link IMessage} is allocated per publish.
+ *
+ * <p>A slot is overwritten when the ring buffer wraps around, so consumers must
+ * not keep a reference to it after they have processed it.</p>
+ *
+ * @author Ioannis Katsatos
+ * @since 18.10.2026
+ */
+final class Slot implements IMessage<Object> {
+
+    private IEventType eventType;
+    private Object content;
+    private CompletableFuture<Void> completion;
+
+    void set(final IEventType eventType, final Object content, final CompletableFuture<Void> completion) {
+        this.eventType = eventType;
+        this.content = content;
+        this.completion = completion;
+    }
+
+    /**
+     * @return the {@link IEventType} of the message in this slot
+     */
+    @Override
+    public IEventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * @return the content of the message in this slot
+     */
+    @Override
+    public Object getContent() {
+        return content;
+    }
+
+    /**
+     * @return the future which is completed when the message has been dispatched,
+     *         or {@code null} when nobody waits for it
+     */
+    CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+}
@@ -0,0 +1,191 @@
+package com.zarkary.designpatterns.api;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchingActionTest {
+
+    @Mock
+    private IEventType eventType;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private ScheduledFuture<?> deadline;
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final Executor manualExecutor = pendingTasks::add;
+    private final List<List<Object>> batches = new ArrayList<>();
+    private final IBatchAction<String> action = messages -> {
+        final List<Object> batch = new ArrayList<>();
+        messages.forEach(message -> batch.add(message.getContent()));
+        batches.add(batch);
+    };
+
+    @Before
+    public void setUp() {
+        pendingTasks.clear();
+        batches.clear();
+        doReturn(deadline).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batchingAction_whenBatchSizeIsNotPositive_thenIllegalArgumentException() {
+
+        // Arrange
+        final int maxBatchSize = 0;
+
+        // Act
+        new BatchingAction<>(action, manualExecutor, scheduler, maxBatchSize, 1, TimeUnit.SECONDS);
+
+        // Assert
+    }
+
+    @Test
+    public void doAction_whenBatchIsFull_thenItIsFlushedWithoutWaitingForTheDeadline() {
+
+        // Arrange
+        final BatchingAction<String> batchingAction =
+                new BatchingAction<>(action, manualExecutor, scheduler, 3, 1, TimeUnit.SECONDS);
+
+        // Act
+        for(int i = 1; i <= 7; i++) {
+            batchingAction.doAction(new Message<>(eventType, "message " + i));
+        }
+        runPendingTasks();
+
+        // Assert
+        assertEquals(Arrays.asList(Arrays.<Object>asList("message 1", "message 2", "message 3"),
+                Arrays.<Object>asList("message 4", "message 5", "message 6")), batches);
+        assertEquals(1, batchingAction.getPendingCount());
+        verify(scheduler, times(3)).schedule(any(Runnable.class), eq(TimeUnit.SECONDS.toNanos(1)),
+                eq(TimeUnit.NANOSECONDS));
+        verify(deadline, times(2)).cancel(false);
+    }
+
+    @Test
+    public void doAction_whenExecutorRejectsTheDrain_thenTheNextBatchSchedulesItAgain() {
+
+        // Arrange
+        final AtomicBoolean rejecting = new AtomicBoolean(true);
+        final Executor executor = task -> {
+            if(rejecting.get()) {
+                throw new RejectedExecutionException();
+            }
+            pendingTasks.add(task);
+        };
+        final BatchingAction<String> batchingAction =
+                new BatchingAction<>(action, executor, scheduler, 1, 1, TimeUnit.SECONDS);
+        try {
+            batchingAction.doAction(new Message<>(eventType, "first"));
+            fail();
+        } catch(RejectedExecutionException expected) {
+            rejecting.set(false);
+        }
+
+        // Act
+        batchingAction.doAction(new Message<>(eventType, "second"));
+        runPendingTasks();
+
+        // Assert
+        assertEquals(Arrays.asList(Arrays.<Object>asList("first"), Arrays.<Object>asList("second")), batches);
+    }
+
+    @Test
+    public void doAction_whenDeadlineExpires_thenPartialBatchIsFlushed() {
+
+        // Arrange
+        final ArgumentCaptor<Runnable> expiry = ArgumentCaptor.forClass(Runnable.class);
+        final BatchingAction<String> batchingAction =
+                new BatchingAction<>(action, manualExecutor, scheduler, 100, 10, TimeUnit.MILLISECONDS);
+        batchingAction.doAction(new Message<>(eventType, "first"));
+        batchingAction.doAction(new Message<>(eventType, "second"));
+
+        // Act
+        verify(scheduler, times(1)).schedule(expiry.capture(), anyLong(), any(TimeUnit.class));
+        expiry.getValue().run();
+        runPendingTasks();
+
+        // Assert
+        assertEquals(Arrays.asList(Arrays.<Object>asList("first", "second")), batches);
+        assertEquals(0, batchingAction.getPendingCount());
+    }
+
+    @Test
+    public void doAction_whenDeadlineOfFlushedBatchExpires_thenNextBatchIsNotFlushedEarly() {
+
+        // Arrange
+        final ArgumentCaptor<Runnable> expiry = ArgumentCaptor.forClass(Runnable.class);
+        final BatchingAction<String> batchingAction =
+                new BatchingAction<>(action, manualExecutor, scheduler, 2, 10, TimeUnit.MILLISECONDS);
+        batchingAction.doAction(new Message<>(eventType, "first"));
+        batchingAction.doAction(new Message<>(eventType, "second"));
+        batchingAction.doAction(new Message<>(eventType, "third"));
+
+        // Act
+        verify(scheduler, times(2)).schedule(expiry.capture(), anyLong(), any(TimeUnit.class));
+        expiry.getAllValues().get(0).run();
+        runPendingTasks();
+
+        // Assert
+        assertEquals(Arrays.asList(Arrays.<Object>asList("first", "second")), batches);
+        assertEquals(1, batchingAction.getPendingCount());
+    }
+
+    @Test
+    public void subscribe_whenBatchingActionIsSubscribed_thenSharedSchedulerFlushesThePublishedMessages()
+            throws InterruptedException {
+
+        // Arrange
+        final EventAggregator eventAggregator = new EventAggregator();
+        final CountDownLatch flushed = new CountDownLatch(1);
+        final List<IMessage<String>> received = new ArrayList<>();
+        new Subscriber(eventAggregator).subscribe(eventType, new BatchingAction<String>(messages -> {
+            received.addAll(messages);
+            flushed.countDown();
+        }, DispatchExecutors.sameThread(), 100, 10, TimeUnit.MILLISECONDS));
+
+        // Act
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "second");
+
+        // Assert
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, received.size());
+        assertEquals("second", received.get(1).getContent());
+    }
+
+    private void runPendingTasks() {
+        while(!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+}
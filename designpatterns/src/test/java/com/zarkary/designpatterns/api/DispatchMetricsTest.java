@@ -0,0 +1,112 @@
+package com.zarkary.designpatterns.api;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DispatchMetricsTest {
+
+    private final DispatchMetrics metrics = new DispatchMetrics();
+
+    private final DeadLetterQueue deadLetters = new DeadLetterQueue(16);
+
+    private final EventAggregator eventAggregator =
+            new EventAggregator(DispatchExecutors.sameThread(), metrics, null, deadLetters);
+
+    @Test
+    public void snapshot_whenMessagesArePublished_thenPublishedCountAndFanOutPerEventTypeAreRecorded() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IEventType otherEventType = mock(IEventType.class);
+        eventAggregator.subscribe(eventType, message -> { });
+        eventAggregator.subscribe(eventType, message -> { });
+
+        // Act
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(new Message<>(eventType, "second"));
+        eventAggregator.publish(otherEventType, "third");
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // Assert
+        final MetricsSnapshot.EventTypeStatistics statistics = snapshot.getEventTypes().get(eventType);
+        assertEquals(2, statistics.getPublished());
+        assertEquals(4, statistics.getDeliveries());
+        assertEquals(2, statistics.getMaxFanOut());
+        assertEquals(2.0, statistics.getMeanFanOut(), 0.0);
+        assertEquals(1, snapshot.getEventTypes().get(otherEventType).getPublished());
+        assertEquals(0, snapshot.getEventTypes().get(otherEventType).getDeliveries());
+    }
+
+    @Test
+    public void snapshot_whenActionIsInvoked_thenLatencyAndFailuresOfTheSubscriptionAreRecorded() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final ISubscription subscription = eventAggregator.subscribe(eventType, (IAction<String>) message -> {
+            if(message.getContent().equals("fail")) {
+                throw new IllegalStateException("failed");
+            }
+        });
+
+        // Act
+        eventAggregator.publish(eventType, "ok");
+        eventAggregator.publish(eventType, "fail");
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // Assert
+        assertEquals(1, snapshot.getSubscriptions().size());
+        final MetricsSnapshot.SubscriptionStatistics statistics = snapshot.getSubscriptions().get(0);
+        assertSame(subscription, statistics.getSubscription());
+        assertEquals(2, statistics.getInvocations());
+        assertEquals(1, statistics.getFailures());
+        assertEquals(1, deadLetters.size());
+        assertTrue(statistics.getMaxLatency() >= statistics.getLatency50());
+    }
+
+    @Test
+    public void snapshot_whenActionIsMailbox_thenPendingAndDroppedMessagesAreRecorded() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<Runnable> tasks = new ArrayList<>();
+        final Executor manualExecutor = tasks::add;
+        eventAggregator.subscribe(eventType, new Mailbox<>(message -> { }, manualExecutor, 1, OverflowPolicy.DROP_NEWEST));
+
+        // Act
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "second");
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // Assert
+        final MetricsSnapshot.SubscriptionStatistics statistics = snapshot.getSubscriptions().get(0);
+        assertEquals(1, statistics.getPending());
+        assertEquals(1, statistics.getDropped());
+    }
+
+    @Test
+    public void snapshot_whenSubscriptionIsRemovedAndGaugeIsRegistered_thenSnapshotReflectsThem() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final ISubscription subscription = eventAggregator.subscribe(eventType, message -> { });
+        metrics.registerGauge("queue", () -> 42L);
+
+        // Act
+        eventAggregator.unsubscribe(subscription);
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // Assert
+        assertTrue(snapshot.getSubscriptions().isEmpty());
+        assertEquals(Long.valueOf(42L), snapshot.getGauges().get("queue"));
+    }
+}
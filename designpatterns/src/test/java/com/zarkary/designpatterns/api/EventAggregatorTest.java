@@ -6,7 +6,22 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 
-import static org.junit.Assert.assertEquals;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -226,4 +241,1095 @@ public class EventAggregatorTest {
         // Assert
         verify(firstAction, times(1)).doAction(firstMessage);
     }
+
+    @Test
+    public void publish_whenSubscriptionsChangeDuringPublishing_thenNoExceptionAndNoSubscriptionIsLost() throws Exception {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IMessage message = mock(IMessage.class);
+        when(message.getEventType()).thenReturn(eventType);
+        final AtomicInteger stableInvocations = new AtomicInteger();
+        eventAggregator.subscribe(eventType, msg -> stableInvocations.incrementAndGet());
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch finished = new CountDownLatch(2);
+        final Runnable churn = () -> {
+            try {
+                while(running.get()) {
+                    eventAggregator.unsubscribe(eventAggregator.subscribe(eventType, msg -> { }));
+                }
+            } catch(Throwable throwable) {
+                failure.set(throwable);
+            } finally {
+                finished.countDown();
+            }
+        };
+
+        // Act
+        new Thread(churn).start();
+        new Thread(churn).start();
+        final int publishedMessages = 20_000;
+        for(int i = 0; i < publishedMessages; i++) {
+            eventAggregator.publish(message);
+        }
+        running.set(false);
+        finished.await();
+
+        // Assert
+        assertNull(failure.get());
+        assertEquals(publishedMessages, stableInvocations.get());
+    }
+
+    @Test
+    public void publishAsync_whenMessageWithoutRegisteredSubscribers_thenCompletedFutureIsReturned() {
+
+        // Arrange
+        final IMessage message = mock(IMessage.class);
+        when(message.getEventType()).thenReturn(mock(IEventType.class));
+
+        // Act
+        final CompletableFuture<Void> completion = eventAggregator.publishAsync(message);
+
+        // Assert
+        assertTrue(completion.isDone());
+    }
+
+    @Test
+    public void publishAsync_whenSubscriptionHasOwnExecutor_thenActionIsExecutedOnThatExecutor() throws Exception {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IMessage message = mock(IMessage.class);
+        when(message.getEventType()).thenReturn(eventType);
+        final IAction action = mock(IAction.class);
+        final Executor executor = mock(Executor.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        eventAggregator.subscribe(eventType, action, executor);
+
+        // Act
+        eventAggregator.publishAsync(message).get(1, TimeUnit.SECONDS);
+
+        // Assert
+        verify(executor, times(1)).execute(any(Runnable.class));
+        verify(action, times(1)).doAction(message);
+    }
+
+    @Test
+    public void publishAsync_whenActionIsSlow_thenPublisherIsNotBlocked() throws Exception {
+
+        // Arrange
+        final ExecutorService executor = DispatchExecutors.virtualThreadPerTask("test-dispatch");
+        final EventAggregator asyncEventAggregator = new EventAggregator(executor);
+        final IEventType eventType = mock(IEventType.class);
+        final IMessage message = mock(IMessage.class);
+        when(message.getEventType()).thenReturn(eventType);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IAction fastAction = mock(IAction.class);
+        asyncEventAggregator.subscribe(eventType, msg -> {
+            try {
+                release.await();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        asyncEventAggregator.subscribe(eventType, fastAction);
+
+        // Act
+        final CompletableFuture<Void> completion = asyncEventAggregator.publishAsync(message);
+
+        // Assert
+        verify(fastAction, timeout(1000).times(1)).doAction(message);
+        assertFalse(completion.isDone());
+        release.countDown();
+        completion.get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    public void publishAsync_whenAnActionFails_thenTheRestAreExecutedAndFutureCompletesExceptionally() throws Exception {
+
+        // Arrange
+        final EventAggregator sameThreadEventAggregator = new EventAggregator(DispatchExecutors.sameThread());
+        final IEventType eventType = mock(IEventType.class);
+        final IMessage message = mock(IMessage.class);
+        when(message.getEventType()).thenReturn(eventType);
+        final IllegalStateException failure = new IllegalStateException();
+        final IAction failingAction = mock(IAction.class);
+        doThrow(failure).when(failingAction).doAction(message);
+        final IAction action = mock(IAction.class);
+        sameThreadEventAggregator.subscribe(eventType, failingAction);
+        sameThreadEventAggregator.subscribe(eventType, action);
+
+        // Act
+        final CompletableFuture<Void> completion = sameThreadEventAggregator.publishAsync(message);
+
+        // Assert
+        verify(action, times(1)).doAction(message);
+        try {
+            completion.get();
+            fail();
+        } catch(ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    public void publish_whenEventTypeAndContentArePassed_thenActionReceivesThem() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final AtomicReference<Object> receivedContent = new AtomicReference<>();
+        final AtomicReference<IEventType> receivedEventType = new AtomicReference<>();
+        eventAggregator.subscribe(eventType, message -> {
+            receivedEventType.set(message.getEventType());
+            receivedContent.set(message.getContent());
+        });
+
+        // Act
+        eventAggregator.publish(eventType, "Some Content");
+
+        // Assert
+        assertSame(eventType, receivedEventType.get());
+        assertEquals("Some Content", receivedContent.get());
+    }
+
+    @Test
+    public void publish_whenActionPublishesFromItsCallback_thenOuterMessageIsNotOverwritten() {
+
+        // Arrange
+        final IEventType outerEventType = mock(IEventType.class);
+        final IEventType innerEventType = mock(IEventType.class);
+        final AtomicReference<Object> contentAfterInnerPublish = new AtomicReference<>();
+        eventAggregator.subscribe(innerEventType, message -> { });
+        eventAggregator.subscribe(outerEventType, message -> {
+            eventAggregator.publish(innerEventType, "Inner Content");
+            contentAfterInnerPublish.set(message.getContent());
+        });
+
+        // Act
+        eventAggregator.publish(outerEventType, "Outer Content");
+
+        // Assert
+        assertEquals("Outer Content", contentAfterInnerPublish.get());
+    }
+
+    @Test
+    public void publish_whenEventTypeAndContentArePublished_thenActionCanKeepTheMessage() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<IMessage<Object>> kept = new ArrayList<>();
+        eventAggregator.subscribe(eventType, kept::add);
+
+        // Act
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "second");
+
+        // Assert
+        assertEquals(2, kept.size());
+        assertSame(eventType, kept.get(0).getEventType());
+        assertEquals("first", kept.get(0).getContent());
+        assertEquals("second", kept.get(1).getContent());
+    }
+
+    @Test
+    public void publishTransient_whenActionPublishesFromItsCallback_thenOuterMessageIsNotOverwritten() {
+
+        // Arrange
+        final IEventType outerEventType = mock(IEventType.class);
+        final IEventType innerEventType = mock(IEventType.class);
+        final AtomicReference<Object> contentAfterInnerPublish = new AtomicReference<>();
+        eventAggregator.subscribe(innerEventType, message -> { });
+        eventAggregator.subscribe(outerEventType, message -> {
+            eventAggregator.publishTransient(innerEventType, "Inner Content");
+            contentAfterInnerPublish.set(message.getContent());
+        });
+
+        // Act
+        eventAggregator.publishTransient(outerEventType, "Outer Content");
+
+        // Assert
+        assertEquals("Outer Content", contentAfterInnerPublish.get());
+    }
+
+    @Test
+    public void publishTransient_whenEventTypeAndContentArePublishedInSteadyState_thenNothingIsAllocated() {
+
+        // Arrange
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported());
+        allocations.setThreadAllocatedMemoryEnabled(true);
+
+        final long[] received = new long[1];
+        eventAggregator.subscribe(AllocationEvent.MEASURED, message -> received[0]++);
+        eventAggregator.subscribe(AllocationEvent.MEASURED, message -> received[0]++);
+        final Object content = new Object();
+        final int messages = 100_000;
+        final int rounds = 5;
+        for(int i = 0; i < messages; i++) {
+            eventAggregator.publishTransient(AllocationEvent.MEASURED, content);
+        }
+        final long threadId = Thread.currentThread().getId();
+
+        // Act
+        // the least allocating round is measured, since any single round may include
+        // one-off allocations of the JIT compiler, which are not the publishing's
+        long allocated = Long.MAX_VALUE;
+        for(int round = 0; round < rounds; round++) {
+            final long allocatedBefore = allocations.getThreadAllocatedBytes(threadId);
+            for(int i = 0; i < messages; i++) {
+                eventAggregator.publishTransient(AllocationEvent.MEASURED, content);
+            }
+            allocated = Math.min(allocated, allocations.getThreadAllocatedBytes(threadId) - allocatedBefore);
+        }
+
+        // Assert
+        assertEquals(2L * (1 + rounds) * messages, received[0]);
+        assertTrue("allocated " + allocated + " bytes", allocated < 1024);
+    }
+
+    @Test
+    public void publishAll_whenBatchHasManyEventTypes_thenEachSubscriptionGetsItsMessagesInOrder() {
+
+        // Arrange
+        final IEventType firstEventType = mock(IEventType.class);
+        final IEventType secondEventType = mock(IEventType.class);
+        final IMessage<?> first = new Message<>(firstEventType, "first");
+        final IMessage<?> second = new Message<>(secondEventType, "second");
+        final IMessage<?> third = new Message<>(firstEventType, "third");
+        final List<Object> received = new ArrayList<>();
+        final IAction action = message -> received.add(message.getContent());
+        eventAggregator.subscribe(firstEventType, action);
+
+        // Act
+        eventAggregator.publishAll(Arrays.asList(first, second, third));
+
+        // Assert
+        assertEquals(Arrays.asList("first", "third"), received);
+    }
+
+    @Test
+    public void publishAll_whenSubscriptionHasBatchAction_thenItReceivesTheWholeBatchAtOnce() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IMessage<?> first = new Message<>(eventType, "first");
+        final IMessage<?> second = new Message<>(eventType, "second");
+        final List<List> batches = new ArrayList<>();
+        eventAggregator.subscribe(eventType, (IBatchAction) batches::add);
+
+        // Act
+        eventAggregator.publishAll(Arrays.asList(first, second));
+        eventAggregator.publish(first);
+
+        // Assert
+        assertEquals(2, batches.size());
+        assertEquals(Arrays.asList(first, second), batches.get(0));
+        assertEquals(Arrays.asList(first), batches.get(1));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void publishAll_whenBatchContainsNullMessage_thenNullPointerExceptionBeforeAnyDispatching() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        eventAggregator.subscribe(eventType, action);
+
+        // Act
+        try {
+            eventAggregator.publishAll(Arrays.asList(new Message<>(eventType, "first"), null));
+        } finally {
+            // Assert
+            verifyZeroInteractions(action);
+        }
+    }
+
+    @Test
+    public void publish_whenSubscribedToParentEventType_thenMessagesOfChildEventTypesAreReceived() {
+
+        // Arrange
+        final IAction parentAction = mock(IAction.class);
+        final IAction childAction = mock(IAction.class);
+        eventAggregator.subscribe(HierarchyEvent.MOVEMENT, parentAction);
+        eventAggregator.subscribe(HierarchyEvent.LOCATION_CHANGED, childAction);
+        final IMessage<?> locationChanged = new Message<>(HierarchyEvent.LOCATION_CHANGED, "location");
+        final IMessage<?> availabilityChanged = new Message<>(HierarchyEvent.AVAILABILITY_CHANGED, "availability");
+
+        // Act
+        eventAggregator.publish(locationChanged);
+        eventAggregator.publish(availabilityChanged);
+
+        // Assert
+        verify(parentAction, times(1)).doAction(locationChanged);
+        verify(parentAction, times(1)).doAction(availabilityChanged);
+        verify(childAction, times(1)).doAction(locationChanged);
+        verify(childAction, times(0)).doAction(availabilityChanged);
+    }
+
+    @Test
+    public void publish_whenSubscribedToAllConstantsOfEnum_thenOnlyMessagesOfThatEnumAreReceived() {
+
+        // Arrange
+        final IAction action = mock(IAction.class);
+        final IMessage<?> enumMessage = new Message<>(HierarchyEvent.AVAILABILITY_CHANGED, "availability");
+        final IMessage<?> otherMessage = new Message<>(AllocationEvent.MEASURED, "other");
+        eventAggregator.publish(enumMessage);
+
+        // Act
+        eventAggregator.subscribe(EventTypes.allOf(HierarchyEvent.class), action);
+        eventAggregator.publish(enumMessage);
+        eventAggregator.publish(otherMessage);
+
+        // Assert
+        verify(action, times(1)).doAction(enumMessage);
+        verify(action, times(0)).doAction(otherMessage);
+    }
+
+    @Test
+    public void publish_whenSubscribedToWildcard_thenMessagesOfEveryEventTypeAreReceivedUntilUnsubscribed() {
+
+        // Arrange
+        final IAction action = mock(IAction.class);
+        final IMessage<?> firstMessage = new Message<>(mock(IEventType.class), "first");
+        final IMessage<?> secondMessage = new Message<>(HierarchyEvent.MOVEMENT, "second");
+        final ISubscription subscription = eventAggregator.subscribe(EventTypes.ANY, action);
+
+        // Act
+        eventAggregator.publish(firstMessage);
+        eventAggregator.unsubscribe(subscription);
+        eventAggregator.publish(secondMessage);
+
+        // Assert
+        verify(action, times(1)).doAction(firstMessage);
+        verify(action, times(0)).doAction(secondMessage);
+    }
+
+    @Test
+    public void publish_whenEnumEventTypeIsPublishedBeforeAndAfterSubscriptionChanges_thenDispatchTableIsKeptInSync() {
+
+        // Arrange
+        final List<Object> received = new ArrayList<>();
+        final IAction action = message -> received.add(message.getContent());
+        eventAggregator.publish(HierarchyEvent.LOCATION_CHANGED, "before");
+        final ISubscription subscription = eventAggregator.subscribe(HierarchyEvent.LOCATION_CHANGED, action);
+
+        // Act
+        eventAggregator.publish(HierarchyEvent.LOCATION_CHANGED, "subscribed");
+        eventAggregator.publish(HierarchyEvent.AVAILABILITY_CHANGED, "other");
+        eventAggregator.unsubscribe(subscription);
+        eventAggregator.publish(HierarchyEvent.LOCATION_CHANGED, "unsubscribed");
+
+        // Assert
+        assertEquals(Arrays.<Object>asList("subscribed"), received);
+    }
+
+    @Test
+    public void publish_whenEnumConstantsHaveBodies_thenEachConstantIsRoutedToItsOwnSubscribers() {
+
+        // Arrange
+        final List<Object> first = new ArrayList<>();
+        final List<Object> second = new ArrayList<>();
+        eventAggregator.subscribe(BodyEvent.FIRST, message -> first.add(message.getContent()));
+        eventAggregator.subscribe(BodyEvent.SECOND, message -> second.add(message.getContent()));
+
+        // Act
+        eventAggregator.publish(BodyEvent.FIRST, 1);
+        eventAggregator.publish(BodyEvent.SECOND, 2);
+        eventAggregator.publish(new Message<>(BodyEvent.FIRST, 3));
+
+        // Assert
+        assertEquals(Arrays.<Object>asList(1, 3), first);
+        assertEquals(Arrays.<Object>asList(2), second);
+    }
+
+    @Test
+    public void publish_whenContentIsKeyed_thenOnlySubscriptionsOfItsKeyAndUnkeyedOnesAreInvoked() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<Object> first = new ArrayList<>();
+        final List<Object> second = new ArrayList<>();
+        final List<Object> all = new ArrayList<>();
+        eventAggregator.subscribeByKey(eventType, "first", message -> first.add(message.getContent()));
+        eventAggregator.subscribeByKey(eventType, "second", message -> second.add(message.getContent()));
+        eventAggregator.subscribe(eventType, message -> all.add(message.getContent()));
+        final KeyedContent firstContent = new KeyedContent("first");
+        final KeyedContent secondContent = new KeyedContent("second");
+        final KeyedContent otherContent = new KeyedContent("other");
+
+        // Act
+        eventAggregator.publish(new Message<>(eventType, firstContent));
+        eventAggregator.publish(eventType, secondContent);
+        eventAggregator.publish(eventType, otherContent);
+        eventAggregator.publish(eventType, "not keyed");
+
+        // Assert
+        assertEquals(Arrays.<Object>asList(firstContent), first);
+        assertEquals(Arrays.<Object>asList(secondContent), second);
+        assertEquals(Arrays.<Object>asList(firstContent, secondContent, otherContent, "not keyed"), all);
+    }
+
+    @Test
+    public void publish_whenKeyedSubscriptionIsUnsubscribed_thenItIsNotInvokedAnyMore() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        final ISubscription subscription = eventAggregator.subscribeByKey(eventType, "key", action);
+        eventAggregator.publish(eventType, new KeyedContent("key"));
+
+        // Act
+        eventAggregator.unsubscribe(subscription);
+        eventAggregator.publish(eventType, new KeyedContent("key"));
+
+        // Assert
+        verify(action, times(1)).doAction(any(IMessage.class));
+    }
+
+    @Test
+    public void publishAsync_whenContentIsKeyed_thenFutureCompletesAfterTheSubscriptionOfItsKey() throws Exception {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final AtomicInteger invocations = new AtomicInteger();
+        eventAggregator.subscribeByKey(eventType, "key", message -> invocations.incrementAndGet());
+        eventAggregator.subscribeByKey(eventType, "other", message -> invocations.addAndGet(100));
+
+        // Act
+        eventAggregator.publishAsync(new Message<>(eventType, new KeyedContent("key"))).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void publishAll_whenBatchHasManyKeys_thenEachKeyedSubscriptionGetsOnlyItsMessages() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final KeyedContent first = new KeyedContent("first");
+        final KeyedContent second = new KeyedContent("second");
+        final KeyedContent third = new KeyedContent("first");
+        final List<List<IMessage<Object>>> batches = new ArrayList<>();
+        eventAggregator.subscribeByKey(eventType, "first", (IBatchAction<Object>) batches::add);
+
+        // Act
+        eventAggregator.publishAll(Arrays.<IMessage<?>>asList(new Message<>(eventType, first),
+                new Message<>(eventType, second), new Message<>(eventType, third)));
+
+        // Assert
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertSame(first, batches.get(0).get(0).getContent());
+        assertSame(third, batches.get(0).get(1).getContent());
+    }
+
+    @Test
+    public void publish_whenSubscriptionIsFiltered_thenActionIsInvokedOnlyForAcceptedMessages() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<Integer> received = new ArrayList<>();
+        eventAggregator.<Integer>subscribeFiltered(eventType, message -> message.getContent() % 2 == 0,
+                message -> received.add(message.getContent()));
+
+        // Act
+        for(int i = 0; i < 5; i++) {
+            eventAggregator.publish(eventType, i);
+        }
+        eventAggregator.publishAll(Arrays.<IMessage<?>>asList(new Message<>(eventType, 5), new Message<>(eventType, 6)));
+
+        // Assert
+        assertEquals(Arrays.asList(0, 2, 4, 6), received);
+    }
+
+    @Test
+    public void publish_whenAnActionFails_thenTheRestAreInvokedAndTheFailureIsPassedToTheErrorHandler() {
+
+        // Arrange
+        final IErrorHandler errorHandler = mock(IErrorHandler.class);
+        final EventAggregator eventAggregator =
+                new EventAggregator(DispatchExecutors.sameThread(), null, null, errorHandler);
+        final IEventType eventType = mock(IEventType.class);
+        final RuntimeException failure = new IllegalStateException("failed");
+        final IAction firstAction = mock(IAction.class);
+        final IAction failingAction = message -> { throw failure; };
+        final IAction lastAction = mock(IAction.class);
+        eventAggregator.subscribe(eventType, firstAction);
+        final ISubscription failingSubscription = eventAggregator.subscribe(eventType, failingAction);
+        eventAggregator.subscribe(eventType, lastAction);
+        final IMessage<String> message = new Message<>(eventType, "content");
+
+        // Act
+        eventAggregator.publish(message);
+
+        // Assert
+        verify(firstAction, times(1)).doAction(message);
+        verify(lastAction, times(1)).doAction(message);
+        verify(errorHandler, times(1)).onError(failingSubscription, message, failure);
+    }
+
+    @Test
+    public void publish_whenErrorHandlerIsDeadLetterQueue_thenFailedMessagesAreCapturedAsCopies() {
+
+        // Arrange
+        final DeadLetterQueue deadLetters = new DeadLetterQueue(1);
+        final EventAggregator eventAggregator =
+                new EventAggregator(DispatchExecutors.sameThread(), null, null, deadLetters);
+        final IEventType eventType = mock(IEventType.class);
+        eventAggregator.subscribe(eventType, message -> { throw new IllegalStateException("failed"); });
+
+        // Act
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "second");
+
+        // Assert
+        assertEquals(1, deadLetters.getDroppedCount());
+        final List<DeadLetter> drained = deadLetters.drain();
+        assertEquals(1, drained.size());
+        assertEquals("first", drained.get(0).getMessage().getContent());
+        assertSame(eventType, drained.get(0).getMessage().getEventType());
+        assertTrue(drained.get(0).getError() instanceof IllegalStateException);
+        assertEquals(0, deadLetters.size());
+    }
+
+    @Test
+    public void publishAll_whenAnActionFails_thenTheRestOfTheBatchIsStillProcessed() {
+
+        // Arrange
+        final DeadLetterQueue deadLetters = new DeadLetterQueue(16);
+        final EventAggregator eventAggregator =
+                new EventAggregator(DispatchExecutors.sameThread(), null, null, deadLetters);
+        final IEventType eventType = mock(IEventType.class);
+        final List<Object> received = new ArrayList<>();
+        eventAggregator.subscribe(eventType, (IAction<String>) message -> {
+            if(message.getContent().equals("second")) {
+                throw new IllegalStateException("failed");
+            }
+            received.add(message.getContent());
+        });
+        eventAggregator.subscribe(eventType, (IBatchAction<String>) messages -> {
+            throw new IllegalStateException("failed");
+        });
+
+        // Act
+        eventAggregator.publishAll(Arrays.<IMessage<?>>asList(new Message<>(eventType, "first"),
+                new Message<>(eventType, "second"), new Message<>(eventType, "third")));
+
+        // Assert
+        assertEquals(Arrays.<Object>asList("first", "third"), received);
+        assertEquals(4, deadLetters.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void publish_whenErrorHandlerPropagates_thenFailureIsThrownToThePublisher() {
+
+        // Arrange
+        final EventAggregator eventAggregator =
+                new EventAggregator(DispatchExecutors.sameThread(), null, null, ErrorHandlers.propagate());
+        final IEventType eventType = mock(IEventType.class);
+        eventAggregator.subscribe(eventType, message -> { throw new IllegalStateException("failed"); });
+
+        // Act
+        eventAggregator.publish(eventType, "content");
+
+        // Assert
+    }
+
+    @Test
+    public void subscribeWithReplay_whenEventTypeIsRetainedByCount_thenLastMessagesAreReplayedBeforeLiveOnes() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<Object> received = new ArrayList<>();
+        eventAggregator.retain(eventType, ReplayPolicy.lastMessages(2));
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(new Message<>(eventType, "second"));
+        eventAggregator.publishAll(Arrays.<IMessage<?>>asList(new Message<>(eventType, "third")));
+
+        // Act
+        eventAggregator.subscribeWithReplay(eventType, message -> received.add(message.getContent()));
+        eventAggregator.publish(eventType, "fourth");
+
+        // Assert
+        assertEquals(Arrays.<Object>asList("second", "third", "fourth"), received);
+    }
+
+    @Test
+    public void subscribeWithReplay_whenRetainedMessagesAreTooOld_thenOnlyLiveMessagesAreReceived()
+            throws InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<Object> received = new ArrayList<>();
+        eventAggregator.retain(eventType, ReplayPolicy.lastPeriod(1, TimeUnit.MILLISECONDS));
+        eventAggregator.publish(eventType, "expired");
+        Thread.sleep(10);
+
+        // Act
+        eventAggregator.subscribeWithReplay(eventType, message -> received.add(message.getContent()));
+        eventAggregator.publish(eventType, "live");
+
+        // Assert
+        assertEquals(Arrays.<Object>asList("live"), received);
+    }
+
+    @Test
+    public void subscribeWithReplay_whenParentIsSubscribed_thenChildrenAreReplayedInPublishedOrder() {
+
+        // Arrange
+        final List<Object> received = new ArrayList<>();
+        eventAggregator.retain(HierarchyEvent.LOCATION_CHANGED, ReplayPolicy.lastMessages(8));
+        eventAggregator.retain(HierarchyEvent.AVAILABILITY_CHANGED, ReplayPolicy.lastMessages(8));
+        eventAggregator.publish(HierarchyEvent.LOCATION_CHANGED, "location");
+        eventAggregator.publish(HierarchyEvent.AVAILABILITY_CHANGED, "availability");
+        eventAggregator.publish(HierarchyEvent.LOCATION_CHANGED, "relocation");
+
+        // Act
+        eventAggregator.subscribeWithReplay(HierarchyEvent.MOVEMENT, message -> received.add(message.getContent()));
+
+        // Assert
+        assertEquals(Arrays.<Object>asList("location", "availability", "relocation"), received);
+    }
+
+    @Test
+    public void subscribeWithReplay_whenEventTypeIsNotRetained_thenOnlyLiveMessagesAreReceived() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        final IMessage<String> message = new Message<>(eventType, "live");
+        eventAggregator.publish(new Message<>(eventType, "missed"));
+
+        // Act
+        eventAggregator.subscribeWithReplay(eventType, action);
+        eventAggregator.publish(message);
+
+        // Assert
+        verify(action, times(1)).doAction(any());
+        verify(action, times(1)).doAction(message);
+    }
+
+    @Test
+    public void subscribeWithReplay_whenMessagesArePublishedConcurrently_thenEveryMessageIsReceivedOnceAndInOrder()
+            throws InterruptedException {
+
+        // Arrange
+        final int messages = 100_000;
+        final IEventType eventType = mock(IEventType.class);
+        final List<Object> received = new ArrayList<>();
+        eventAggregator.retain(eventType, ReplayPolicy.lastMessages(messages));
+        final CountDownLatch started = new CountDownLatch(1);
+        final Thread publisher = new Thread(() -> {
+            for(int i = 0; i < messages; i++) {
+                eventAggregator.publish(eventType, i);
+                if(i == messages / 10) {
+                    started.countDown();
+                }
+            }
+        });
+        publisher.start();
+        started.await();
+
+        // Act
+        eventAggregator.subscribeWithReplay(eventType, message -> received.add(message.getContent()));
+        publisher.join();
+
+        // Assert
+        assertEquals(messages, received.size());
+        for(int i = 0; i < messages; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void retain_whenEventTypeIsSelector_thenIllegalArgumentException() {
+
+        // Arrange
+
+        // Act
+        eventAggregator.retain(EventTypes.ANY, ReplayPolicy.lastMessages(1));
+
+        // Assert
+    }
+
+    @Test
+    public void getLastValue_whenKeyedMessagesArePublished_thenTheLatestMessagePerKeyIsCached() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final KeyedContent first = new KeyedContent("first");
+        final KeyedContent second = new KeyedContent("second");
+        final KeyedContent latest = new KeyedContent("first");
+        eventAggregator.cacheLastValues(eventType);
+
+        // Act
+        eventAggregator.publish(eventType, first);
+        eventAggregator.publish(new Message<>(eventType, second));
+        eventAggregator.publishAll(Arrays.<IMessage<?>>asList(new Message<>(eventType, latest)));
+
+        // Assert
+        assertSame(latest, eventAggregator.getLastValue(eventType, "first").getContent());
+        assertSame(second, eventAggregator.getLastValue(eventType, "second").getContent());
+        assertNull(eventAggregator.getLastValue(eventType, "third"));
+        assertEquals(2, eventAggregator.getLastValues(eventType).size());
+    }
+
+    @Test
+    public void getLastValue_whenEventTypeIsNotCached_thenNull() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+
+        // Act
+        eventAggregator.publish(eventType, "content");
+
+        // Assert
+        assertNull(eventAggregator.getLastValue(eventType, null));
+        assertTrue(eventAggregator.getLastValues(eventType).isEmpty());
+    }
+
+    @Test
+    public void subscribe_whenEventTypeIsCached_thenTheLastValuesAreDeliveredImmediately() {
+
+        // Arrange
+        final List<Object> received = new ArrayList<>();
+        eventAggregator.cacheLastValues(HierarchyEvent.LOCATION_CHANGED);
+        eventAggregator.publish(HierarchyEvent.LOCATION_CHANGED, "old location");
+        eventAggregator.publish(HierarchyEvent.LOCATION_CHANGED, "location");
+
+        // Act
+        eventAggregator.subscribe(HierarchyEvent.MOVEMENT, message -> received.add(message.getContent()));
+        eventAggregator.publish(HierarchyEvent.LOCATION_CHANGED, "new location");
+
+        // Assert
+        assertEquals(Arrays.<Object>asList("location", "new location"), received);
+        assertEquals("new location", eventAggregator.getLastValue(HierarchyEvent.LOCATION_CHANGED, null).getContent());
+    }
+
+    @Test
+    public void subscribeByKey_whenEventTypeIsCached_thenOnlyTheLastValueOfTheKeyIsDelivered() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final KeyedContent first = new KeyedContent("first");
+        final List<Object> received = new ArrayList<>();
+        eventAggregator.cacheLastValues(eventType);
+        eventAggregator.publish(eventType, first);
+        eventAggregator.publish(eventType, new KeyedContent("second"));
+
+        // Act
+        eventAggregator.subscribeByKey(eventType, "first", message -> received.add(message.getContent()));
+
+        // Assert
+        assertEquals(Arrays.<Object>asList(first), received);
+    }
+
+    @Test
+    public void subscribe_whenCachedValuesArePublishedConcurrently_thenEverySubscriptionEndsWithTheLatestValue()
+            throws InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final int values = 20000;
+        final List<List<Integer>> receivedBySubscription = new ArrayList<>();
+        eventAggregator.cacheLastValues(eventType);
+        eventAggregator.publish(eventType, 0);
+        final Thread publisher = new Thread(() -> {
+            for(int value = 1; value <= values; value++) {
+                eventAggregator.publish(eventType, value);
+            }
+        });
+
+        // Act
+        publisher.start();
+        while(publisher.isAlive() && receivedBySubscription.size() < 500) {
+            final List<Integer> received = new ArrayList<>();
+            receivedBySubscription.add(received);
+            eventAggregator.subscribe(eventType, message -> received.add((Integer) message.getContent()));
+        }
+        publisher.join();
+
+        // Assert
+        for(final List<Integer> received : receivedBySubscription) {
+            for(int i = 1; i < received.size(); i++) {
+                assertTrue(received.get(i - 1) < received.get(i));
+            }
+            assertEquals(Integer.valueOf(values), received.get(received.size() - 1));
+        }
+    }
+
+    @Test
+    public void subscribeWeakly_whenActionIsAlive_thenItReceivesTheMessages() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        final IMessage<String> message = new Message<>(eventType, "content");
+        eventAggregator.subscribeWeakly(eventType, action);
+
+        // Act
+        System.gc();
+        eventAggregator.publish(message);
+
+        // Assert
+        verify(action, times(1)).doAction(message);
+        assertEquals(0, eventAggregator.getPrunedCount());
+    }
+
+    @Test
+    public void subscribeWeakly_whenActionIsCollected_thenSubscriptionIsPrunedWhenItIsDispatched()
+            throws InterruptedException {
+
+        // Arrange
+        final DispatchMetrics metrics = new DispatchMetrics();
+        final EventAggregator eventAggregator = new EventAggregator(DispatchExecutors.sameThread(), metrics);
+        final IEventType eventType = mock(IEventType.class);
+        final java.lang.ref.WeakReference<IAction<String>> collected = subscribeCollectable(eventAggregator, eventType);
+        eventAggregator.subscribe(eventType, message -> { });
+        awaitCollection(collected);
+
+        // Act
+        eventAggregator.publish(eventType, "content");
+
+        // Assert
+        assertEquals(1, eventAggregator.getPrunedCount());
+        final MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(Long.valueOf(1), snapshot.getGauges().get("subscriptions.pruned"));
+        assertEquals(1, snapshot.getSubscriptions().size());
+    }
+
+    @Test
+    public void subscribeWeakly_whenCollectedActionIsNeverDispatched_thenItIsPrunedOnTheNextSubscribe()
+            throws InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final java.lang.ref.WeakReference<IAction<String>> collected = subscribeCollectable(eventAggregator, eventType);
+        awaitCollection(collected);
+
+        // Act
+        for(int attempt = 0; attempt < 100 && eventAggregator.getPrunedCount() == 0; attempt++) {
+            Thread.sleep(10);
+            eventAggregator.unsubscribe(eventAggregator.subscribe(mock(IEventType.class), message -> { }));
+        }
+
+        // Assert
+        assertEquals(1, eventAggregator.getPrunedCount());
+    }
+
+    @Test
+    public void subscribeWithPriority_whenPrioritiesDiffer_thenActionsAreInvokedByDescendingPriority() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<String> invoked = new ArrayList<>();
+        eventAggregator.subscribe(eventType, message -> invoked.add("default"));
+        eventAggregator.subscribeWithPriority(eventType, -10, message -> invoked.add("audit"));
+        eventAggregator.subscribeWithPriority(eventType, 100, message -> invoked.add("validation"));
+        eventAggregator.subscribeWithPriority(eventType, 50, message -> invoked.add("cache"));
+        eventAggregator.subscribeWithPriority(eventType, 0, message -> invoked.add("second default"));
+
+        // Act
+        eventAggregator.publish(eventType, "content");
+        eventAggregator.publish(new Message<>(eventType, "content"));
+
+        // Assert
+        final List<String> expected = Arrays.asList("validation", "cache", "default", "second default", "audit");
+        assertEquals(expected, invoked.subList(0, 5));
+        assertEquals(expected, invoked.subList(5, 10));
+    }
+
+    @Test
+    public void publish_whenKeyedSubscriptionHasHigherPriority_thenItIsInvokedBeforeTheUnkeyedOnes() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<String> invoked = new ArrayList<>();
+        eventAggregator.subscribe(eventType, message -> invoked.add("unkeyed"));
+        eventAggregator.subscribeByKey(eventType, "key", message -> invoked.add("keyed"));
+        eventAggregator.subscribeWithPriority(eventType, 10, message -> invoked.add("prioritized"));
+
+        // Act
+        eventAggregator.publish(eventType, new KeyedContent("key"));
+
+        // Assert
+        assertEquals(Arrays.asList("prioritized", "unkeyed", "keyed"), invoked);
+    }
+
+    @Test
+    public void publish_whenConsumingActionConsumesTheMessage_thenLowerPrioritySubscriptionsAreSkipped() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<Object> received = new ArrayList<>();
+        final IConsumingAction<Integer> validation = message -> message.getContent() < 0;
+        eventAggregator.subscribeWithPriority(eventType, 100, validation);
+        eventAggregator.subscribe(eventType, message -> received.add(message.getContent()));
+        eventAggregator.subscribeByKey(eventType, "key", message -> received.add(message.getContent()));
+
+        // Act
+        eventAggregator.publish(eventType, -1);
+        eventAggregator.publish(new Message<>(eventType, 1));
+
+        // Assert
+        assertEquals(Arrays.<Object>asList(1), received);
+    }
+
+    @Test
+    public void publishAll_whenKeyedSubscriptionHasHigherPriority_thenItIsInvokedBeforeTheUnkeyedOnes() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<String> invoked = new ArrayList<>();
+        eventAggregator.subscribeWithPriority(eventType, -10, message -> invoked.add("low"));
+        eventAggregator.subscribe(eventType, message -> invoked.add("unkeyed"));
+        eventAggregator.subscribeByKey(eventType, "key", message -> invoked.add("keyed"));
+        eventAggregator.subscribeWithPriority(eventType, 10, message -> invoked.add("prioritized"));
+        eventAggregator.subscribeByKey(eventType, "key", (IBatchAction<IKeyed>) messages -> invoked.add("batch"));
+
+        // Act
+        eventAggregator.publishAll(Arrays.<IMessage<?>>asList(new Message<>(eventType, new KeyedContent("key"))));
+
+        // Assert
+        assertEquals(Arrays.asList("prioritized", "unkeyed", "keyed", "batch", "low"), invoked);
+    }
+
+    @Test
+    public void publishAll_whenConsumingActionConsumesAMessage_thenLowerPrioritySubscriptionsDoNotReceiveIt() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<Object> received = new ArrayList<>();
+        final List<List<Object>> batches = new ArrayList<>();
+        final KeyedContent first = new KeyedContent("consumed");
+        final KeyedContent second = new KeyedContent("kept");
+        final KeyedContent third = new KeyedContent("consumed");
+        eventAggregator.subscribeByKey(eventType, "consumed", (IConsumingAction<KeyedContent>) message -> true);
+        eventAggregator.subscribeWithPriority(eventType, -1, message -> received.add(message.getContent()));
+        eventAggregator.subscribeWithPriority(eventType, -2, (IBatchAction<Object>) messages -> {
+            final List<Object> batch = new ArrayList<>();
+            messages.forEach(message -> batch.add(message.getContent()));
+            batches.add(batch);
+        });
+
+        // Act
+        eventAggregator.publishAll(Arrays.<IMessage<?>>asList(new Message<>(eventType, first),
+                new Message<>(eventType, second), new Message<>(eventType, third)));
+
+        // Assert
+        assertEquals(Arrays.<Object>asList(second), received);
+        assertEquals(Arrays.asList(Arrays.<Object>asList(second)), batches);
+    }
+
+    @Test
+    public void publish_whenWeakSubscriptionConsumesTheMessage_thenLowerPrioritySubscriptionsAreSkipped() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final List<Object> received = new ArrayList<>();
+        final IConsumingAction<Integer> validation = message -> message.getContent() < 0;
+        eventAggregator.subscribeWeakly(eventType, validation);
+        eventAggregator.subscribeWithPriority(eventType, -1, message -> received.add(message.getContent()));
+
+        // Act
+        eventAggregator.publish(eventType, -1);
+        eventAggregator.publish(eventType, 1);
+
+        // Assert
+        assertEquals(Arrays.<Object>asList(1), received);
+    }
+
+    @Test
+    public void publishAsync_whenConsumingActionConsumesTheMessage_thenEverySubscriptionReceivesIt()
+            throws ExecutionException, InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final AtomicInteger received = new AtomicInteger();
+        eventAggregator.subscribeWithPriority(eventType, 100, (IConsumingAction<String>) message -> true);
+        eventAggregator.subscribe(eventType, message -> received.incrementAndGet());
+
+        // Act
+        eventAggregator.publishAsync(new Message<>(eventType, "content")).get();
+
+        // Assert
+        assertEquals(1, received.get());
+    }
+
+    private static java.lang.ref.WeakReference<IAction<String>> subscribeCollectable(
+            final EventAggregator eventAggregator, final IEventType eventType) {
+        final IAction<String> action = new IAction<String>() {
+            @Override
+            public void doAction(final IMessage<String> message) {
+                fail("The collected action is invoked.");
+            }
+        };
+        eventAggregator.subscribeWeakly(eventType, action);
+        return new java.lang.ref.WeakReference<>(action);
+    }
+
+    private static void awaitCollection(final java.lang.ref.WeakReference<?> reference) throws InterruptedException {
+        for(int attempt = 0; attempt < 100 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assumeTrue(reference.get() == null);
+    }
+
+    private enum HierarchyEvent implements IEventType {
+        MOVEMENT(null), LOCATION_CHANGED(MOVEMENT), AVAILABILITY_CHANGED(MOVEMENT);
+
+        private final HierarchyEvent parent;
+
+        HierarchyEvent(final HierarchyEvent parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public IEventType getParent() {
+            return parent;
+        }
+    }
+
+    private enum BodyEvent implements IEventType {
+        FIRST {
+            @Override
+            public String toString() {
+                return "first";
+            }
+        },
+        SECOND {
+            @Override
+            public String toString() {
+                return "second";
+            }
+        }
+    }
+
+    private static final class KeyedContent implements IKeyed {
+
+        private final Object key;
+
+        private KeyedContent(final Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public Object getRoutingKey() {
+            return key;
+        }
+    }
+
+    private enum AllocationEvent implements IEventType {
+        MEASURED
+    }
 }
@@ -0,0 +1,100 @@
+package com.zarkary.designpatterns.api;
+
+import com.zarkary.designpatterns.eventaggregator.api.LatencyHistogram;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getValueAtPercentile_whenNothingIsRecorded_thenZero() {
+
+        // Arrange
+
+        // Act
+        final long value = histogram.getValueAtPercentile(99);
+
+        // Assert
+        assertEquals(0, value);
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getValueAtPercentile_whenValuesAreRecorded_thenValueIsWithinTheRelativeError() {
+
+        // Arrange
+        for(long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        // Act
+        final long median = histogram.getValueAtPercentile(50);
+        final long p99 = histogram.getValueAtPercentile(99);
+        final long max = histogram.getValueAtPercentile(100);
+
+        // Assert
+        assertEquals(100_000, histogram.getCount());
+        assertTrue("median " + median, median >= 50_000_000 && median <= 50_000_000 * 1.125);
+        assertTrue("p99 " + p99, p99 >= 99_000_000 && p99 <= 99_000_000 * 1.125);
+        assertEquals(100_000_000, max);
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void record_whenManyThreadsRecordTheSameLatency_thenEveryValueIsCounted() throws InterruptedException {
+
+        // Arrange
+        final int threads = 4;
+        final int values = 100_000;
+        final Thread[] recorders = new Thread[threads];
+        for(int i = 0; i < threads; i++) {
+            recorders[i] = new Thread(() -> {
+                for(int value = 0; value < values; value++) {
+                    histogram.record(1_000);
+                }
+            });
+        }
+
+        // Act
+        for(final Thread recorder : recorders) {
+            recorder.start();
+        }
+        for(final Thread recorder : recorders) {
+            recorder.join();
+        }
+
+        // Assert
+        assertEquals((long) threads * values, histogram.getCount());
+        assertEquals(1_000, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void record_whenValueIsNegativeOrHuge_thenItIsRecorded() {
+
+        // Arrange
+
+        // Act
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getValueAtPercentile_whenPercentileIsOutOfRange_thenIllegalArgumentException() {
+
+        // Arrange
+
+        // Act
+        histogram.getValueAtPercentile(101);
+
+        // Assert
+    }
+}
@@ -0,0 +1,287 @@
+package com.zarkary.designpatterns.api;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MailboxTest {
+
+    @Mock
+    private IEventType eventType;
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final Executor manualExecutor = pendingTasks::add;
+    private final List<Object> processed = new ArrayList<>();
+    private final IAction<String> action = message -> processed.add(message.getContent());
+
+    @Before
+    public void setUp() {
+        pendingTasks.clear();
+        processed.clear();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mailbox_whenCapacityIsNotPositive_thenIllegalArgumentException() {
+
+        // Arrange
+        final int capacity = 0;
+
+        // Act
+        new Mailbox<>(action, manualExecutor, capacity, OverflowPolicy.DROP_NEWEST);
+
+        // Assert
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mailbox_whenConflatingPolicyWithoutKeyExtractor_thenIllegalArgumentException() {
+
+        // Arrange
+        final OverflowPolicy policy = OverflowPolicy.CONFLATE_LATEST_PER_KEY;
+
+        // Act
+        new Mailbox<>(action, manualExecutor, 1, policy);
+
+        // Assert
+    }
+
+    @Test
+    public void doAction_whenMailboxIsFullWithDropNewest_thenNewMessageIsDropped() {
+
+        // Arrange
+        final Mailbox<String> mailbox = new Mailbox<>(action, manualExecutor, 2, OverflowPolicy.DROP_NEWEST);
+
+        // Act
+        mailbox.doAction(new Message<>(eventType, "first"));
+        mailbox.doAction(new Message<>(eventType, "second"));
+        mailbox.doAction(new Message<>(eventType, "third"));
+        runPendingTasks();
+
+        // Assert
+        assertEquals(2, processed.size());
+        assertEquals("first", processed.get(0));
+        assertEquals("second", processed.get(1));
+        assertEquals(1, mailbox.getDroppedCount());
+        assertEquals(1, mailbox.getOverflowCount());
+    }
+
+    @Test
+    public void doAction_whenMailboxIsFullWithDropOldest_thenOldestMessageIsDropped() {
+
+        // Arrange
+        final Mailbox<String> mailbox = new Mailbox<>(action, manualExecutor, 2, OverflowPolicy.DROP_OLDEST);
+
+        // Act
+        mailbox.doAction(new Message<>(eventType, "first"));
+        mailbox.doAction(new Message<>(eventType, "second"));
+        mailbox.doAction(new Message<>(eventType, "third"));
+        runPendingTasks();
+
+        // Assert
+        assertEquals(2, processed.size());
+        assertEquals("second", processed.get(0));
+        assertEquals("third", processed.get(1));
+        assertEquals(1, mailbox.getDroppedCount());
+    }
+
+    @Test
+    public void doAction_whenConflatingMailboxGetsSameKey_thenOnlyLatestMessagePerKeyIsProcessed() {
+
+        // Arrange
+        final Mailbox<String> mailbox = new Mailbox<>(action, manualExecutor, 2,
+                message -> message.getContent().charAt(0));
+
+        // Act
+        mailbox.doAction(new Message<>(eventType, "a1"));
+        mailbox.doAction(new Message<>(eventType, "b1"));
+        mailbox.doAction(new Message<>(eventType, "a2"));
+        mailbox.doAction(new Message<>(eventType, "c1"));
+        runPendingTasks();
+
+        // Assert
+        assertEquals(2, processed.size());
+        assertEquals("a2", processed.get(0));
+        assertEquals("b1", processed.get(1));
+        assertEquals(1, mailbox.getConflatedCount());
+        assertEquals(1, mailbox.getDroppedCount());
+    }
+
+    @Test
+    public void doAction_whenMessagesArePending_thenOnlyOneDrainIsScheduled() {
+
+        // Arrange
+        final Mailbox<String> mailbox = new Mailbox<>(action, manualExecutor, 8, OverflowPolicy.BLOCK);
+
+        // Act
+        mailbox.doAction(new Message<>(eventType, "first"));
+        mailbox.doAction(new Message<>(eventType, "second"));
+
+        // Assert
+        assertEquals(1, pendingTasks.size());
+        assertEquals(2, mailbox.getPendingCount());
+        runPendingTasks();
+        assertEquals(0, mailbox.getPendingCount());
+        assertEquals(2, processed.size());
+    }
+
+    @Test
+    public void doAction_whenExecutorRejectsTheDrain_thenTheNextMessageSchedulesItAgain() {
+
+        // Arrange
+        final AtomicBoolean rejecting = new AtomicBoolean(true);
+        final Executor executor = task -> {
+            if(rejecting.get()) {
+                throw new RejectedExecutionException();
+            }
+            pendingTasks.add(task);
+        };
+        final Mailbox<String> mailbox = new Mailbox<>(action, executor, 8, OverflowPolicy.BLOCK);
+        try {
+            mailbox.doAction(new Message<>(eventType, "first"));
+            fail();
+        } catch(RejectedExecutionException expected) {
+            rejecting.set(false);
+        }
+
+        // Act
+        mailbox.doAction(new Message<>(eventType, "second"));
+        runPendingTasks();
+
+        // Assert
+        assertEquals(2, processed.size());
+        assertEquals(0, mailbox.getPendingCount());
+    }
+
+    @Test
+    public void doAction_whenSubscribedToEventAggregator_thenSlowSubscriberDoesNotGrowWithoutLimit() {
+
+        // Arrange
+        final EventAggregator eventAggregator = new EventAggregator();
+        final Mailbox<String> mailbox = new Mailbox<>(action, manualExecutor, 10, OverflowPolicy.DROP_OLDEST);
+        new Subscriber(eventAggregator).subscribe(eventType, mailbox);
+        final IAction<String> otherAction = mock(IAction.class);
+        new Subscriber(eventAggregator).subscribe(eventType, otherAction);
+
+        // Act
+        for(int i = 0; i < 1000; i++) {
+            eventAggregator.publish(eventType, "message " + i);
+        }
+
+        // Assert
+        assertEquals(10, mailbox.getPendingCount());
+        assertEquals(990, mailbox.getDroppedCount());
+        runPendingTasks();
+        assertEquals("message 999", processed.get(processed.size() - 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mailbox_whenMaxStalenessIsNegative_thenIllegalArgumentException() {
+
+        // Arrange
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+        // Act
+        new Mailbox<>(action, scheduler, 1, message -> message.getContent(), -1, TimeUnit.MILLISECONDS);
+
+        // Assert
+    }
+
+    @Test
+    public void doAction_whenMaxStalenessIsSet_thenTheUpdatesOfTheTickAreConflatedAndDeliveredOnce() {
+
+        // Arrange
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        final ArgumentCaptor<Runnable> drain = ArgumentCaptor.forClass(Runnable.class);
+        final Mailbox<String> mailbox = new Mailbox<>(action, scheduler, 8,
+                message -> message.getContent().charAt(0), 10, TimeUnit.MILLISECONDS);
+
+        // Act
+        mailbox.doAction(new Message<>(eventType, "a1"));
+        mailbox.doAction(new Message<>(eventType, "b1"));
+        mailbox.doAction(new Message<>(eventType, "a2"));
+
+        // Assert
+        verify(scheduler, times(1)).schedule(drain.capture(), eq(TimeUnit.MILLISECONDS.toNanos(10)),
+                eq(TimeUnit.NANOSECONDS));
+        verify(scheduler, never()).execute(any(Runnable.class));
+        drain.getValue().run();
+        assertEquals(2, processed.size());
+        assertEquals("a2", processed.get(0));
+        assertEquals("b1", processed.get(1));
+        assertEquals(10, mailbox.getMaxStaleness(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void subscribeConflated_whenBurstIsPublished_thenSubscriberReceivesOnlyTheNewestMessage() {
+
+        // Arrange
+        final EventAggregator eventAggregator = new EventAggregator();
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        final ArgumentCaptor<Runnable> drain = ArgumentCaptor.forClass(Runnable.class);
+        new Subscriber(eventAggregator).subscribeConflated(eventType, action, scheduler, 16, 5, TimeUnit.MILLISECONDS);
+
+        // Act
+        for(int i = 0; i < 1000; i++) {
+            eventAggregator.publish(eventType, "message " + i);
+        }
+
+        // Assert
+        verify(scheduler, times(1)).schedule(drain.capture(), eq(TimeUnit.MILLISECONDS.toNanos(5)),
+                eq(TimeUnit.NANOSECONDS));
+        drain.getValue().run();
+        assertEquals(1, processed.size());
+        assertEquals("message 999", processed.get(0));
+    }
+
+    @Test
+    public void subscribeConflated_whenEveryPendingKeyIsTaken_thenTheMessageOfANewKeyIsDropped() {
+
+        // Arrange
+        final EventAggregator eventAggregator = new EventAggregator();
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        final ArgumentCaptor<Runnable> drain = ArgumentCaptor.forClass(Runnable.class);
+        final IAction<IKeyed> keyedAction = message -> processed.add(message.getContent().getRoutingKey());
+        new Subscriber(eventAggregator).subscribeConflated(eventType, keyedAction, scheduler, 2, 5,
+                TimeUnit.MILLISECONDS);
+
+        // Act
+        eventAggregator.publish(eventType, (IKeyed) () -> "a");
+        eventAggregator.publish(eventType, (IKeyed) () -> "b");
+        eventAggregator.publish(eventType, (IKeyed) () -> "c");
+        eventAggregator.publish(eventType, (IKeyed) () -> "a");
+
+        // Assert
+        verify(scheduler, times(1)).schedule(drain.capture(), eq(TimeUnit.MILLISECONDS.toNanos(5)),
+                eq(TimeUnit.NANOSECONDS));
+        drain.getValue().run();
+        assertEquals(Arrays.<Object>asList("a", "b"), processed);
+    }
+
+    private void runPendingTasks() {
+        while(!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.zarkary.designpatterns.api;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PartitionedExecutorTest {
+
+    private final PartitionedExecutor partitionedExecutor = new PartitionedExecutor(4);
+
+    @After
+    public void tearDown() {
+        partitionedExecutor.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partitionedExecutor_whenLaneCountIsNotPositive_thenIllegalArgumentException() {
+
+        // Arrange
+        final int laneCount = 0;
+
+        // Act
+        new PartitionedExecutor(laneCount);
+
+        // Assert
+    }
+
+    @Test
+    public void publishAsync_whenMessagesHaveTheSameKey_thenTheyAreProcessedInPublishedOrder() throws Exception {
+
+        // Arrange
+        final EventAggregator eventAggregator = new EventAggregator(partitionedExecutor);
+        final IEventType locationChanged = mock(IEventType.class);
+        final IEventType availabilityChanged = mock(IEventType.class);
+        final List<Object> processed = Collections.synchronizedList(new ArrayList<>());
+        final IAction<KeyedContent> action = message -> processed.add(message.getContent().value);
+        eventAggregator.subscribe(locationChanged, action);
+        eventAggregator.subscribe(availabilityChanged, action);
+        final List<CompletableFuture<Void>> completions = new ArrayList<>();
+
+        // Act
+        for(int i = 0; i < 1000; i++) {
+            final IEventType eventType = i % 2 == 0 ? locationChanged : availabilityChanged;
+            completions.add(eventAggregator.publishAsync(new Message<>(eventType, new KeyedContent("peter", i))));
+        }
+        CompletableFuture.allOf(completions.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(1000, processed.size());
+        for(int i = 0; i < 1000; i++) {
+            assertEquals(i, processed.get(i));
+        }
+    }
+
+    @Test
+    public void publishAsync_whenMessagesHaveKeysOfDifferentLanes_thenTheyAreProcessedInParallel() throws Exception {
+
+        // Arrange
+        final EventAggregator eventAggregator = new EventAggregator(partitionedExecutor);
+        final IEventType eventType = mock(IEventType.class);
+        final String firstKey = "peter";
+        String secondKey = "john";
+        for(int i = 0; partitionedExecutor.laneOf(secondKey) == partitionedExecutor.laneOf(firstKey); i++) {
+            secondKey = "john-" + i;
+        }
+        final CountDownLatch secondProcessed = new CountDownLatch(1);
+        final String blockedKey = secondKey;
+        eventAggregator.subscribe(eventType, (IAction<KeyedContent>) message -> {
+            if(message.getContent().key.equals(firstKey)) {
+                await(secondProcessed);
+            } else if(message.getContent().key.equals(blockedKey)) {
+                secondProcessed.countDown();
+            }
+        });
+
+        // Act
+        final CompletableFuture<Void> first = eventAggregator.publishAsync(new Message<>(eventType, new KeyedContent(firstKey, 1)));
+        final CompletableFuture<Void> second = eventAggregator.publishAsync(new Message<>(eventType, new KeyedContent(secondKey, 2)));
+
+        // Assert
+        second.get(5, TimeUnit.SECONDS);
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void execute_whenTasksAreQueued_thenLaneMetricsAreUpdated() throws Exception {
+
+        // Arrange
+        final Object key = "key";
+        final int lane = partitionedExecutor.laneOf(key);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(3);
+        partitionedExecutor.execute(key, () -> {
+            await(release);
+            done.countDown();
+        });
+
+        // Act
+        partitionedExecutor.execute(key, done::countDown);
+        partitionedExecutor.execute(key, done::countDown);
+        final int queueSize = partitionedExecutor.getQueueSize(lane);
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(2, queueSize);
+        assertEquals(2, partitionedExecutor.getHighWaterMark(lane));
+        partitionedExecutor.close();
+        assertEquals(3, partitionedExecutor.getExecutedCount(lane));
+        assertEquals(0, partitionedExecutor.getQueueSize(lane));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class KeyedContent implements IKeyed {
+
+        private final Object key;
+        private final Object value;
+
+        private KeyedContent(final Object key, final Object value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public Object getRoutingKey() {
+            return key;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.zarkary.designpatterns.api;
 import com.zarkary.designpatterns.eventaggregator.api.EventAggregator;
 import com.zarkary.designpatterns.eventaggregator.api.IEventType;
 import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.api.IPublisher;
+import com.zarkary.designpatterns.eventaggregator.api.Message;
 import com.zarkary.designpatterns.eventaggregator.api.Publisher;
 import org.junit.Before;
 import org.junit.Test;
@@ -10,6 +12,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 
@@ -91,7 +99,7 @@ public class PublisherTest {
     }
 
     @Test
-    public void publish_whenPassedEventTypeAndContentAreNotNull_thenMessageIsPublishedNormally() {
+    public void publish_whenPassedEventTypeAndContentAreNotNull_thenContentIsPublishedWithoutMessage() {
 
         // Arrange
         final IEventType someEventType = mock(IEventType.class);
@@ -101,6 +109,84 @@ public class PublisherTest {
         publisher.publish(someEventType, someContent);
 
         // Assert
-        verify(eventAggregator, times(1)).publish(any());
+        verify(eventAggregator, times(1)).publish(someEventType, someContent);
+        verify(eventAggregator, times(0)).publish(any(IMessage.class));
+    }
+
+    @Test
+    public void publishAsync_whenPassedEventTypeAndContentAreNotNull_thenMessageIsPublishedAsynchronously() {
+
+        // Arrange
+        final IEventType someEventType = mock(IEventType.class);
+        final String someContent = "Some Content";
+
+        // Act
+        publisher.publishAsync(someEventType, someContent);
+
+        // Assert
+        verify(eventAggregator, times(1)).publishAsync(any());
+        verify(eventAggregator, times(0)).publish(any());
+    }
+
+    @Test
+    public void publishAll_whenPassedMessages_thenBatchIsPublishedAtOnce() {
+
+        // Arrange
+        final IMessage<?> firstMessage = mock(IMessage.class);
+        final IMessage<?> secondMessage = mock(IMessage.class);
+
+        // Act
+        publisher.publishAll(firstMessage, secondMessage);
+
+        // Assert
+        verify(eventAggregator, times(1)).publishAll(Arrays.asList(firstMessage, secondMessage));
+        verify(eventAggregator, times(0)).publish(any(IMessage.class));
+    }
+
+    @Test
+    public void publishAsync_whenPublisherHasOnlyTheSynchronousMethods_thenMessageIsPublishedAndFutureIsComplete() {
+
+        // Arrange
+        final RecordingPublisher recordingPublisher = new RecordingPublisher();
+        final IEventType someEventType = mock(IEventType.class);
+
+        // Act
+        final CompletableFuture<Void> completion = recordingPublisher.publishAsync(someEventType, "Some Content");
+
+        // Assert
+        assertTrue(completion.isDone());
+        assertFalse(completion.isCompletedExceptionally());
+        assertEquals(1, recordingPublisher.published.size());
+        assertEquals("Some Content", recordingPublisher.published.get(0).getContent());
+    }
+
+    @Test
+    public void publishAll_whenPublisherHasOnlyTheSinglePublishMethods_thenMessagesArePublishedInOrder() {
+
+        // Arrange
+        final RecordingPublisher recordingPublisher = new RecordingPublisher();
+        final IMessage<?> firstMessage = mock(IMessage.class);
+        final IMessage<?> secondMessage = mock(IMessage.class);
+
+        // Act
+        recordingPublisher.publishAll(firstMessage, secondMessage);
+
+        // Assert
+        assertEquals(Arrays.asList(firstMessage, secondMessage), recordingPublisher.published);
+    }
+
+    private static final class RecordingPublisher implements IPublisher {
+
+        private final List<IMessage<?>> published = new ArrayList<>();
+
+        @Override
+        public <T> void publish(final IMessage<T> message) {
+            published.add(message);
+        }
+
+        @Override
+        public <T> void publish(final IEventType eventType, final T content) {
+            publish(new Message<>(eventType, content));
+        }
     }
 }
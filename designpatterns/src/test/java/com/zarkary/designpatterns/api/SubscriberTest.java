@@ -7,9 +7,14 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 
@@ -100,6 +105,88 @@ public class SubscriberTest {
         verify(eventAggregator, times(1)).subscribe(eventType, action);
     }
 
+    @Test
+    public void subscribeByKey_whenPassedKeyIsNotNull_thenKeyedSubscriptionIsCreatedToEventAggregator() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        final Object key = new Object();
+        final ISubscription subscription = mock(ISubscription.class);
+        when(eventAggregator.subscribeByKey(eventType, key, action)).thenReturn(subscription);
+
+        // Act
+        subscriber.subscribeByKey(eventType, key, action);
+
+        // Assert
+        verify(eventAggregator, times(1)).subscribeByKey(eventType, key, action);
+        assertEquals(1, subscriber.getSubscriptionTokens().size());
+    }
+
+    @Test
+    public void subscribeWithReplay_whenPassedActionIsNotNull_thenReplayingSubscriptionIsCreatedToEventAggregator() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        final ISubscription subscription = mock(ISubscription.class);
+        when(eventAggregator.subscribeWithReplay(eventType, action)).thenReturn(subscription);
+
+        // Act
+        subscriber.subscribeWithReplay(eventType, action);
+
+        // Assert
+        verify(eventAggregator, times(1)).subscribeWithReplay(eventType, action);
+        assertEquals(1, subscriber.getSubscriptionTokens().size());
+    }
+
+    @Test
+    public void subscribeWeakly_whenPassedActionIsNotNull_thenWeakSubscriptionIsCreatedToEventAggregator() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        final ISubscription subscription = mock(ISubscription.class);
+        when(eventAggregator.subscribeWeakly(eventType, action)).thenReturn(subscription);
+
+        // Act
+        subscriber.subscribeWeakly(eventType, action);
+
+        // Assert
+        verify(eventAggregator, times(1)).subscribeWeakly(eventType, action);
+        assertEquals(1, subscriber.getSubscriptionTokens().size());
+    }
+
+    @Test
+    public void subscribeWithPriority_whenPassedActionIsNotNull_thenPrioritizedSubscriptionIsCreatedToEventAggregator() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        final ISubscription subscription = mock(ISubscription.class);
+        when(eventAggregator.subscribeWithPriority(eventType, 10, action)).thenReturn(subscription);
+
+        // Act
+        subscriber.subscribeWithPriority(eventType, 10, action);
+
+        // Assert
+        verify(eventAggregator, times(1)).subscribeWithPriority(eventType, 10, action);
+        assertEquals(1, subscriber.getSubscriptionTokens().size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void subscribeByKey_whenPassedKeyIsNull_thenNullPointerException() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+
+        // Act
+        subscriber.subscribeByKey(eventType, null, action);
+
+        // Assert
+    }
+
     @Test
     public void subscribe_whenPassedEventTypeAndActionIsNotNull_thenSubscriptionWithThePassedEventType() {
 
@@ -213,4 +300,129 @@ public class SubscriberTest {
         final Collection<ISubscription> subscriptions = subscriber.getSubscriptionTokens();
         assertEquals(0, subscriptions.size());
     }
+
+    @Test
+    public void subscribeByKey_whenSubscriberHasOnlyTheSubscribeMethod_thenOnlyTheMessagesOfTheKeyAreReceived() {
+
+        // Arrange
+        final RecordingSubscriber recordingSubscriber = new RecordingSubscriber();
+        final IEventType eventType = mock(IEventType.class);
+        final IAction<IKeyed> action = mock(IAction.class);
+        final IMessage<IKeyed> matching = new Message<>(eventType, () -> "EURUSD");
+        final IMessage<IKeyed> other = new Message<>(eventType, () -> "GBPUSD");
+
+        // Act
+        recordingSubscriber.subscribeByKey(eventType, "EURUSD", action);
+        recordingSubscriber.deliver(matching);
+        recordingSubscriber.deliver(other);
+
+        // Assert
+        verify(action, times(1)).doAction(matching);
+        verify(action, never()).doAction(other);
+    }
+
+    @Test
+    public void subscribeWithPriority_whenSubscriberHasOnlyTheSubscribeMethodAndPriorityIsDefault_thenActionIsSubscribed() {
+
+        // Arrange
+        final RecordingSubscriber recordingSubscriber = new RecordingSubscriber();
+        final IEventType eventType = mock(IEventType.class);
+        final IAction<String> action = mock(IAction.class);
+        final IMessage<String> message = new Message<>(eventType, "Some Content");
+
+        // Act
+        recordingSubscriber.subscribeWithPriority(eventType, 0, action);
+        recordingSubscriber.deliver(message);
+
+        // Assert
+        verify(action, times(1)).doAction(message);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void subscribeWithPriority_whenSubscriberHasOnlyTheSubscribeMethodAndPriorityIsNotDefault_thenUnsupportedOperationException() {
+
+        // Arrange
+        final RecordingSubscriber recordingSubscriber = new RecordingSubscriber();
+        final IEventType eventType = mock(IEventType.class);
+        final IAction<String> action = mock(IAction.class);
+
+        // Act
+        recordingSubscriber.subscribeWithPriority(eventType, 1, action);
+
+        // Assert
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void subscribeWithReplay_whenSubscriberHasOnlyTheSubscribeMethod_thenUnsupportedOperationException() {
+
+        // Arrange
+        final RecordingSubscriber recordingSubscriber = new RecordingSubscriber();
+        final IEventType eventType = mock(IEventType.class);
+        final IAction<String> action = mock(IAction.class);
+
+        // Act
+        recordingSubscriber.subscribeWithReplay(eventType, action);
+
+        // Assert
+    }
+
+    @Test
+    public void subscribeConflated_whenSubscriberHasOnlyTheSubscribeMethod_thenActionIsSubscribedBehindAMailbox() {
+
+        // Arrange
+        final RecordingSubscriber recordingSubscriber = new RecordingSubscriber();
+        final IEventType eventType = mock(IEventType.class);
+        final IAction<String> action = mock(IAction.class);
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+        // Act
+        recordingSubscriber.subscribeConflated(eventType, action, scheduler, 16, 0, TimeUnit.MILLISECONDS);
+
+        // Assert
+        assertEquals(1, recordingSubscriber.actions.size());
+        assertTrue(recordingSubscriber.actions.get(0) instanceof Mailbox);
+        assertEquals(16, ((Mailbox<?>) recordingSubscriber.actions.get(0)).getCapacity());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void subscribeWeakly_whenSubscriberHasOnlyTheSubscribeMethod_thenUnsupportedOperationException() {
+
+        // Arrange
+        final RecordingSubscriber recordingSubscriber = new RecordingSubscriber();
+        final IEventType eventType = mock(IEventType.class);
+        final IAction<String> action = mock(IAction.class);
+
+        // Act
+        recordingSubscriber.subscribeWeakly(eventType, action);
+
+        // Assert
+    }
+
+    private static final class RecordingSubscriber implements ISubscriber {
+
+        private final List<IAction<Object>> actions = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> void subscribe(final IEventType eventType, final IAction<T> action) {
+            actions.add((IAction<Object>) action);
+        }
+
+        @Override
+        public void unsubscribe(final IEventType eventType) {
+            actions.clear();
+        }
+
+        @Override
+        public void dispose() {
+            actions.clear();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void deliver(final IMessage<?> message) {
+            for(final IAction<Object> action : actions) {
+                action.doAction((IMessage<Object>) message);
+            }
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package com.zarkary.designpatterns.api;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WatchdogTest {
+
+    private final ExecutorService slowLane = Executors.newSingleThreadExecutor(DispatchExecutors.daemonThreads("slow-lane"));
+
+    private final IEventType eventType = mock(IEventType.class);
+
+    @After
+    public void tearDown() {
+        slowLane.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void watchdog_whenPolicyIsIsolateWithoutSlowLane_thenIllegalArgumentException() {
+
+        // Arrange
+        final IWatchdogListener listener = mock(IWatchdogListener.class);
+
+        // Act
+        new Watchdog(1, TimeUnit.MILLISECONDS, 1, QuarantinePolicy.ISOLATE, null, listener);
+
+        // Assert
+    }
+
+    @Test
+    public void publish_whenActionExceedsTheBudget_thenListenerIsNotifiedAndActionKeepsRunning() {
+
+        // Arrange
+        final IWatchdogListener listener = mock(IWatchdogListener.class);
+        final Watchdog watchdog = new Watchdog(0, TimeUnit.NANOSECONDS, listener);
+        final EventAggregator eventAggregator = new EventAggregator(DispatchExecutors.sameThread(), null, watchdog);
+        final List<Object> processed = new ArrayList<>();
+        final ISubscription subscription = eventAggregator.subscribe(eventType, message -> {
+            sleep(1);
+            processed.add(message.getContent());
+        });
+
+        // Act
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "second");
+
+        // Assert
+        verify(listener, times(2)).onSlowAction(eq(subscription), anyLong());
+        verify(listener, never()).onIsolated(any(ISubscription.class));
+        assertFalse(watchdog.isQuarantined(subscription));
+        assertEquals(2, processed.size());
+    }
+
+    @Test
+    public void publish_whenActionIsRepeatOffender_thenItIsIsolatedOnTheSlowLane() throws Exception {
+
+        // Arrange
+        final IWatchdogListener listener = mock(IWatchdogListener.class);
+        final Watchdog watchdog = new Watchdog(5, TimeUnit.MILLISECONDS, 2, QuarantinePolicy.ISOLATE, slowLane, listener);
+        final EventAggregator eventAggregator = new EventAggregator(DispatchExecutors.sameThread(), null, watchdog);
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch isolatedExecution = new CountDownLatch(1);
+        final List<Object> fastProcessed = new ArrayList<>();
+        final ISubscription slow = eventAggregator.subscribe(eventType, (IAction<String>) message -> {
+            sleep(20);
+            threads.add(Thread.currentThread().getName());
+            if(message.getContent().equals("third")) {
+                isolatedExecution.countDown();
+            }
+        });
+        eventAggregator.subscribe(eventType, message -> fastProcessed.add(message.getContent()));
+
+        // Act
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "second");
+        eventAggregator.publish(eventType, "third");
+
+        // Assert
+        assertTrue(isolatedExecution.await(5, TimeUnit.SECONDS));
+        verify(listener, times(1)).onIsolated(slow);
+        assertTrue(watchdog.isQuarantined(slow));
+        assertEquals(Thread.currentThread().getName(), threads.get(0));
+        assertEquals(Thread.currentThread().getName(), threads.get(1));
+        assertTrue(threads.get(2).startsWith("slow-lane"));
+        assertEquals(3, fastProcessed.size());
+    }
+
+    @Test
+    public void publish_whenSuspendedSubscriptionIsReleased_thenItIsExecutedAgain() {
+
+        // Arrange
+        final IWatchdogListener listener = mock(IWatchdogListener.class);
+        final Watchdog watchdog = new Watchdog(0, TimeUnit.NANOSECONDS, 1, QuarantinePolicy.SUSPEND, null, listener);
+        final EventAggregator eventAggregator = new EventAggregator(DispatchExecutors.sameThread(), null, watchdog);
+        final List<Object> processed = new ArrayList<>();
+        final ISubscription subscription = eventAggregator.subscribe(eventType, message -> {
+            sleep(1);
+            processed.add(message.getContent());
+        });
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "dropped");
+
+        // Act
+        watchdog.release(subscription);
+        eventAggregator.publish(eventType, "third");
+
+        // Assert
+        verify(listener, times(2)).onSuspended(subscription);
+        assertEquals(2, processed.size());
+        assertEquals("first", processed.get(0));
+        assertEquals("third", processed.get(1));
+    }
+
+    @Test
+    public void publish_whenReleasedSubscriptionIsSlowAgain_thenItsOffencesAreCountedFromZero() {
+
+        // Arrange
+        final IWatchdogListener listener = mock(IWatchdogListener.class);
+        final Watchdog watchdog = new Watchdog(0, TimeUnit.NANOSECONDS, 2, QuarantinePolicy.SUSPEND, null, listener);
+        final EventAggregator eventAggregator = new EventAggregator(DispatchExecutors.sameThread(), null, watchdog);
+        final ISubscription subscription = eventAggregator.subscribe(eventType, message -> sleep(1));
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "second");
+        watchdog.release(subscription);
+
+        // Act
+        eventAggregator.publish(eventType, "third");
+
+        // Assert
+        verify(listener, times(1)).onSuspended(subscription);
+        assertFalse(watchdog.isQuarantined(subscription));
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
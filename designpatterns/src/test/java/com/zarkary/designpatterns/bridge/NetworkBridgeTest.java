@@ -0,0 +1,198 @@
+package com.zarkary.designpatterns.bridge;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import com.zarkary.designpatterns.eventaggregator.bridge.NetworkBridge;
+import com.zarkary.designpatterns.eventaggregator.codec.CodecRegistry;
+import com.zarkary.designpatterns.eventaggregator.codec.ICodec;
+import com.zarkary.designpatterns.eventaggregator.journal.JavaSerializer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.*;
+
+public class NetworkBridgeTest {
+
+    private static final InetSocketAddress LOOPBACK = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+    @Test
+    public void connect_whenMessagesArePublishedOnTheConnectingSide_thenTheyArePublishedInOrderOnTheOtherSide()
+            throws IOException, InterruptedException {
+
+        // Arrange
+        final EventAggregator sending = new EventAggregator();
+        final EventAggregator receiving = new EventAggregator();
+        final int messages = 10_000;
+        final List<Object> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(messages);
+        receiving.subscribe(BridgeEvent.ITEM_SAVED, message -> received.add(message.getContent()));
+        receiving.subscribe(BridgeEvent.LOCATION_CHANGED, message -> {
+            received.add(message.getContent());
+            delivered.countDown();
+        });
+        try(NetworkBridge sender = new NetworkBridge(sending, new JavaSerializer(), 8192, OverflowPolicy.BLOCK);
+            NetworkBridge receiver = new NetworkBridge(receiving, new JavaSerializer())) {
+            sender.export(BridgeEvent.LOCATION_CHANGED);
+            sender.connect(receiver.listen(LOOPBACK));
+
+            // Act
+            sending.publish(BridgeEvent.ITEM_SAVED, "not exported");
+            for(int i = 0; i < messages; i++) {
+                sending.publish(BridgeEvent.LOCATION_CHANGED, i);
+            }
+
+            // Assert
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            assertEquals(messages, sender.getSentCount());
+            assertTrue(sender.getWriteCount() <= sender.getSentCount());
+            assertEquals(0, sender.getDroppedCount());
+        }
+        assertEquals(messages, received.size());
+        for(int i = 0; i < messages; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+
+    @Test
+    public void listen_whenBothSidesExportTheSameEventType_thenMessagesFlowBothWaysWithoutEcho()
+            throws IOException, InterruptedException {
+
+        // Arrange
+        final EventAggregator first = new EventAggregator();
+        final EventAggregator second = new EventAggregator();
+        final List<Object> receivedByFirst = new CopyOnWriteArrayList<>();
+        final List<Object> receivedBySecond = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(4);
+        first.subscribe(BridgeEvent.ITEM_SAVED, message -> {
+            receivedByFirst.add(message.getContent());
+            delivered.countDown();
+        });
+        second.subscribe(BridgeEvent.ITEM_SAVED, message -> {
+            receivedBySecond.add(message.getContent());
+            delivered.countDown();
+        });
+        try(NetworkBridge firstBridge = new NetworkBridge(first, new JavaSerializer());
+            NetworkBridge secondBridge = new NetworkBridge(second, new JavaSerializer())) {
+            firstBridge.export(BridgeEvent.ITEM_SAVED);
+            secondBridge.export(BridgeEvent.ITEM_SAVED);
+            firstBridge.connect(secondBridge.listen(LOOPBACK));
+            awaitTrue(() -> secondBridge.getPeerCount() == 1);
+
+            // Act
+            first.publish(BridgeEvent.ITEM_SAVED, "first");
+            second.publish(BridgeEvent.ITEM_SAVED, "second");
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            Thread.sleep(100);
+        }
+
+        // Assert
+        assertEquals(2, receivedByFirst.size());
+        assertEquals(2, receivedBySecond.size());
+        assertTrue(receivedByFirst.contains("second"));
+        assertTrue(receivedBySecond.contains("first"));
+    }
+
+    @Test
+    public void export_whenPeerDoesNotReadAndPolicyIsDropNewest_thenMessagesAreDroppedWithoutBlocking()
+            throws IOException, InterruptedException {
+
+        // Arrange
+        final EventAggregator eventAggregator = new EventAggregator();
+        final byte[] content = new byte[32 * 1024];
+        try(ServerSocketChannel stalledPeer = ServerSocketChannel.open().bind(LOOPBACK);
+            NetworkBridge bridge = new NetworkBridge(eventAggregator, new JavaSerializer(), 4,
+                    OverflowPolicy.DROP_NEWEST)) {
+            bridge.export(BridgeEvent.ITEM_SAVED);
+            bridge.connect((InetSocketAddress) stalledPeer.getLocalAddress());
+
+            // Act
+            for(int i = 0; i < 100_000 && bridge.getDroppedCount() == 0; i++) {
+                eventAggregator.publish(BridgeEvent.ITEM_SAVED, content);
+            }
+
+            // Assert
+            assertTrue(bridge.getDroppedCount() > 0);
+            assertEquals(1, bridge.getPeerCount());
+        }
+    }
+
+    @Test
+    public void export_whenTheSerializerHasNoCodecForTheMessage_thenItsFailureIsReportedAndTheRestAreSent()
+            throws IOException, InterruptedException {
+
+        // Arrange
+        final EventAggregator sending = new EventAggregator();
+        final EventAggregator receiving = new EventAggregator();
+        final ICodec<Integer> codec = new ICodec<Integer>() {
+            @Override
+            public void encode(final Integer content, final ByteBuffer buffer) {
+                buffer.putInt(content);
+            }
+
+            @Override
+            public Integer decode(final ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+        final List<Object> received = new CopyOnWriteArrayList<>();
+        final List<Throwable> reported = new CopyOnWriteArrayList<>();
+        receiving.subscribe(BridgeEvent.LOCATION_CHANGED, message -> received.add(message.getContent()));
+        final Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, failure) -> reported.add(failure));
+        try(NetworkBridge sender = new NetworkBridge(sending,
+                new CodecRegistry().register(BridgeEvent.LOCATION_CHANGED, 1, codec));
+            NetworkBridge receiver = new NetworkBridge(receiving,
+                    new CodecRegistry().register(BridgeEvent.LOCATION_CHANGED, 1, codec))) {
+            sender.export(BridgeEvent.LOCATION_CHANGED, BridgeEvent.ITEM_SAVED);
+            sender.connect(receiver.listen(LOOPBACK));
+
+            // Act
+            for(int i = 0; i < 100; i++) {
+                sending.publish(BridgeEvent.LOCATION_CHANGED, i);
+                sending.publish(BridgeEvent.ITEM_SAVED, "without codec");
+            }
+
+            // Assert
+            awaitTrue(() -> received.size() == 100 && reported.size() == 100);
+            assertEquals(100, sender.getSentCount());
+            assertEquals(100, sender.getDroppedCount());
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+        for(final Throwable failure : reported) {
+            assertEquals("The event type has no codec.", failure.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_whenPolicyIsConflating_thenIllegalArgumentException() {
+
+        // Arrange
+
+        // Act
+        new NetworkBridge(new EventAggregator(), new JavaSerializer(), 16, OverflowPolicy.CONFLATE_LATEST_PER_KEY);
+
+        // Assert
+    }
+
+    private static void awaitTrue(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while(!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private enum BridgeEvent implements IEventType {
+        LOCATION_CHANGED, ITEM_SAVED
+    }
+}
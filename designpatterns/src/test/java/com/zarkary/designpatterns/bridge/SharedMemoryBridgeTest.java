@@ -0,0 +1,137 @@
+package com.zarkary.designpatterns.bridge;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import com.zarkary.designpatterns.eventaggregator.bridge.SharedMemoryBridge;
+import com.zarkary.designpatterns.eventaggregator.journal.JavaSerializer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SharedMemoryBridgeTest {
+
+    private static final int CAPACITY = 1 << 22;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void importFrom_whenMessagesArePublishedOnTheExportingSide_thenTheyArePublishedInOrderOnTheOtherSide()
+            throws IOException, InterruptedException {
+
+        // Arrange
+        final Path ring = folder.getRoot().toPath().resolve("ring");
+        final EventAggregator exporting = new EventAggregator();
+        final EventAggregator importing = new EventAggregator();
+        final int messages = 10_000;
+        final List<Object> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(messages);
+        importing.subscribe(BridgeEvent.LOCATION_CHANGED, message -> {
+            received.add(message.getContent());
+            delivered.countDown();
+        });
+        try(SharedMemoryBridge exporter = new SharedMemoryBridge(exporting, new JavaSerializer());
+            SharedMemoryBridge importer = new SharedMemoryBridge(importing, new JavaSerializer())) {
+            exporter.export(ring, CAPACITY, BridgeEvent.LOCATION_CHANGED);
+            importer.importFrom(ring);
+
+            // Act
+            for(int i = 0; i < messages; i++) {
+                exporting.publish(BridgeEvent.LOCATION_CHANGED, i);
+            }
+            exporting.publish(BridgeEvent.ITEM_SAVED, "not exported");
+
+            // Assert
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            assertEquals(0, importer.getLappedCount());
+        }
+        assertEquals(messages, received.size());
+        for(int i = 0; i < messages; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+
+    @Test
+    public void importFrom_whenBothSidesExportAndImportTheSameEventType_thenImportedMessagesAreNotEchoed()
+            throws IOException, InterruptedException {
+
+        // Arrange
+        final Path firstRing = folder.getRoot().toPath().resolve("first");
+        final Path secondRing = folder.getRoot().toPath().resolve("second");
+        final EventAggregator first = new EventAggregator();
+        final EventAggregator second = new EventAggregator();
+        final List<Object> receivedByFirst = new CopyOnWriteArrayList<>();
+        final List<Object> receivedBySecond = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered = new CountDownLatch(2);
+        first.subscribe(BridgeEvent.ITEM_SAVED, message -> {
+            receivedByFirst.add(message.getContent());
+            delivered.countDown();
+        });
+        second.subscribe(BridgeEvent.ITEM_SAVED, message -> {
+            receivedBySecond.add(message.getContent());
+            delivered.countDown();
+        });
+        try(SharedMemoryBridge firstBridge = new SharedMemoryBridge(first, new JavaSerializer());
+            SharedMemoryBridge secondBridge = new SharedMemoryBridge(second, new JavaSerializer())) {
+            firstBridge.export(firstRing, CAPACITY, BridgeEvent.ITEM_SAVED);
+            secondBridge.export(secondRing, CAPACITY, BridgeEvent.ITEM_SAVED);
+            firstBridge.importFrom(secondRing);
+            secondBridge.importFrom(firstRing);
+
+            // Act
+            first.publish(BridgeEvent.ITEM_SAVED, "item");
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+            Thread.sleep(100);
+        }
+
+        // Assert
+        assertEquals(1, receivedByFirst.size());
+        assertEquals(1, receivedBySecond.size());
+        assertEquals("item", receivedBySecond.get(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void export_whenRingHasAlreadyAWriter_thenIllegalStateException() throws IOException {
+
+        // Arrange
+        final Path ring = folder.getRoot().toPath().resolve("ring");
+        try(SharedMemoryBridge writer = new SharedMemoryBridge(new EventAggregator(), new JavaSerializer());
+            SharedMemoryBridge secondWriter = new SharedMemoryBridge(new EventAggregator(), new JavaSerializer())) {
+            writer.export(ring, CAPACITY, BridgeEvent.ITEM_SAVED);
+
+            // Act
+            secondWriter.export(ring, CAPACITY, BridgeEvent.ITEM_SAVED);
+        }
+
+        // Assert
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void export_whenMessageDoesNotFitInTheRing_thenIllegalArgumentException() throws IOException {
+
+        // Arrange
+        final Path ring = folder.getRoot().toPath().resolve("ring");
+        final EventAggregator eventAggregator =
+                new EventAggregator(DispatchExecutors.sameThread(), null, null, ErrorHandlers.propagate());
+        try(SharedMemoryBridge bridge = new SharedMemoryBridge(eventAggregator, new JavaSerializer())) {
+            bridge.export(ring, 1024, BridgeEvent.ITEM_SAVED);
+
+            // Act
+            eventAggregator.publish(BridgeEvent.ITEM_SAVED, new byte[1024]);
+        }
+
+        // Assert
+    }
+
+    private enum BridgeEvent implements IEventType {
+        LOCATION_CHANGED, ITEM_SAVED
+    }
+}
@@ -0,0 +1,112 @@
+package com.zarkary.designpatterns.codec;
+
+import com.zarkary.designpatterns.eventaggregator.api.IMessage;
+import com.zarkary.designpatterns.eventaggregator.codec.CodecRegistry;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.IConsultant;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.Location;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.MsgMovement;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.MsgMovementCodec;
+import com.zarkary.designpatterns.eventaggregator.example.consultants.framework.Consultant;
+import com.zarkary.designpatterns.eventaggregator.example.items.Event;
+import com.zarkary.designpatterns.eventaggregator.example.items.Item;
+import com.zarkary.designpatterns.eventaggregator.example.items.ItemCodec;
+import com.zarkary.designpatterns.eventaggregator.journal.JavaSerializer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CodecRegistryTest {
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+
+    @Test
+    public void deserialize_whenItemIsSerializedWithItsCodec_thenItIsReadBackFromSixBytes() {
+
+        // Arrange
+        final CodecRegistry registry = new CodecRegistry().register(Event.ITEM_SAVED, 7, new ItemCodec());
+
+        // Act
+        registry.serialize(Event.ITEM_SAVED, new Item(42), buffer);
+        buffer.flip();
+        final int size = buffer.remaining();
+        final IMessage<?> message = registry.deserialize(buffer);
+
+        // Assert
+        assertEquals(6, size);
+        assertEquals(Event.ITEM_SAVED, message.getEventType());
+        assertEquals(42, ((Item) message.getContent()).getItemNumber());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void deserialize_whenMovementsAreSerializedWithTheirCodec_thenTheyReferToTheLocalConsultants() {
+
+        // Arrange
+        final List<IConsultant> consultants = Arrays.asList(new Consultant("Mike"), new Consultant("Anna"));
+        final CodecRegistry registry = new CodecRegistry()
+                .register(com.zarkary.designpatterns.eventaggregator.example.consultants.Event.LOCATION_CHANGED, 1,
+                        new MsgMovementCodec(consultants));
+
+        // Act
+        registry.serialize(com.zarkary.designpatterns.eventaggregator.example.consultants.Event.LOCATION_CHANGED,
+                new MsgMovement(consultants.get(1), Location.PUB), buffer);
+        registry.serialize(com.zarkary.designpatterns.eventaggregator.example.consultants.Event.LOCATION_CHANGED,
+                new MsgMovement(consultants.get(0), true), buffer);
+        buffer.flip();
+        final MsgMovement moved = (MsgMovement) registry.deserialize(buffer).getContent();
+        final MsgMovement available = (MsgMovement) registry.deserialize(buffer).getContent();
+
+        // Assert
+        assertSame(consultants.get(1), moved.getConsultant());
+        assertEquals(Location.PUB, moved.getPlace());
+        assertFalse(moved.isAvailableAtHome());
+        assertSame(consultants.get(0), available.getConsultant());
+        assertNull(available.getPlace());
+        assertTrue(available.isAvailableAtHome());
+    }
+
+    @Test
+    public void deserialize_whenEventTypeHasNoCodec_thenTheFallbackIsUsed() {
+
+        // Arrange
+        final CodecRegistry registry = new CodecRegistry(new JavaSerializer())
+                .register(Event.ITEM_SAVED, 0, new ItemCodec());
+
+        // Act
+        registry.serialize(Event.ITEM_SELECTED, "selected", buffer);
+        buffer.flip();
+        final IMessage<?> message = registry.deserialize(buffer);
+
+        // Assert
+        assertEquals(Event.ITEM_SELECTED, message.getEventType());
+        assertEquals("selected", message.getContent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void serialize_whenEventTypeHasNoCodecAndNoFallback_thenIllegalArgumentException() {
+
+        // Arrange
+        final CodecRegistry registry = new CodecRegistry().register(Event.ITEM_SAVED, 0, new ItemCodec());
+
+        // Act
+        registry.serialize(Event.ITEM_CREATED, new Item(1), buffer);
+
+        // Assert
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_whenIdIsAlreadyRegistered_thenIllegalArgumentException() {
+
+        // Arrange
+        final CodecRegistry registry = new CodecRegistry().register(Event.ITEM_SAVED, 3, new ItemCodec());
+
+        // Act
+        registry.register(Event.ITEM_CREATED, 3, new ItemCodec());
+
+        // Assert
+    }
+}
@@ -0,0 +1,228 @@
+package com.zarkary.designpatterns.journal;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import com.zarkary.designpatterns.eventaggregator.journal.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class JournalTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replay_whenMessagesSpanManySegments_thenAllAreReplayedInSequenceOrder() throws IOException {
+
+        // Arrange
+        final Path directory = folder.getRoot().toPath();
+        final List<Object> replayed = new ArrayList<>();
+        try(Journal journal = newJournal(directory, RetentionPolicy.unlimited())) {
+            for(int i = 0; i < 100; i++) {
+                assertEquals(i, journal.append(JournalEvent.LOCATION_CHANGED, i));
+            }
+
+            // Act
+            final long count = journal.replay(0, message -> replayed.add(message.getContent()));
+
+            // Assert
+            assertEquals(100, count);
+            assertTrue(segmentCount(directory) > 1);
+        }
+        for(int i = 0; i < 100; i++) {
+            assertEquals(i, replayed.get(i));
+        }
+    }
+
+    @Test
+    public void journal_whenReopened_thenItContinuesAfterTheLastMessage() throws IOException {
+
+        // Arrange
+        final Path directory = folder.getRoot().toPath();
+        try(Journal journal = newJournal(directory, RetentionPolicy.unlimited())) {
+            for(int i = 0; i < 50; i++) {
+                journal.append(new Message<>(JournalEvent.LOCATION_CHANGED, "before-" + i));
+            }
+        }
+        final List<IMessage<?>> replayed = new ArrayList<>();
+
+        // Act
+        try(Journal journal = newJournal(directory, RetentionPolicy.unlimited())) {
+            assertEquals(50, journal.getNextSequence());
+            assertEquals(50, journal.append(JournalEvent.AVAILABILITY_CHANGED, "after"));
+            journal.replay(49, replayed::add);
+        }
+
+        // Assert
+        assertEquals(2, replayed.size());
+        assertEquals("before-49", replayed.get(0).getContent());
+        assertSame(JournalEvent.AVAILABILITY_CHANGED, replayed.get(1).getEventType());
+        assertEquals("after", replayed.get(1).getContent());
+    }
+
+    @Test
+    public void append_whenJournalExceedsTheRetentionSize_thenTheOldestSegmentsAreDeleted() throws IOException {
+
+        // Arrange
+        final Path directory = folder.getRoot().toPath();
+        try(Journal journal = newJournal(directory, RetentionPolicy.maxBytes(3 * SEGMENT_SIZE))) {
+
+            // Act
+            for(int i = 0; i < 500; i++) {
+                journal.append(JournalEvent.LOCATION_CHANGED, i);
+            }
+            final List<Object> replayed = new ArrayList<>();
+            journal.replay(0, message -> replayed.add(message.getContent()));
+
+            // Assert
+            assertTrue(segmentCount(directory) <= 3);
+            assertTrue(journal.getFirstSequence() > 0);
+            assertEquals(journal.getFirstSequence(), ((Integer) replayed.get(0)).longValue());
+            assertEquals(499, replayed.get(replayed.size() - 1));
+        }
+    }
+
+    @Test
+    public void append_whenMessageDoesNotFitInASegment_thenIllegalArgumentException() throws IOException {
+
+        // Arrange
+        final Path directory = folder.getRoot().toPath();
+        final char[] content = new char[2 * SEGMENT_SIZE];
+        final List<Object> replayed = new ArrayList<>();
+
+        // Act
+        try(Journal journal = newJournal(directory, RetentionPolicy.unlimited())) {
+            try {
+                journal.append(JournalEvent.LOCATION_CHANGED, new String(content));
+                fail("The message fits in a segment.");
+            } catch(IllegalArgumentException expected) {
+                // the journal is still usable
+            }
+            journal.append(JournalEvent.LOCATION_CHANGED, "after the failure");
+        }
+        try(Journal journal = newJournal(directory, RetentionPolicy.unlimited())) {
+            journal.append(JournalEvent.LOCATION_CHANGED, "after the restart");
+            journal.replay(0, message -> replayed.add(message.getContent()));
+        }
+
+        // Assert
+        assertEquals(Arrays.<Object>asList("after the failure", "after the restart"), replayed);
+    }
+
+    @Test
+    public void journal_whenSerializerFailedPartwayThroughARecord_thenItsBytesAreNotRecoveredAsARecord()
+            throws IOException {
+
+        // Arrange
+        final Path directory = folder.getRoot().toPath();
+        final IMessageSerializer serializer = new PartialSerializer();
+        final List<Object> replayed = new ArrayList<>();
+        try(Journal journal = new Journal(directory, SEGMENT_SIZE, serializer, FsyncPolicy.everyMessages(16),
+                RetentionPolicy.unlimited())) {
+            try {
+                journal.append(JournalEvent.LOCATION_CHANGED, PartialSerializer.FAILING);
+                fail("The serializer has not failed.");
+            } catch(IllegalStateException expected) {
+                // the journal is still usable
+            }
+            journal.append(JournalEvent.LOCATION_CHANGED, "ok");
+        }
+
+        // Act
+        try(Journal journal = new Journal(directory, SEGMENT_SIZE, serializer, FsyncPolicy.everyMessages(16),
+                RetentionPolicy.unlimited())) {
+            assertEquals(1, journal.getNextSequence());
+            journal.replay(0, message -> replayed.add(message.getContent()));
+        }
+
+        // Assert
+        assertEquals(Collections.<Object>singletonList("ok"), replayed);
+    }
+
+    @Test
+    public void subscribe_whenJournalingEventAggregatorHasHistory_thenNewSubscriberReceivesItFirst() throws IOException {
+
+        // Arrange
+        final List<Object> received = new ArrayList<>();
+        try(Journal journal = newJournal(folder.getRoot().toPath(), RetentionPolicy.unlimited())) {
+            final JournalingEventAggregator eventAggregator =
+                    new JournalingEventAggregator(journal, new EventAggregator());
+            eventAggregator.publish(JournalEvent.LOCATION_CHANGED, "first");
+            eventAggregator.publish(new Message<>(JournalEvent.AVAILABILITY_CHANGED, "other"));
+            eventAggregator.publish(JournalEvent.LOCATION_CHANGED, "second");
+
+            // Act
+            eventAggregator.subscribe(JournalEvent.LOCATION_CHANGED,
+                    message -> received.add(message.getContent()), 0);
+            eventAggregator.publish(JournalEvent.LOCATION_CHANGED, "third");
+
+            // Assert
+            assertEquals(4, journal.getNextSequence());
+        }
+        assertEquals(3, received.size());
+        assertEquals("first", received.get(0));
+        assertEquals("second", received.get(1));
+        assertEquals("third", received.get(2));
+    }
+
+    private static Journal newJournal(final Path directory, final RetentionPolicy retentionPolicy) throws IOException {
+        return new Journal(directory, SEGMENT_SIZE, new JavaSerializer(), FsyncPolicy.everyMessages(16), retentionPolicy);
+    }
+
+    private static long segmentCount(final Path directory) throws IOException {
+        try(Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Serializes a string as its length and its bytes. The failing content is written
+     * partway, as a record which starts where the next record after a short one would
+     * start, and then the serialization fails.
+     */
+    private static final class PartialSerializer implements IMessageSerializer {
+
+        private static final String FAILING = "failing";
+        private static final String SHORT = "ok";
+        private static final int RECORD_HEADER = Integer.BYTES + Long.BYTES;
+
+        @Override
+        public void serialize(final IEventType eventType, final Object content, final ByteBuffer buffer) {
+            if(!FAILING.equals(content)) {
+                final byte[] bytes = ((String) content).getBytes(StandardCharsets.UTF_8);
+                buffer.putInt(bytes.length).put(bytes);
+                return;
+            }
+            buffer.put(new byte[Integer.BYTES + SHORT.length()]);
+            final byte[] bytes = "xx".getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(RECORD_HEADER + Integer.BYTES + bytes.length).putLong(7).putInt(bytes.length).put(bytes);
+            throw new IllegalStateException("The serialization has failed.");
+        }
+
+        @Override
+        public IMessage<?> deserialize(final ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return new Message<>(JournalEvent.LOCATION_CHANGED, new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    private enum JournalEvent implements IEventType {
+        LOCATION_CHANGED, AVAILABILITY_CHANGED
+    }
+}
@@ -0,0 +1,309 @@
+package com.zarkary.designpatterns.request;
+
+import com.zarkary.designpatterns.eventaggregator.api.EventAggregator;
+import com.zarkary.designpatterns.eventaggregator.api.IEventType;
+import com.zarkary.designpatterns.eventaggregator.request.GatherPolicy;
+import com.zarkary.designpatterns.eventaggregator.request.Request;
+import com.zarkary.designpatterns.eventaggregator.request.Requester;
+import com.zarkary.designpatterns.eventaggregator.ringbuffer.RingBufferEventAggregator;
+import com.zarkary.designpatterns.eventaggregator.ringbuffer.YieldingWaitStrategy;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class RequesterTest {
+
+    private final EventAggregator eventAggregator = new EventAggregator();
+    private final Requester requester = new Requester(eventAggregator);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void request_whenPolicyIsAllAndEveryResponderAnswers_thenTheRepliesCompleteWithoutWaiting()
+            throws ExecutionException, InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        requester.respond(eventType, (Request<String, String> request) -> request.reply("Mike"));
+        requester.respond(eventType, (Request<String, String> request) -> request.decline());
+        requester.respond(eventType, (Request<String, String> request) -> request.reply("Anna"));
+
+        // Act
+        final CompletableFuture<List<String>> replies =
+                requester.request(eventType, "OFFICE", GatherPolicy.all(), 1, TimeUnit.HOURS);
+
+        // Assert
+        assertTrue(replies.isDone());
+        assertEquals(Arrays.asList("Mike", "Anna"), replies.get());
+        assertEquals(0, requester.getPendingCount());
+    }
+
+    @Test
+    public void request_whenResponderThrowsAfterItsReply_thenTheReplyIsCountedOnce() throws Exception {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final IllegalStateException failure = new IllegalStateException("failed after the reply");
+        requester.respond(eventType, (Request<String, String> request) -> {
+            request.reply("A");
+            throw failure;
+        });
+        requester.respond(eventType, (Request<String, String> request) -> executor.execute(() -> {
+            sleep(200);
+            request.reply("B");
+        }));
+        final List<Throwable> reported = new CopyOnWriteArrayList<>();
+        final Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, uncaught) -> reported.add(uncaught));
+        final CompletableFuture<List<String>> replies;
+        try {
+
+            // Act
+            replies = requester.request(eventType, "query", GatherPolicy.all(), 1, TimeUnit.HOURS);
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+
+        // Assert
+        assertEquals(Arrays.asList("A", "B"), replies.get(10, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(failure), reported);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void reply_whenRequestIsAlreadyAnswered_thenIllegalStateException() {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final AtomicReference<Request<String, String>> received = new AtomicReference<>();
+        requester.respond(eventType, received::set);
+        requester.request(eventType, "query", GatherPolicy.all(), 1, TimeUnit.HOURS);
+        received.get().reply("first");
+
+        // Act
+        received.get().reply("second");
+
+        // Assert
+    }
+
+    @Test
+    public void request_whenPolicyIsFirstAndRespondersReplyAsynchronously_thenTheFirstRepliesComplete()
+            throws Exception {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        requester.respond(eventType, (Request<String, String> request) ->
+                executor.execute(() -> request.reply("asynchronous")));
+        requester.respond(eventType, (Request<String, String> request) -> { });
+
+        // Act
+        final CompletableFuture<List<String>> replies =
+                requester.request(eventType, "OFFICE", GatherPolicy.first(1), 1, TimeUnit.HOURS);
+
+        // Assert
+        assertEquals(Collections.singletonList("asynchronous"), replies.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void request_whenPolicyIsQuorumAndTheMajorityReplies_thenTheRepliesCompleteBeforeTheTimeout()
+            throws ExecutionException, InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        requester.respond(eventType, (Request<String, Integer> request) -> request.reply(1));
+        requester.respond(eventType, (Request<String, Integer> request) -> { });
+        requester.respond(eventType, (Request<String, Integer> request) -> request.reply(3));
+
+        // Act
+        final CompletableFuture<List<Integer>> replies =
+                requester.request(eventType, "query", GatherPolicy.quorum(), 1, TimeUnit.HOURS);
+
+        // Assert
+        assertTrue(replies.isDone());
+        assertEquals(Arrays.asList(1, 3), replies.get());
+    }
+
+    @Test
+    public void request_whenRepliesAreNotEnoughUntilTheTimeout_thenTimeoutException() throws InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        requester.respond(eventType, (Request<String, String> request) -> request.reply("only"));
+        requester.respond(eventType, (Request<String, String> request) -> { });
+
+        // Act
+        final CompletableFuture<List<String>> replies =
+                requester.request(eventType, "query", GatherPolicy.first(2), 50, TimeUnit.MILLISECONDS);
+
+        // Assert
+        try {
+            replies.get();
+            fail("The request has not timed out.");
+        } catch(ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof TimeoutException);
+        }
+        assertEquals(0, requester.getPendingCount());
+    }
+
+    @Test
+    public void request_whenPolicyIsAllAndAResponderIsSilent_thenTheRepliesUntilTheTimeoutComplete()
+            throws ExecutionException, InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final AtomicReference<Request<String, String>> silent = new AtomicReference<>();
+        requester.respond(eventType, (Request<String, String> request) -> request.reply("fast"));
+        requester.respond(eventType, silent::set);
+
+        // Act
+        final List<String> replies =
+                requester.<String, String>request(eventType, "query", GatherPolicy.all(), 50, TimeUnit.MILLISECONDS)
+                        .get();
+
+        // Assert
+        assertEquals(Collections.singletonList("fast"), replies);
+        assertFalse(silent.get().reply("late"));
+    }
+
+    @Test
+    public void request_whenThereAreNoResponders_thenQuorumFailsWithIllegalStateException()
+            throws InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+
+        // Act
+        final CompletableFuture<List<Object>> replies =
+                requester.request(eventType, "query", GatherPolicy.quorum(), 1, TimeUnit.HOURS);
+
+        // Assert
+        try {
+            replies.get();
+            fail("The request has not failed.");
+        } catch(ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void request_whenQuorumCanNotBeReachedAnyMore_thenItFailsWithoutWaitingForTheRest()
+            throws InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        requester.respond(eventType, (Request<String, String> request) -> request.decline());
+        requester.respond(eventType, (Request<String, String> request) -> request.decline());
+        requester.respond(eventType, (Request<String, String> request) -> { });
+
+        // Act
+        final CompletableFuture<List<String>> replies =
+                requester.request(eventType, "query", GatherPolicy.quorum(), 1, TimeUnit.HOURS);
+
+        // Assert
+        assertTrue(replies.isDone());
+        try {
+            replies.get();
+            fail("The request has not failed.");
+        } catch(ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void request_whenTooManyRequestsArePending_thenIllegalStateException() throws InterruptedException {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final Requester singleRequester = new Requester(eventAggregator, 1);
+        singleRequester.respond(eventType, (Request<String, String> request) -> { });
+        singleRequester.request(eventType, "first", GatherPolicy.all(), 1, TimeUnit.HOURS);
+
+        // Act
+        final CompletableFuture<List<String>> replies =
+                singleRequester.request(eventType, "second", GatherPolicy.all(), 1, TimeUnit.HOURS);
+
+        // Assert
+        try {
+            replies.get();
+            fail("The request has not failed.");
+        } catch(ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(1, singleRequester.getPendingCount());
+    }
+
+    @Test
+    public void request_whenPolicyIsAllOnTheRingBufferEngine_thenTheRepliesOfEveryResponderComplete()
+            throws Exception {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final RingBufferEventAggregator ringBuffer = new RingBufferEventAggregator(8, new YieldingWaitStrategy());
+        try {
+            final Requester ringBufferRequester = new Requester(ringBuffer);
+            ringBufferRequester.respond(eventType, (Request<String, String> request) -> request.reply("Mike"));
+            ringBufferRequester.respond(eventType, (Request<String, String> request) -> request.decline());
+            ringBufferRequester.respond(eventType, (Request<String, String> request) -> request.reply("Anna"));
+            ringBuffer.start();
+
+            // Act
+            final CompletableFuture<List<String>> replies =
+                    ringBufferRequester.request(eventType, "OFFICE", GatherPolicy.all(), 1, TimeUnit.HOURS);
+
+            // Assert
+            assertEquals(Arrays.asList("Mike", "Anna"), replies.get(10, TimeUnit.SECONDS));
+        } finally {
+            ringBuffer.close();
+        }
+    }
+
+    @Test
+    public void request_whenPolicyIsQuorumOnTheRingBufferEngine_thenTheRepliesOfTheMajorityComplete()
+            throws Exception {
+
+        // Arrange
+        final IEventType eventType = mock(IEventType.class);
+        final RingBufferEventAggregator ringBuffer = new RingBufferEventAggregator(8, new YieldingWaitStrategy());
+        try {
+            final Requester ringBufferRequester = new Requester(ringBuffer);
+            ringBufferRequester.respond(eventType, (Request<String, Integer> request) -> request.reply(1));
+            ringBufferRequester.respond(eventType, (Request<String, Integer> request) -> { });
+            ringBufferRequester.respond(eventType, (Request<String, Integer> request) -> request.reply(3));
+            ringBuffer.start();
+
+            // Act
+            final CompletableFuture<List<Integer>> replies =
+                    ringBufferRequester.request(eventType, "query", GatherPolicy.quorum(), 1, TimeUnit.HOURS);
+
+            // Assert
+            assertEquals(Arrays.asList(1, 3), replies.get(10, TimeUnit.SECONDS));
+        } finally {
+            ringBuffer.close();
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch(InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.zarkary.designpatterns.ringbuffer;
+
+import com.zarkary.designpatterns.eventaggregator.api.*;
+import com.zarkary.designpatterns.eventaggregator.ringbuffer.*;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RingBufferEventAggregatorTest {
+
+    private RingBufferEventAggregator eventAggregator;
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if(eventAggregator != null) {
+            eventAggregator.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ringBufferEventAggregator_whenBufferSizeIsNotPowerOfTwo_thenIllegalArgumentException() {
+
+        // Arrange
+        final int bufferSize = 1000;
+
+        // Act
+        new RingBufferEventAggregator(bufferSize, new BusySpinWaitStrategy());
+
+        // Assert
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addConsumer_whenAlreadyStarted_thenIllegalStateException() {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(8, new ParkingWaitStrategy());
+        eventAggregator.start();
+
+        // Act
+        eventAggregator.addConsumer((message, sequence, endOfBatch) -> { });
+
+        // Assert
+    }
+
+    @Test
+    public void publish_whenSubscribedThroughSubscriber_thenActionReceivesTheContent() throws Exception {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(8, new YieldingWaitStrategy());
+        eventAggregator.start();
+        final IEventType eventType = mock(IEventType.class);
+        final IAction action = mock(IAction.class);
+        new Subscriber(eventAggregator).subscribe(eventType, action);
+
+        // Act
+        new Publisher(eventAggregator).publishAsync(eventType, "Some Content").get(1, TimeUnit.SECONDS);
+
+        // Assert
+        verify(action, times(1)).doAction(any(IMessage.class));
+    }
+
+    @Test
+    public void publish_whenManyProducersWrapTheBuffer_thenEveryMessageIsDeliveredOnce() throws Exception {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(16, new YieldingWaitStrategy());
+        final IEventType eventType = mock(IEventType.class);
+        final int producers = 4;
+        final int messagesPerProducer = 10_000;
+        final AtomicLong sum = new AtomicLong();
+        final CountDownLatch delivered = new CountDownLatch(producers * messagesPerProducer);
+        eventAggregator.subscribe(eventType, message -> {
+            sum.addAndGet((Integer) message.getContent());
+            delivered.countDown();
+        });
+        eventAggregator.start();
+
+        // Act
+        for(int producer = 0; producer < producers; producer++) {
+            new Thread(() -> {
+                for(int i = 1; i <= messagesPerProducer; i++) {
+                    eventAggregator.publish(eventType, i);
+                }
+            }).start();
+        }
+
+        // Assert
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        assertEquals(producers * (long) messagesPerProducer * (messagesPerProducer + 1) / 2, sum.get());
+    }
+
+    @Test
+    public void publishAsync_whenAnActionFails_thenTheRestAreInvokedAndFutureCompletesExceptionally() throws Exception {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(8, new YieldingWaitStrategy());
+        final IEventType eventType = mock(IEventType.class);
+        final RuntimeException failure = new IllegalStateException("failed");
+        final AtomicInteger invocations = new AtomicInteger();
+        eventAggregator.subscribe(eventType, message -> { throw failure; });
+        eventAggregator.subscribe(eventType, message -> invocations.incrementAndGet());
+        eventAggregator.start();
+
+        // Act
+        try {
+            eventAggregator.publishAsync(new Message<>(eventType, "content")).get(5, TimeUnit.SECONDS);
+            fail("The future completed normally.");
+        } catch(ExecutionException expected) {
+
+            // Assert
+            assertSame(failure, expected.getCause());
+        }
+        assertEquals(1, invocations.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void publish_whenClosed_thenIllegalStateException() throws InterruptedException {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(8, new YieldingWaitStrategy());
+        eventAggregator.start();
+        eventAggregator.close();
+
+        // Act
+        eventAggregator.publish(mock(IEventType.class), "content");
+
+        // Assert
+    }
+
+    @Test
+    public void close_whenProducerWaitsForAFullBuffer_thenItFailsWithIllegalStateException() throws Exception {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(2, new YieldingWaitStrategy());
+        final IEventType eventType = mock(IEventType.class);
+        eventAggregator.publish(eventType, "first");
+        eventAggregator.publish(eventType, "second");
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread producer = new Thread(() -> {
+            try {
+                eventAggregator.publish(eventType, "third");
+            } catch(IllegalStateException closed) {
+                failure.set(closed);
+            }
+        });
+        producer.start();
+
+        // Act
+        eventAggregator.close();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+
+        // Assert
+        assertFalse(producer.isAlive());
+        assertTrue(failure.get() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void subscribeWithReplay_whenTheActionFailsOnAReplayedMessage_thenTheFailureIsReported() throws Exception {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(8, new YieldingWaitStrategy());
+        final IEventType eventType = mock(IEventType.class);
+        final RuntimeException failure = new IllegalStateException("failed replay");
+        eventAggregator.retain(eventType, ReplayPolicy.lastMessages(4));
+        eventAggregator.start();
+        eventAggregator.publishAsync(new Message<>(eventType, "content")).get(5, TimeUnit.SECONDS);
+
+        // Act
+        final List<Throwable> reported = reportedFailures(() ->
+                eventAggregator.subscribeWithReplay(eventType, message -> { throw failure; }));
+
+        // Assert
+        assertEquals(Collections.singletonList(failure), reported);
+    }
+
+    @Test
+    public void subscribe_whenTheActionFailsOnACachedValue_thenTheFailureIsReported() throws Exception {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(8, new YieldingWaitStrategy());
+        final IEventType eventType = mock(IEventType.class);
+        final RuntimeException failure = new IllegalStateException("failed last value");
+        eventAggregator.cacheLastValues(eventType);
+        eventAggregator.start();
+        eventAggregator.publishAsync(new Message<>(eventType, "content")).get(5, TimeUnit.SECONDS);
+
+        // Act
+        final List<Throwable> reported = reportedFailures(() ->
+                eventAggregator.subscribe(eventType, message -> { throw failure; }));
+
+        // Assert
+        assertEquals(Collections.singletonList(failure), reported);
+    }
+
+    @Test
+    public void addConsumer_whenMessagesArePublished_thenConsumerSeesThemInSequenceOrderAndInBatches() throws Exception {
+
+        // Arrange
+        eventAggregator = new RingBufferEventAggregator(64, new BusySpinWaitStrategy());
+        final IEventType eventType = mock(IEventType.class);
+        final AtomicLong expectedSequence = new AtomicLong();
+        final AtomicInteger outOfOrder = new AtomicInteger();
+        final AtomicInteger batches = new AtomicInteger();
+        final Sequence sequence = eventAggregator.addConsumer((message, current, endOfBatch) -> {
+            if(current != expectedSequence.getAndIncrement()) {
+                outOfOrder.incrementAndGet();
+            }
+            if(endOfBatch) {
+                batches.incrementAndGet();
+            }
+        });
+        final int messages = 32;
+        for(int i = 0; i < messages; i++) {
+            eventAggregator.publish(eventType, i);
+        }
+
+        // Act
+        eventAggregator.start();
+        eventAggregator.close();
+
+        // Assert
+        assertEquals(messages - 1, sequence.get());
+        assertEquals(0, outOfOrder.get());
+        assertEquals(1, batches.get());
+    }
+
+    private static List<Throwable> reportedFailures(final Runnable subscription) {
+        final List<Throwable> reported = new CopyOnWriteArrayList<>();
+        final Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, failure) -> reported.add(failure));
+        try {
+            subscription.run();
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+        return reported;
+    }
+}